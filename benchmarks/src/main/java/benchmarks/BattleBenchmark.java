@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import core.BattleEstimate;
+import core.ExactBattleResolver;
+import core.GameCatalog;
+import core.PirateBattleEstimator;
+import core.Ship;
+
+/**
+ * Measures estimating the outcome of a pirate battle by simulation and by the exact resolver.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BattleBenchmark {
+
+	/**
+	 * Number of battles simulated by the Monte Carlo estimate, the same as the travel screen.
+	 */
+	private static final int BATTLES = 20000;
+
+	/**
+	 * Estimator for battles against generated pirate ships.
+	 */
+	private PirateBattleEstimator estimator;
+
+	/**
+	 * Exact resolver that has already resolved the player's ship.
+	 */
+	private ExactBattleResolver resolver;
+
+	/**
+	 * Player's ship.
+	 */
+	private Ship ship;
+
+	/**
+	 * Creates the estimator and the player's ship.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		estimator = PirateBattleEstimator.forGeneratedPirates(GameCatalog.getInstance());
+		ship = GameCatalog.getInstance().createShip(0);
+		resolver = ExactBattleResolver.forGeneratedPirates(GameCatalog.getInstance());
+		resolver.resolve(ship);
+	}
+
+	/**
+	 * Estimates the battle outcome by simulating battles in parallel.
+	 * @return estimated outcome
+	 */
+	@Benchmark
+	public BattleEstimate monteCarloEstimate() {
+		return estimator.estimate(ship, BATTLES, 1);
+	}
+
+	/**
+	 * Calculates the exact battle outcome with an empty cache.
+	 * @return exact outcome
+	 */
+	@Benchmark
+	public BattleEstimate exactUncached() {
+		return ExactBattleResolver.forGeneratedPirates(GameCatalog.getInstance()).resolve(ship);
+	}
+
+	/**
+	 * Looks up the exact battle outcome in a warm cache.
+	 * @return exact outcome
+	 */
+	@Benchmark
+	public BattleEstimate exactCached() {
+		return resolver.resolve(ship);
+	}
+}
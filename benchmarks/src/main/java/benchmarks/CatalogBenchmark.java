@@ -0,0 +1,132 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import core.GameCatalog;
+import core.Item;
+import core.ObjectsListGenerator;
+import core.Ship;
+import simulation.WorldGenerator;
+
+/**
+ * Measures parsing game-parameters and handing out copies of the parsed objects.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogBenchmark {
+
+	/**
+	 * Number of islands in the generated world.
+	 */
+	private static final int GENERATED_ISLANDS = 10000;
+
+	/**
+	 * Number of routes in the generated world.
+	 */
+	private static final int GENERATED_ROUTES = 100000;
+
+	/**
+	 * Number of trade items in the generated world.
+	 */
+	private static final int GENERATED_ITEMS = 300;
+
+	/**
+	 * Directory of a generated world.
+	 */
+	private File generatedDirectory;
+
+	/**
+	 * Writes a generated world to a temporary directory.
+	 * @throws IOException if the world can't be written
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		generatedDirectory = Files.createTempDirectory("world").toFile();
+		new WorldGenerator(0).generate(generatedDirectory, GENERATED_ISLANDS, GENERATED_ROUTES, GENERATED_ITEMS);
+	}
+
+	/**
+	 * Loads the default catalog from its binary snapshot.
+	 * @return loaded catalog
+	 */
+	@Benchmark
+	public GameCatalog loadCatalog() {
+		return GameCatalog.load(new File(GameCatalog.DEFAULT_DIRECTORY));
+	}
+
+	/**
+	 * Parses all five parameter files from disk.
+	 * @return parsed catalog
+	 */
+	@Benchmark
+	public GameCatalog parseCatalog() {
+		return GameCatalog.parse(new File(GameCatalog.DEFAULT_DIRECTORY));
+	}
+
+	/**
+	 * Loads a generated world with 10000 islands and 100000 routes from its binary snapshot.
+	 * @return loaded catalog
+	 */
+	@Benchmark
+	public GameCatalog loadGeneratedCatalog() {
+		return GameCatalog.load(generatedDirectory);
+	}
+
+	/**
+	 * Parses the parameter files of a generated world with 10000 islands and 100000 routes.
+	 * @return parsed catalog
+	 */
+	@Benchmark
+	public GameCatalog parseGeneratedCatalog() {
+		return GameCatalog.parse(generatedDirectory);
+	}
+
+	/**
+	 * Generates every item through ObjectsListGenerator.
+	 * @return generated items
+	 */
+	@Benchmark
+	public ArrayList<Item> generateItem() {
+		return ObjectsListGenerator.generateItem();
+	}
+
+	/**
+	 * Generates every weapon through ObjectsListGenerator.
+	 * @return generated weapons
+	 */
+	@Benchmark
+	public ArrayList<Item> generateWeapon() {
+		return ObjectsListGenerator.generateWeapon();
+	}
+
+	/**
+	 * Generates every ship through ObjectsListGenerator.
+	 * @return generated ships
+	 */
+	@Benchmark
+	public ArrayList<Ship> generateShip() {
+		return ObjectsListGenerator.generateShip();
+	}
+}
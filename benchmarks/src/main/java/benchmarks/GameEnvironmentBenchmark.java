@@ -0,0 +1,113 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import core.BattleLog;
+import core.GameEnvironment;
+import core.Ship;
+
+/**
+ * Measures the game logic run on every menu visit and during travel.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameEnvironmentBenchmark {
+
+	/**
+	 * ArrayList index of the starting island.
+	 */
+	private static final int STARTING_ISLAND_INDEX = 0;
+
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 250;
+
+	/**
+	 * Number of days the game lasts.
+	 */
+	private static final int DAYS = 35;
+
+	/**
+	 * Game with no user interface.
+	 */
+	private GameEnvironment game;
+
+	/**
+	 * Battle log reused by every logged battle.
+	 */
+	private BattleLog log = new BattleLog();
+
+	/**
+	 * Sets up a game with the first ship and a few items bought from the starting store.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		game = new GameEnvironment(null, STARTING_ISLAND_INDEX, STARTING_GOLD);
+		game.finishSetup("Benchmark", DAYS, game.getShips().get(0));
+		for (int i = 0; i < game.getStore().getBuys().size(); i += 2) {
+			game.buyItem(game.getStore().getBuys().get(i));
+		}
+	}
+
+	/**
+	 * Fights a pirate ship, starting the player's ship at full health each time.
+	 * @return damage taken
+	 */
+	@Benchmark
+	public int pirateEvent() {
+		Ship ship = game.getShip();
+		ship.setHealth(ship.getMaxHealth());
+		return game.pirateEvent();
+	}
+
+	/**
+	 * Fights a pirate ship while recording every shot in a reused battle log, then renders the battle text
+	 * the way the battle screen does.
+	 * @return length of the battle text
+	 */
+	@Benchmark
+	public int pirateEventLogged() {
+		Ship ship = game.getShip();
+		ship.setHealth(ship.getMaxHealth());
+		log.clear();
+		game.pirateEvent(log);
+		return log.render(new StringBuilder(), 0).length();
+	}
+
+	/**
+	 * Checks whether any route can be traveled.
+	 * @return true if a route can be traveled
+	 */
+	@Benchmark
+	public boolean checkCanTravel() {
+		return game.checkCanTravel();
+	}
+
+	/**
+	 * Calculates the player's score.
+	 * @return score
+	 */
+	@Benchmark
+	public int calcScore() {
+		return game.calcScore();
+	}
+}
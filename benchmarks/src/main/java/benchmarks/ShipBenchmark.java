@@ -0,0 +1,91 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import core.GameCatalog;
+import core.Item;
+import core.Ship;
+
+/**
+ * Measures adding and removing cargo on a ship with a nearly full hold.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipBenchmark {
+
+	/**
+	 * Index of the largest ship in ships.txt.
+	 */
+	private static final int STORESHIP_INDEX = 1;
+
+	/**
+	 * Space left free in the hold so the benchmarked item always fits.
+	 */
+	private static final int FREE_SPACE = 10;
+
+	/**
+	 * Ship with a nearly full hold.
+	 */
+	private Ship ship;
+
+	/**
+	 * Item that fills the hold.
+	 */
+	private Item filler;
+
+	/**
+	 * Item added and removed by the benchmark, different to the filler so removal scans the whole hold.
+	 */
+	private Item item;
+
+	/**
+	 * Creates the ship and fills its hold with the smallest item.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		GameCatalog catalog = GameCatalog.getInstance();
+		ship = catalog.createShip(STORESHIP_INDEX);
+		filler = catalog.createItem(0);
+		item = catalog.createItem(catalog.getItemCount() - 1);
+		while (ship.getSpaceLeft() > FREE_SPACE) {
+			ship.addCargo(filler);
+		}
+	}
+
+	/**
+	 * Adds an item to the back of the hold then removes it again.
+	 * @return true if the item was removed
+	 */
+	@Benchmark
+	public boolean addRemoveCargo() {
+		ship.addCargo(item);
+		return ship.removeCargo(item);
+	}
+
+	/**
+	 * Returns the value of everything in the hold.
+	 * @return cargo value
+	 */
+	@Benchmark
+	public int getCargoValue() {
+		return ship.getCargoValue();
+	}
+}
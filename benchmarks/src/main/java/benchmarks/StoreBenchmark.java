@@ -0,0 +1,47 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import core.GameCatalog;
+import core.RandomSource;
+import core.Store;
+
+/**
+ * Measures building a store and generating its buy and sell lists.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreBenchmark {
+
+	/**
+	 * Creates a new store.
+	 * @return new store
+	 */
+	@Benchmark
+	public Store newStore() {
+		return new Store();
+	}
+	
+	/**
+	 * Creates a new store that stocks every item in the game.
+	 * @return new store
+	 */
+	@Benchmark
+	public Store newFullStore() {
+		GameCatalog catalog = GameCatalog.getInstance();
+		return new Store(new RandomSource(), catalog.getItemCount() + catalog.getWeaponCount());
+	}
+}
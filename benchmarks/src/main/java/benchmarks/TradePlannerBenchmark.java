@@ -0,0 +1,77 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import core.GameEnvironment;
+import core.TradePlan;
+import core.TradePlanner;
+
+/**
+ * Measures planning the most profitable trading itinerary for a new game.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TradePlannerBenchmark {
+
+	/**
+	 * ArrayList index of the starting island.
+	 */
+	private static final int STARTING_ISLAND_INDEX = 0;
+
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 250;
+
+	/**
+	 * Number of days the game lasts.
+	 */
+	private static final int DAYS = 50;
+
+	/**
+	 * Game with no user interface.
+	 */
+	private GameEnvironment game;
+
+	/**
+	 * Planner over the game's islands.
+	 */
+	private TradePlanner planner;
+
+	/**
+	 * Sets up a game with the first ship and a planner over its islands.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		game = new GameEnvironment(null, STARTING_ISLAND_INDEX, STARTING_GOLD);
+		game.finishSetup("Benchmark", DAYS, game.getShips().get(0));
+		planner = new TradePlanner(game.getIslands());
+	}
+
+	/**
+	 * Plans the rest of the game from the starting island.
+	 * @return plan found
+	 */
+	@Benchmark
+	public TradePlan plan() {
+		return planner.plan(game);
+	}
+}
@@ -0,0 +1,108 @@
+package core;
+
+/**
+ * This class summarises the possible outcomes of a pirate battle:
+ * how likely the player is to win and how much damage their ship is likely to take.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class BattleEstimate {
+	
+	/**
+	 * Probability of the player winning the battle.
+	 */
+	private final double winProbability;
+	
+	/**
+	 * Probability of the battle ending with each amount of damage to the player's ship, indexed by damage.
+	 */
+	private final double[] damageProbabilities;
+	
+	/**
+	 * Creates an estimate with the given probabilities.
+	 * @param winProbability probability of the player winning
+	 * @param damageProbabilities probability of each amount of damage, indexed by damage
+	 */
+	public BattleEstimate(double winProbability, double[] damageProbabilities) {
+		this.winProbability = winProbability;
+		this.damageProbabilities = damageProbabilities.clone();
+	}
+	
+	/**
+	 * Creates an estimate from the tallies of simulated battles.
+	 * @param battles number of battles simulated
+	 * @param wins number of battles the player won
+	 * @param damageCounts number of battles that ended with each amount of damage, indexed by damage
+	 * @return estimate of the battle outcomes
+	 */
+	public static BattleEstimate fromCounts(long battles, long wins, long[] damageCounts) {
+		double[] probabilities = new double[damageCounts.length];
+		if (battles > 0) {
+			for (int damage = 0; damage < damageCounts.length; damage++) {
+				probabilities[damage] = (double) damageCounts[damage] / battles;
+			}
+		}
+		return new BattleEstimate(battles == 0 ? 0 : (double) wins / battles, probabilities);
+	}
+	
+	/**
+	 * Returns the probability of the player winning the battle.
+	 * @return win probability between 0 and 1
+	 */
+	public double getWinProbability() {
+		return winProbability;
+	}
+	
+	/**
+	 * Returns the average damage the player's ship takes in the battle.
+	 * @return expected damage
+	 */
+	public double getExpectedDamage() {
+		double total = 0;
+		for (int damage = 0; damage < damageProbabilities.length; damage++) {
+			total += damage * damageProbabilities[damage];
+		}
+		return total;
+	}
+	
+	/**
+	 * Returns the smallest damage that the ship takes no more than in at least the given fraction of battles.
+	 * E.g. getDamagePercentile(0.9) is the damage that isn't exceeded 90% of the time.
+	 * @param fraction fraction of battles between 0 and 1
+	 * @return damage percentile
+	 */
+	public int getDamagePercentile(double fraction) {
+		if (fraction < 0 || fraction > 1) {
+			throw new IllegalArgumentException("Fraction must be between 0 and 1");
+		}
+		double cumulative = 0;
+		for (int damage = 0; damage < damageProbabilities.length; damage++) {
+			cumulative += damageProbabilities[damage];
+			// Small tolerance so rounding errors in the sum don't skip past the last damage value
+			if (cumulative > 0 && cumulative >= fraction - 1e-9) {
+				return damage;
+			}
+		}
+		return damageProbabilities.length - 1;
+	}
+	
+	/**
+	 * Returns the probability of the player's ship taking exactly the given damage.
+	 * @param damage amount of damage
+	 * @return probability between 0 and 1
+	 */
+	public double getDamageProbability(int damage) {
+		if (damage < 0 || damage >= damageProbabilities.length) {
+			return 0;
+		}
+		return damageProbabilities[damage];
+	}
+	
+	/**
+	 * Returns the largest amount of damage the estimate covers, which is the ship's health at the start of the battle.
+	 * @return maximum damage
+	 */
+	public int getMaxDamage() {
+		return damageProbabilities.length - 1;
+	}
+}
@@ -0,0 +1,196 @@
+package core;
+import java.util.Arrays;
+
+/**
+ * This class records what happens in a pirate battle as a stream of small events kept in reusable arrays,
+ * so fighting a battle doesn't build any text. The text shown to the player is only rendered when a user
+ * interface asks for it.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class BattleLog {
+
+	/**
+	 * Event that starts a ship's turn.
+	 */
+	private static final int TURN = 0;
+
+	/**
+	 * Event for a weapon being fired.
+	 */
+	private static final int FIRE = 1;
+
+	/**
+	 * Event for one shot of a weapon, which missed if its damage is zero.
+	 */
+	private static final int SHOT = 2;
+
+	/**
+	 * Number of events the arrays start with room for.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Kind of each event.
+	 */
+	private int[] kinds = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Whether each event was caused by the pirates rather than the player.
+	 */
+	private boolean[] byPirates = new boolean[INITIAL_CAPACITY];
+
+	/**
+	 * Weapon fired in each fire or shot event, null for turn events.
+	 */
+	private Weapon[] weapons = new Weapon[INITIAL_CAPACITY];
+
+	/**
+	 * Damage rolled in each shot event.
+	 */
+	private int[] damages = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Damage resisted in each shot event.
+	 */
+	private int[] resisted = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Number of events recorded.
+	 */
+	private int size;
+
+	/**
+	 * Returns the number of events recorded.
+	 * @return number of events
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes every event, keeping the arrays for the next battle.
+	 */
+	public void clear() {
+		Arrays.fill(weapons, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Records the start of a ship's turn.
+	 * @param pirates true if it's the pirates' turn
+	 */
+	void turn(boolean pirates) {
+		add(TURN, pirates, null, 0, 0);
+	}
+
+	/**
+	 * Records a weapon being fired.
+	 * @param pirates true if the pirates fired it
+	 * @param weapon weapon fired
+	 */
+	void fire(boolean pirates, Weapon weapon) {
+		add(FIRE, pirates, weapon, 0, 0);
+	}
+
+	/**
+	 * Records one shot of a weapon.
+	 * @param pirates true if the pirates fired it
+	 * @param weapon weapon fired
+	 * @param damage damage rolled, zero if the shot missed
+	 * @param resistedDamage damage resisted by the ship that was hit
+	 */
+	void shot(boolean pirates, Weapon weapon, int damage, int resistedDamage) {
+		add(SHOT, pirates, weapon, damage, resistedDamage);
+	}
+
+	/**
+	 * Adds an event, growing the arrays if they're full.
+	 * @param kind kind of event
+	 * @param pirates true if the pirates caused it
+	 * @param weapon weapon fired, or null
+	 * @param damage damage rolled
+	 * @param resistedDamage damage resisted
+	 */
+	private void add(int kind, boolean pirates, Weapon weapon, int damage, int resistedDamage) {
+		if (size == kinds.length) {
+			int capacity = size * 2;
+			kinds = Arrays.copyOf(kinds, capacity);
+			byPirates = Arrays.copyOf(byPirates, capacity);
+			weapons = Arrays.copyOf(weapons, capacity);
+			damages = Arrays.copyOf(damages, capacity);
+			resisted = Arrays.copyOf(resisted, capacity);
+		}
+		kinds[size] = kind;
+		byPirates[size] = pirates;
+		weapons[size] = weapon;
+		damages[size] = damage;
+		resisted[size] = resistedDamage;
+		size++;
+	}
+
+	/**
+	 * Returns true if the event at the given index is a shot that hit.
+	 * @param index index of the event
+	 * @return true if the event is a hit
+	 */
+	public boolean isHit(int index) {
+		return kinds[index] == SHOT && damages[index] > 0;
+	}
+
+	/**
+	 * Returns the damage dealt after resistance by the event at the given index, zero for anything but a hit.
+	 * @param index index of the event
+	 * @return damage dealt
+	 */
+	public int getDamageDealt(int index) {
+		return kinds[index] == SHOT ? damages[index] - resisted[index] : 0;
+	}
+
+	/**
+	 * Returns true if the event at the given index was caused by the pirates.
+	 * @param index index of the event
+	 * @return true if caused by the pirates
+	 */
+	public boolean isByPirates(int index) {
+		return byPirates[index];
+	}
+
+	/**
+	 * Appends the battle text for the events from the given index onwards, in the same wording the battle
+	 * screen has always shown.
+	 * @param text text to append to
+	 * @param from index of the first event to render
+	 * @return the given text
+	 */
+	public StringBuilder render(StringBuilder text, int from) {
+		for (int i = from; i < size; i++) {
+			String target = byPirates[i] ? "your ship" : "pirate ship";
+			switch (kinds[i]) {
+				case TURN:
+					text.append(byPirates[i] ? "Pirate Turn:\n" : "Your Turn:\n");
+					break;
+				case FIRE:
+					text.append("\tFiring ").append(weapons[i].getName()).append("!\n");
+					break;
+				default:
+					if (damages[i] > 0) {
+						text.append('\t').append(resisted[i]).append(" damage resisted by ").append(target).append('\n');
+						text.append('\t').append(damages[i] - resisted[i]).append(" damage dealt to ").append(target).append('\n');
+					} else {
+						text.append(byPirates[i] ? "\tThe shot missed your ship\n" : "\tThe shot missed the pirate ship\n");
+					}
+			}
+		}
+		return text;
+	}
+
+	/**
+	 * Returns the battle text for every event.
+	 * @return battle text
+	 */
+	@Override
+	public String toString() {
+		return render(new StringBuilder(), 0).toString();
+	}
+}
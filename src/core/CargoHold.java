@@ -0,0 +1,353 @@
+package core;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * This class models the contents of a ship's cargo as a multiset of item types. Each item name is given a type
+ * number the first time it's added, and the items of each type are kept together as lots of identical items,
+ * so adding, removing and counting any quantity of a type doesn't search the whole cargo.
+ * The total value of the cargo is kept up to date as items are added and removed.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class CargoHold {
+
+	/**
+	 * Number of item types the arrays start with room for.
+	 */
+	private static final int INITIAL_TYPES = 16;
+
+	/**
+	 * Type number of each item name that has been in the hold.
+	 */
+	private final HashMap<String, Integer> typeIds = new HashMap<String, Integer>();
+
+	/**
+	 * Lots of each type, oldest first.
+	 */
+	private final ArrayList<ArrayDeque<Lot>> stacks = new ArrayList<ArrayDeque<Lot>>();
+
+	/**
+	 * Number of items of each type.
+	 */
+	private int[] typeCounts = new int[INITIAL_TYPES];
+
+	/**
+	 * Size of one item of each type.
+	 */
+	private int[] typeSizes = new int[INITIAL_TYPES];
+
+	/**
+	 * Weapons in the hold, in the order they were added.
+	 */
+	private final ArrayList<Item> weapons = new ArrayList<Item>();
+
+	/**
+	 * Number of items in the hold.
+	 */
+	private int size;
+
+	/**
+	 * Total base price of the items in the hold.
+	 */
+	private int value;
+
+	/**
+	 * Number of times the hold's contents have changed, so values worked out from them can tell when they're stale.
+	 */
+	private int modCount;
+
+	/**
+	 * Adds an item to the hold.
+	 * @param item item to add
+	 */
+	public void add(Item item) {
+		add(item, 1);
+	}
+
+	/**
+	 * Adds the given quantity of an item to the hold as one lot.
+	 * @param item item to add
+	 * @param quantity number of the item to add, must be positive
+	 */
+	public void add(Item item, int quantity) {
+		int id = typeId(item);
+		ArrayDeque<Lot> stack = stacks.get(id);
+		Lot newest = stack.peekLast();
+		if (newest != null && newest.item == item) {
+			newest.quantity += quantity;
+		} else {
+			stack.addLast(new Lot(item, quantity));
+		}
+		if (item.isWeapon()) {
+			for (int i = 0; i < quantity; i++) {
+				weapons.add(item);
+			}
+		}
+		typeCounts[id] += quantity;
+		size += quantity;
+		value += item.getBasePrice() * quantity;
+		modCount++;
+	}
+
+	/**
+	 * Removes the oldest item with the given name from the hold.
+	 * @param name name of the item to remove
+	 * @return item removed, or null if the hold has no item with the name
+	 */
+	public Item remove(String name) {
+		return remove(name, 1);
+	}
+
+	/**
+	 * Removes the given quantity of the oldest items with the given name from the hold.
+	 * Nothing is removed unless the hold has enough of them.
+	 * @param name name of the items to remove
+	 * @param quantity number of the items to remove, must be positive
+	 * @return last item removed, or null if the hold doesn't have enough items with the name
+	 */
+	public Item remove(String name, int quantity) {
+		Integer id = typeIds.get(name);
+		if (id == null || typeCounts[id] < quantity) {
+			return null;
+		}
+		ArrayDeque<Lot> stack = stacks.get(id);
+		Item item = null;
+		int left = quantity;
+		while (left > 0) {
+			Lot oldest = stack.peekFirst();
+			int taken = Math.min(left, oldest.quantity);
+			item = oldest.item;
+			oldest.quantity -= taken;
+			if (oldest.quantity == 0) {
+				stack.pollFirst();
+			}
+			if (item.isWeapon()) {
+				for (int i = 0; i < taken; i++) {
+					weapons.remove(item);
+				}
+			}
+			value -= item.getBasePrice() * taken;
+			left -= taken;
+		}
+		typeCounts[id] -= quantity;
+		size -= quantity;
+		modCount++;
+		return item;
+	}
+
+	/**
+	 * Removes every item from the hold.
+	 */
+	public void clear() {
+		for (ArrayDeque<Lot> stack : stacks) {
+			stack.clear();
+		}
+		Arrays.fill(typeCounts, 0);
+		weapons.clear();
+		size = 0;
+		value = 0;
+		modCount++;
+	}
+
+	/**
+	 * Returns the number of items with the given name in the hold.
+	 * @param name name of the item
+	 * @return number of items with the name
+	 */
+	public int count(String name) {
+		Integer id = typeIds.get(name);
+		return id == null ? 0 : typeCounts[id];
+	}
+
+	/**
+	 * Returns the size of one item with the given name, if one has ever been in the hold.
+	 * @param name name of the item
+	 * @return size of the item, or -1 if the hold has never had one
+	 */
+	public int getTypeSize(String name) {
+		Integer id = typeIds.get(name);
+		return id == null ? -1 : typeSizes[id];
+	}
+
+	/**
+	 * Returns the number of items in the hold.
+	 * @return number of items
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the total base price of the items in the hold.
+	 * @return value of the items
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the number of times the hold's contents have changed.
+	 * @return number of changes
+	 */
+	public int getModCount() {
+		return modCount;
+	}
+
+	/**
+	 * Returns the weapons in the hold in the order they were added. The list is the hold's own and mustn't be changed.
+	 * @return weapons in the hold
+	 */
+	ArrayList<Item> getWeapons() {
+		return weapons;
+	}
+
+	/**
+	 * Returns a new list of the items in the hold, grouped by type in the order each type was first added,
+	 * oldest first within each type.
+	 * @return items in the hold
+	 */
+	public ArrayList<Item> getItems() {
+		ArrayList<Item> items = new ArrayList<Item>(size);
+		for (ArrayDeque<Lot> stack : stacks) {
+			for (Lot lot : stack) {
+				for (int i = 0; i < lot.quantity; i++) {
+					items.add(lot.item);
+				}
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Returns the item at the given index of the list returned by getItems, without building the list.
+	 * Only the counts of the types before it and the lots of its own type are looked at.
+	 * @param index index of the item
+	 * @return item at the index
+	 */
+	public Item getItem(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for cargo of " + size);
+		}
+		int type = 0;
+		while (index >= typeCounts[type]) {
+			index -= typeCounts[type++];
+		}
+		for (Lot lot : stacks.get(type)) {
+			if (index < lot.quantity) {
+				return lot.item;
+			}
+			index -= lot.quantity;
+		}
+		throw new IllegalStateException("Cargo counts don't match its lots");
+	}
+	
+	/**
+	 * Returns the index the first item with the given name has in the list returned by getItems,
+	 * or would have if one were added.
+	 * @param name name of the item
+	 * @return index of the first item with the name
+	 */
+	public int getFirstIndex(String name) {
+		Integer id = typeIds.get(name);
+		int types = id == null ? stacks.size() : id;
+		int index = 0;
+		for (int type = 0; type < types; type++) {
+			index += typeCounts[type];
+		}
+		return index;
+	}
+	
+	/**
+	 * Calls the given action with the item and quantity of every lot of items with the given name, oldest first.
+	 * @param name name of the items
+	 * @param action action to call for each lot
+	 */
+	public void forEachLot(String name, ObjIntConsumer<Item> action) {
+		Integer id = typeIds.get(name);
+		if (id != null) {
+			for (Lot lot : stacks.get(id)) {
+				action.accept(lot.item, lot.quantity);
+			}
+		}
+	}
+	
+	/**
+	 * Calls the given action with the item and quantity of every lot in the hold, grouped by type in the order each
+	 * type was first added, oldest first within each type. Adding the lots to an empty hold in this order rebuilds it.
+	 * @param action action to call for each lot
+	 */
+	void forEachLot(ObjIntConsumer<Item> action) {
+		for (ArrayDeque<Lot> stack : stacks) {
+			for (Lot lot : stack) {
+				action.accept(lot.item, lot.quantity);
+			}
+		}
+	}
+
+	/**
+	 * Puts the weapons back into the order they were added in a saved hold, after its lots have been added again.
+	 * Each name must match a weapon in the hold, as many times as the hold has that weapon.
+	 * @param names names of the weapons in the order they were added
+	 */
+	void orderWeapons(List<String> names) {
+		HashMap<String, ArrayDeque<Item>> byName = new HashMap<String, ArrayDeque<Item>>();
+		for (Item weapon : weapons) {
+			byName.computeIfAbsent(weapon.getName(), name -> new ArrayDeque<Item>()).addLast(weapon);
+		}
+		weapons.clear();
+		for (String name : names) {
+			weapons.add(byName.get(name).pollFirst());
+		}
+	}
+
+	/**
+	 * Returns the type number of the given item's name, giving the name a new number if it hasn't been seen before.
+	 * @param item item to find the type of
+	 * @return type number
+	 */
+	private int typeId(Item item) {
+		Integer id = typeIds.get(item.getName());
+		if (id == null) {
+			id = stacks.size();
+			typeIds.put(item.getName(), id);
+			stacks.add(new ArrayDeque<Lot>());
+			if (id == typeSizes.length) {
+				typeSizes = Arrays.copyOf(typeSizes, id * 2);
+				typeCounts = Arrays.copyOf(typeCounts, id * 2);
+			}
+			typeSizes[id] = item.getSize();
+		}
+		return id;
+	}
+
+	/**
+	 * A quantity of the same item object bought together.
+	 */
+	private static final class Lot {
+
+		/**
+		 * Item in the lot.
+		 */
+		final Item item;
+
+		/**
+		 * Number of the item left in the lot.
+		 */
+		int quantity;
+
+		/**
+		 * Creates a lot of the given quantity of an item.
+		 * @param item item in the lot
+		 * @param quantity number of the item
+		 */
+		Lot(Item item, int quantity) {
+			this.item = item;
+			this.quantity = quantity;
+		}
+	}
+}
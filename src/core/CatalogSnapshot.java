@@ -0,0 +1,249 @@
+package core;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * This class compiles a catalog into a binary snapshot kept next to the parameter files, and loads it back
+ * through a memory-mapped file. The snapshot holds a table of every distinct string followed by fixed-width
+ * records of integers, so loading it does no text parsing and each island name is only decoded once however
+ * many routes mention it.
+ * The text files stay the source of truth. The snapshot records the modification times and lengths of the
+ * files it was compiled from, and is ignored and compiled again if they've changed.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+final class CatalogSnapshot {
+
+	/**
+	 * Name of the snapshot file in the parameter directory.
+	 */
+	static final String FILE_NAME = "catalog.bin";
+
+	/**
+	 * Number that starts every snapshot file.
+	 */
+	private static final int MAGIC = 0x49544342;
+
+	/**
+	 * Version of the snapshot format, increased whenever the layout changes.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Prevents the class from being instantiated.
+	 */
+	private CatalogSnapshot() {
+	}
+
+	/**
+	 * Returns the catalog in the given directory, from its snapshot if the snapshot is up to date with the text
+	 * files, otherwise by parsing the text files and compiling a new snapshot. A snapshot that can't be written,
+	 * such as in a read-only directory, is skipped.
+	 * @param directory directory containing the parameter files
+	 * @return catalog of the parameters
+	 */
+	static GameCatalog load(File directory) {
+		File file = new File(directory, FILE_NAME);
+		long stamp = sourceStamp(directory);
+		GameCatalog catalog = file.isFile() ? read(file, stamp) : null;
+		if (catalog == null) {
+			catalog = GameCatalog.parse(directory);
+			try {
+				write(catalog, file, stamp);
+			} catch (IOException e) {
+				// The text files can still be parsed next time
+			}
+		}
+		return catalog;
+	}
+
+	/**
+	 * Returns a number that changes whenever any of the text parameter files in the directory is modified.
+	 * @param directory directory containing the parameter files
+	 * @return stamp of the parameter files
+	 */
+	static long sourceStamp(File directory) {
+		long stamp = VERSION;
+		for (String fileName : GameCatalog.PARAMETER_FILES) {
+			File source = new File(directory, fileName);
+			stamp = stamp * 31 + source.lastModified();
+			stamp = stamp * 31 + source.length();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Reads a snapshot through a memory-mapped file.
+	 * @param file snapshot file
+	 * @param stamp stamp of the current text files
+	 * @return catalog in the snapshot, or null if the snapshot is out of date or can't be read
+	 */
+	private static GameCatalog read(File file, long stamp) {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != stamp) {
+				return null;
+			}
+			
+			// String table: end offsets of each string, then every string's UTF-8 bytes
+			String[] strings = new String[buffer.getInt()];
+			int[] ends = new int[strings.length];
+			for (int i = 0; i < ends.length; i++) {
+				ends[i] = buffer.getInt();
+			}
+			byte[] bytes = new byte[strings.length == 0 ? 0 : ends[ends.length - 1]];
+			buffer.get(bytes);
+			int start = 0;
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = new String(bytes, start, ends[i] - start, StandardCharsets.UTF_8);
+				start = ends[i];
+			}
+			
+			List<Item> items = new ArrayList<Item>();
+			for (int i = buffer.getInt(); i > 0; i--) {
+				items.add(new Item(strings[buffer.getInt()], strings[buffer.getInt()], buffer.getInt(),
+						buffer.getInt(), false));
+			}
+			List<Weapon> weapons = new ArrayList<Weapon>();
+			for (int i = buffer.getInt(); i > 0; i--) {
+				weapons.add(new Weapon(strings[buffer.getInt()], strings[buffer.getInt()], buffer.getInt(),
+						buffer.getInt(), buffer.getInt(), buffer.getInt()));
+			}
+			List<GameCatalog.ShipParameters> ships = new ArrayList<GameCatalog.ShipParameters>();
+			for (int i = buffer.getInt(); i > 0; i--) {
+				ships.add(new GameCatalog.ShipParameters(strings[buffer.getInt()], buffer.getInt(), buffer.getInt(),
+						buffer.getInt(), buffer.getInt(), buffer.getInt()));
+			}
+			List<String> islandNames = new ArrayList<String>();
+			for (int i = buffer.getInt(); i > 0; i--) {
+				islandNames.add(strings[buffer.getInt()]);
+			}
+			List<GameCatalog.RouteParameters> routes = new ArrayList<GameCatalog.RouteParameters>();
+			for (int i = buffer.getInt(); i > 0; i--) {
+				routes.add(new GameCatalog.RouteParameters(strings[buffer.getInt()], strings[buffer.getInt()],
+						buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+			}
+			return new GameCatalog(items, weapons, ships, islandNames, routes);
+		} catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+			// A damaged snapshot is compiled again from the text files
+			return null;
+		}
+	}
+
+	/**
+	 * Compiles a catalog into a snapshot file. The snapshot is written to a temporary file first and moved into
+	 * place, so a snapshot being written is never read.
+	 * @param catalog catalog to compile
+	 * @param file snapshot file
+	 * @param stamp stamp of the text files the catalog was parsed from
+	 * @throws IOException if the snapshot can't be written
+	 */
+	static void write(GameCatalog catalog, File file, long stamp) throws IOException {
+		LinkedHashMap<String, Integer> strings = new LinkedHashMap<String, Integer>();
+		for (Item item : catalog.getItemPrototypes()) {
+			intern(strings, item.getName());
+			intern(strings, item.getDesc());
+		}
+		for (Weapon weapon : catalog.getWeaponPrototypes()) {
+			intern(strings, weapon.getName());
+			intern(strings, weapon.getDesc());
+		}
+		for (GameCatalog.ShipParameters ship : catalog.getShipParameters()) {
+			intern(strings, ship.name);
+		}
+		for (String islandName : catalog.getIslandNames()) {
+			intern(strings, islandName);
+		}
+		for (GameCatalog.RouteParameters route : catalog.getRoutes()) {
+			intern(strings, route.getIslandName1());
+			intern(strings, route.getIslandName2());
+		}
+		
+		File temporary = File.createTempFile(FILE_NAME, ".tmp", file.getAbsoluteFile().getParentFile());
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(stamp);
+				
+				List<byte[]> encoded = new ArrayList<byte[]>(strings.size());
+				out.writeInt(strings.size());
+				int end = 0;
+				for (String string : strings.keySet()) {
+					byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+					encoded.add(bytes);
+					end += bytes.length;
+					out.writeInt(end);
+				}
+				for (byte[] bytes : encoded) {
+					out.write(bytes);
+				}
+				
+				out.writeInt(catalog.getItemPrototypes().size());
+				for (Item item : catalog.getItemPrototypes()) {
+					out.writeInt(strings.get(item.getName()));
+					out.writeInt(strings.get(item.getDesc()));
+					out.writeInt(item.getSize());
+					out.writeInt(item.getBasePrice());
+				}
+				out.writeInt(catalog.getWeaponPrototypes().size());
+				for (Weapon weapon : catalog.getWeaponPrototypes()) {
+					out.writeInt(strings.get(weapon.getName()));
+					out.writeInt(strings.get(weapon.getDesc()));
+					out.writeInt(weapon.getSize());
+					out.writeInt(weapon.getBasePrice());
+					out.writeInt(weapon.shots());
+					out.writeInt(weapon.damage());
+				}
+				out.writeInt(catalog.getShipParameters().size());
+				for (GameCatalog.ShipParameters ship : catalog.getShipParameters()) {
+					out.writeInt(strings.get(ship.name));
+					out.writeInt(ship.crew);
+					out.writeInt(ship.space);
+					out.writeInt(ship.health);
+					out.writeInt(ship.speed);
+					out.writeInt(ship.endurance);
+				}
+				out.writeInt(catalog.getIslandNames().size());
+				for (String islandName : catalog.getIslandNames()) {
+					out.writeInt(strings.get(islandName));
+				}
+				out.writeInt(catalog.getRoutes().size());
+				for (GameCatalog.RouteParameters route : catalog.getRoutes()) {
+					out.writeInt(strings.get(route.getIslandName1()));
+					out.writeInt(strings.get(route.getIslandName2()));
+					out.writeInt(route.getDays());
+					out.writeInt(route.getPirateDanger());
+					out.writeInt(route.getWeatherDanger());
+					out.writeInt(route.getSailorsOdds());
+				}
+			}
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary.toPath());
+		}
+	}
+
+	/**
+	 * Gives a string the next number in the string table if it isn't already in it.
+	 * @param strings string table
+	 * @param string string to add
+	 */
+	private static void intern(LinkedHashMap<String, Integer> strings, String string) {
+		strings.putIfAbsent(string, strings.size());
+	}
+}
@@ -0,0 +1,110 @@
+package core;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a ship's battle attributes (health, endurance, and the shots and damage of each weapon)
+ * stored in primitive arrays so battles can be simulated without touching Ship or Item objects.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+final class Combatant {
+	
+	/**
+	 * Ship's health at the start of the battle.
+	 */
+	final int health;
+	
+	/**
+	 * Ship's endurance.
+	 */
+	final int endurance;
+	
+	/**
+	 * Number of shots fired by each weapon.
+	 */
+	final int[] shots;
+	
+	/**
+	 * Damage done by one shot of each weapon.
+	 */
+	final int[] damage;
+	
+	/**
+	 * Creates a combatant with the given attributes.
+	 * @param health health at the start of the battle
+	 * @param endurance ship's endurance
+	 * @param shots number of shots fired by each weapon
+	 * @param damage damage done by one shot of each weapon
+	 */
+	Combatant(int health, int endurance, int[] shots, int[] damage) {
+		this.health = health;
+		this.endurance = endurance;
+		this.shots = shots;
+		this.damage = damage;
+	}
+	
+	/**
+	 * Returns a snapshot of the ship's current health, endurance, and weapons.
+	 * @param ship ship to take a snapshot of
+	 * @return combatant with the ship's attributes
+	 */
+	static Combatant of(Ship ship) {
+		ArrayList<Item> weapons = ship.getWeapons();
+		int[] shots = new int[weapons.size()];
+		int[] damage = new int[weapons.size()];
+		for (int i = 0; i < weapons.size(); i++) {
+			Weapon weapon = (Weapon) weapons.get(i);
+			shots[i] = weapon.shots();
+			damage[i] = weapon.damage();
+		}
+		return new Combatant(ship.getHealth(), ship.getEndurance(), shots, damage);
+	}
+	
+	/**
+	 * Returns true if any of the combatant's shots can do damage.
+	 * A shot rolls between 0 and one less than its damage, so weapons with 1 damage always miss.
+	 * @return true if the combatant can do damage, otherwise false
+	 */
+	boolean canDoDamage() {
+		for (int i = 0; i < shots.length; i++) {
+			if (shots[i] > 0 && damage[i] > 1) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns every pirate ship GameEnvironment.pirateEvent can fight, each equally likely:
+	 * each ship in the catalog armed with the starting cannon.
+	 * @param catalog catalog to take ships and weapons from
+	 * @return equally likely pirate ships
+	 */
+	static List<Combatant> pirateEventShips(GameCatalog catalog) {
+		List<Combatant> pirates = new ArrayList<Combatant>();
+		for (int i = 0; i < catalog.getShipCount(); i++) {
+			pirates.add(of(catalog.createShip(i)));
+		}
+		return pirates;
+	}
+	
+	/**
+	 * Returns every pirate ship GameEnvironment.generatePirateShip can create, each equally likely:
+	 * each ship in the catalog armed with each single weapon in the catalog.
+	 * @param catalog catalog to take ships and weapons from
+	 * @return equally likely pirate ships
+	 */
+	static List<Combatant> generatedPirateShips(GameCatalog catalog) {
+		List<Combatant> pirates = new ArrayList<Combatant>();
+		for (int i = 0; i < catalog.getShipCount(); i++) {
+			for (int j = 0; j < catalog.getWeaponCount(); j++) {
+				Ship ship = catalog.createShip(i);
+				ship.emptyCargo();
+				ship.addCargo(catalog.createWeapon(j));
+				pirates.add(of(ship));
+			}
+		}
+		return pirates;
+	}
+}
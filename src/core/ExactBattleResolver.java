@@ -0,0 +1,310 @@
+package core;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class calculates the exact outcome probabilities of a pirate battle without rolling any dice.
+ * Each turn's damage distribution is found by convolving the damage distribution of every shot fired,
+ * then probability is pushed through the grid of (player health, pirate health) states until one ship sinks.
+ * Results are cached for each combination of player loadout and pirate ship.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class ExactBattleResolver {
+	
+	/**
+	 * Pirate ships that can be fought, each equally likely.
+	 */
+	private final Combatant[] pirates;
+	
+	/**
+	 * Outcome of each battle that has already been resolved.
+	 */
+	private final Map<BattleKey, BattleEstimate> cache = new ConcurrentHashMap<BattleKey, BattleEstimate>();
+	
+	/**
+	 * Creates a resolver that fights the given pirate ships.
+	 * @param pirates pirate ships that can be fought, each equally likely
+	 */
+	private ExactBattleResolver(List<Combatant> pirates) {
+		this.pirates = pirates.toArray(new Combatant[0]);
+	}
+	
+	/**
+	 * Returns a resolver for the pirate ships fought in GameEnvironment.pirateEvent.
+	 * @param catalog catalog to take ships and weapons from
+	 * @return resolver for pirateEvent battles
+	 */
+	public static ExactBattleResolver forPirateEvent(GameCatalog catalog) {
+		return new ExactBattleResolver(Combatant.pirateEventShips(catalog));
+	}
+	
+	/**
+	 * Returns a resolver for the pirate ships created by GameEnvironment.generatePirateShip.
+	 * @param catalog catalog to take ships and weapons from
+	 * @return resolver for battles against generated pirate ships
+	 */
+	public static ExactBattleResolver forGeneratedPirates(GameCatalog catalog) {
+		return new ExactBattleResolver(Combatant.generatedPirateShips(catalog));
+	}
+	
+	/**
+	 * Returns the exact outcome of a battle between the player's ship and a random pirate ship.
+	 * @param playerShip player's ship, in its current state
+	 * @return battle outcome
+	 */
+	public BattleEstimate resolve(Ship playerShip) {
+		Combatant player = Combatant.of(playerShip);
+		double win = 0;
+		double[] damage = new double[player.health + 1];
+		for (int i = 0; i < pirates.length; i++) {
+			BattleEstimate estimate = resolve(player, i);
+			win += estimate.getWinProbability() / pirates.length;
+			for (int j = 0; j < damage.length; j++) {
+				damage[j] += estimate.getDamageProbability(j) / pirates.length;
+			}
+		}
+		return new BattleEstimate(win, damage);
+	}
+	
+	/**
+	 * Returns the exact outcome of a battle between the player and one pirate ship, using the cache if possible.
+	 * @param player player's ship
+	 * @param pirateIndex index of the pirate ship
+	 * @return battle outcome
+	 */
+	private BattleEstimate resolve(Combatant player, int pirateIndex) {
+		return cache.computeIfAbsent(new BattleKey(player, pirateIndex), key -> solve(player, pirates[key.pirateIndex]));
+	}
+	
+	/**
+	 * Returns the number of battles held in the cache.
+	 * @return number of cached battles
+	 */
+	public int getCacheSize() {
+		return cache.size();
+	}
+	
+	/**
+	 * Solves the battle's Markov chain. States are (player health, pirate health) pairs, split into states where the
+	 * player fires next and states where the pirates fire next. Health only ever goes down, so visiting states from
+	 * highest to lowest health handles every state after all the states that lead to it. A turn that does no damage
+	 * returns to the same pair of healths, and the resulting loop is summed as a geometric series.
+	 * @param player player's ship
+	 * @param pirate pirate ship
+	 * @return battle outcome
+	 */
+	static BattleEstimate solve(Combatant player, Combatant pirate) {
+		int playerStart = player.health;
+		int pirateStart = pirate.health;
+		double[] damage = new double[playerStart + 1];
+		if (playerStart == 0 || (!player.canDoDamage() && !pirate.canDoDamage())) {
+			// Battle ends straight away, or never ends, with no damage taken
+			damage[0] = 1;
+			return new BattleEstimate(0, damage);
+		}
+		
+		// Probability of each total damage done in one turn, and the probability of at least that much
+		double[] playerTurn = turnDistribution(player, pirate.endurance);
+		double[] pirateTurn = turnDistribution(pirate, player.endurance);
+		double[] playerTail = tail(playerTurn);
+		double[] pirateTail = tail(pirateTurn);
+		double playerMiss = playerTurn[0];
+		double pirateMiss = pirateTurn[0];
+		double loop = 1 - playerMiss * pirateMiss;
+		
+		// playerToMove[p][q] and pirateToMove[p][q] hold probability flowing into each state from other states
+		int columns = pirateStart + 1;
+		double[] playerToMove = new double[(playerStart + 1) * columns];
+		double[] pirateToMove = new double[(playerStart + 1) * columns];
+		playerToMove[playerStart * columns + pirateStart] = 1;
+		double win = 0;
+		double loss = 0;
+		
+		for (int p = playerStart; p > 0; p--) {
+			for (int q = pirateStart; q > 0; q--) {
+				int state = p * columns + q;
+				double playerIn = playerToMove[state];
+				double pirateIn = pirateToMove[state];
+				if (playerIn == 0 && pirateIn == 0) {
+					continue;
+				}
+				// Total probability of each state once the turns that miss and return to it are included
+				double playerTotal = (playerIn + pirateMiss * pirateIn) / loop;
+				double pirateTotal = pirateIn + playerMiss * playerTotal;
+				
+				// Player fires: either sinks the pirates or moves to a state with lower pirate health
+				double sunk = playerTotal * tailAt(playerTail, q);
+				win += sunk;
+				damage[playerStart - p] += sunk;
+				int maxDamage = Math.min(q - 1, playerTurn.length - 1);
+				for (int x = 1; x <= maxDamage; x++) {
+					pirateToMove[state - x] += playerTotal * playerTurn[x];
+				}
+				
+				// Pirates fire: either sink the player or move to a state with lower player health
+				double lost = pirateTotal * tailAt(pirateTail, p);
+				loss += lost;
+				damage[playerStart] += lost;
+				maxDamage = Math.min(p - 1, pirateTurn.length - 1);
+				for (int y = 1; y <= maxDamage; y++) {
+					playerToMove[state - y * columns] += pirateTotal * pirateTurn[y];
+				}
+			}
+		}
+		
+		// Normalise away rounding errors so the probabilities add up to 1
+		double total = win + loss;
+		if (total > 0) {
+			for (int i = 0; i < damage.length; i++) {
+				damage[i] /= total;
+			}
+			win /= total;
+		}
+		return new BattleEstimate(win, damage);
+	}
+	
+	/**
+	 * Returns the probability of each amount of damage the attacker does to the defender in one turn,
+	 * convolving the distribution of every shot of every weapon.
+	 * @param attacker ship firing
+	 * @param endurance defender's endurance
+	 * @return probability of each amount of damage, indexed by damage
+	 */
+	static double[] turnDistribution(Combatant attacker, int endurance) {
+		double[] total = {1};
+		for (int i = 0; i < attacker.shots.length; i++) {
+			double[] shot = shotDistribution(attacker.damage[i], endurance);
+			for (int j = 0; j < attacker.shots[i]; j++) {
+				total = convolve(total, shot);
+			}
+		}
+		return total;
+	}
+	
+	/**
+	 * Returns the probability of each amount of damage one shot does. The shot rolls between 0 and one less than
+	 * the weapon's damage, and if it hits the defender resists between 0 and one less than its endurance.
+	 * @param weaponDamage weapon's damage
+	 * @param endurance defender's endurance
+	 * @return probability of each amount of damage, indexed by damage
+	 */
+	static double[] shotDistribution(int weaponDamage, int endurance) {
+		double[] distribution = new double[Math.max(1, weaponDamage)];
+		double rollChance = 1.0 / weaponDamage;
+		double resistChance = rollChance / endurance;
+		distribution[0] += rollChance; // missed
+		for (int roll = 1; roll < weaponDamage; roll++) {
+			int resistedAll = Math.max(0, endurance - roll);
+			distribution[0] += resistedAll * resistChance;
+			for (int resisted = 0; resisted < Math.min(roll, endurance); resisted++) {
+				distribution[roll - resisted] += resistChance;
+			}
+		}
+		return distribution;
+	}
+	
+	/**
+	 * Returns the distribution of the sum of two independent amounts.
+	 * @param first first distribution
+	 * @param second second distribution
+	 * @return distribution of the sum
+	 */
+	private static double[] convolve(double[] first, double[] second) {
+		double[] result = new double[first.length + second.length - 1];
+		for (int i = 0; i < first.length; i++) {
+			if (first[i] == 0) {
+				continue;
+			}
+			for (int j = 0; j < second.length; j++) {
+				result[i + j] += first[i] * second[j];
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the probability of at least each amount of damage.
+	 * @param distribution probability of each amount of damage
+	 * @return probability of at least each amount of damage, indexed by damage
+	 */
+	private static double[] tail(double[] distribution) {
+		double[] tail = new double[distribution.length];
+		double sum = 0;
+		for (int i = distribution.length - 1; i >= 0; i--) {
+			sum += distribution[i];
+			tail[i] = sum;
+		}
+		return tail;
+	}
+	
+	/**
+	 * Returns the probability of at least the given damage, which is 0 past the end of the distribution.
+	 * @param tail probability of at least each amount of damage
+	 * @param damage amount of damage
+	 * @return probability of at least that damage
+	 */
+	private static double tailAt(double[] tail, int damage) {
+		return damage < tail.length ? tail[damage] : 0;
+	}
+	
+	/**
+	 * Cache key made of the player's health, endurance, and weapons, and the pirate ship fought.
+	 * Weapons are sorted since the order they fire in doesn't change the outcome.
+	 */
+	private static final class BattleKey {
+		
+		/**
+		 * Player's health.
+		 */
+		private final int health;
+		
+		/**
+		 * Player's endurance.
+		 */
+		private final int endurance;
+		
+		/**
+		 * Player's weapons as sorted (damage, shots) pairs packed into longs.
+		 */
+		private final long[] loadout;
+		
+		/**
+		 * Index of the pirate ship.
+		 */
+		private final int pirateIndex;
+		
+		/**
+		 * Creates a key for the battle.
+		 * @param player player's ship
+		 * @param pirateIndex index of the pirate ship
+		 */
+		BattleKey(Combatant player, int pirateIndex) {
+			this.health = player.health;
+			this.endurance = player.endurance;
+			this.pirateIndex = pirateIndex;
+			loadout = new long[player.shots.length];
+			for (int i = 0; i < loadout.length; i++) {
+				loadout[i] = ((long) player.damage[i] << 32) | player.shots[i];
+			}
+			Arrays.sort(loadout);
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof BattleKey)) {
+				return false;
+			}
+			BattleKey key = (BattleKey) other;
+			return health == key.health && endurance == key.endurance && pirateIndex == key.pirateIndex
+					&& Arrays.equals(loadout, key.loadout);
+		}
+		
+		@Override
+		public int hashCode() {
+			return ((health * 31 + endurance) * 31 + pirateIndex) * 31 + Arrays.hashCode(loadout);
+		}
+	}
+}
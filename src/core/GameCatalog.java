@@ -0,0 +1,546 @@
+package core;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the in-game objects specified in game-parameters. Each parameter file is parsed exactly once
+ * into immutable prototype tables, and fresh copies of the prototypes are handed out on request.
+ * Parsed catalogs are compiled into a binary snapshot next to the text files, which later loads read instead
+ * of parsing the text again.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class GameCatalog {
+
+	/**
+	 * Directory the default catalog is loaded from.
+	 */
+	public static final String DEFAULT_DIRECTORY = "game-parameters";
+
+	/**
+	 * System property that can name another directory for the default catalog, such as a generated world.
+	 */
+	public static final String DIRECTORY_PROPERTY = "islandtrader.parameters";
+
+	/**
+	 * Names of the text parameter files, which are the source of truth for the catalog.
+	 */
+	static final String[] PARAMETER_FILES = {"items.txt", "weapons.txt", "ships.txt", "islands.txt", "routes.txt"};
+
+	/**
+	 * Catalog loaded from the default directory, created on first use.
+	 */
+	private static GameCatalog instance;
+
+	/**
+	 * Prototypes of every trade item in the game.
+	 */
+	private final List<Item> items;
+
+	/**
+	 * Prototypes of every weapon in the game.
+	 */
+	private final List<Weapon> weapons;
+
+	/**
+	 * Parameters of every ship in the game.
+	 */
+	private final List<ShipParameters> ships;
+
+	/**
+	 * Names of every island in the game.
+	 */
+	private final List<String> islandNames;
+
+	/**
+	 * Parameters of every route in the game.
+	 */
+	private final List<RouteParameters> routes;
+
+	/**
+	 * Creates a catalog from already parsed tables.
+	 * @param items trade item prototypes
+	 * @param weapons weapon prototypes
+	 * @param ships ship parameters
+	 * @param islandNames island names
+	 * @param routes route parameters
+	 */
+	GameCatalog(List<Item> items, List<Weapon> weapons, List<ShipParameters> ships,
+			List<String> islandNames, List<RouteParameters> routes) {
+		this.items = Collections.unmodifiableList(new ArrayList<Item>(items));
+		this.weapons = Collections.unmodifiableList(new ArrayList<Weapon>(weapons));
+		this.ships = Collections.unmodifiableList(new ArrayList<ShipParameters>(ships));
+		this.islandNames = Collections.unmodifiableList(new ArrayList<String>(islandNames));
+		this.routes = Collections.unmodifiableList(new ArrayList<RouteParameters>(routes));
+	}
+
+	/**
+	 * Returns the catalog loaded from the default game-parameters directory, or the directory named by the
+	 * islandtrader.parameters system property, loading it on the first call.
+	 * @return default catalog
+	 */
+	public static synchronized GameCatalog getInstance() {
+		if (instance == null) {
+			instance = load(new File(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)));
+		}
+		return instance;
+	}
+
+	/**
+	 * Loads the catalog in the given directory from its binary snapshot, or parses the parameter files and
+	 * compiles a new snapshot if there isn't one or any parameter file has changed since it was compiled.
+	 * @param directory directory containing the parameter files
+	 * @return catalog of the parameters
+	 */
+	public static GameCatalog load(File directory) {
+		return CatalogSnapshot.load(directory);
+	}
+
+	/**
+	 * Parses all five parameter files in the given directory into a new catalog, without using a snapshot.
+	 * @param directory directory containing the parameter files
+	 * @return catalog of the parsed parameters
+	 */
+	public static GameCatalog parse(File directory) {
+		return new GameCatalog(parseItems(directory), parseWeapons(directory), parseShips(directory),
+				parseIslands(directory), parseRoutes(directory));
+	}
+
+	/**
+	 * Reads a parameter file, skipping the header line, and splits each remaining line into its semicolon
+	 * separated fields. Reading whole lines instead of scanning tokens keeps loading fast for generated worlds
+	 * with hundreds of thousands of records.
+	 * @param directory directory containing the file
+	 * @param fileName name of the file
+	 * @param label label used in the error message if the file can't be read
+	 * @param fieldCount number of fields in each record
+	 * @return fields of each record, in file order
+	 */
+	private static List<String[]> readRecords(File directory, String fileName, String label, int fieldCount) {
+		List<String[]> records = new ArrayList<String[]>();
+		try (BufferedReader reader = new BufferedReader(new FileReader(new File(directory, fileName), StandardCharsets.UTF_8))) {
+			// skip first line in file
+			reader.readLine();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				String[] fields = new String[fieldCount];
+				int start = 0;
+				for (int i = 0; i < fieldCount; i++) {
+					int end = line.indexOf(';', start);
+					if (end < 0) {
+						end = line.length();
+					}
+					fields[i] = line.substring(Math.min(start, end), end);
+					start = end + 1;
+				}
+				records.add(fields);
+			}
+		} catch (FileNotFoundException e) {
+			System.out.println(label + " data file not found!");
+			throw new java.lang.Error(label + " data file not found", e);
+		} catch (IOException e) {
+			throw new java.lang.Error(label + " data file could not be read", e);
+		}
+		return records;
+	}
+	
+	/**
+	 * Parses an integer field, ignoring surrounding whitespace.
+	 * @param field field to parse
+	 * @return integer value of the field
+	 */
+	private static int parseInt(String field) {
+		return Integer.parseInt(field.strip());
+	}
+
+	/**
+	 * Parses the trade items file.
+	 * @param directory directory containing the parameter files
+	 * @return item prototypes
+	 */
+	private static List<Item> parseItems(File directory) {
+		List<Item> itemList = new ArrayList<Item>();
+		for (String[] fields : readRecords(directory, "items.txt", "Items", 4)) {
+			itemList.add(new Item(fields[0].strip(), fields[1], parseInt(fields[2]), parseInt(fields[3]), false));
+		}
+		return itemList;
+	}
+
+	/**
+	 * Parses the weapons file.
+	 * @param directory directory containing the parameter files
+	 * @return weapon prototypes
+	 */
+	private static List<Weapon> parseWeapons(File directory) {
+		List<Weapon> weaponList = new ArrayList<Weapon>();
+		for (String[] fields : readRecords(directory, "weapons.txt", "Weapons", 6)) {
+			weaponList.add(new Weapon(fields[0].strip(), fields[1], parseInt(fields[2]), parseInt(fields[3]),
+					parseInt(fields[4]), parseInt(fields[5])));
+		}
+		return weaponList;
+	}
+
+	/**
+	 * Parses the ships file.
+	 * @param directory directory containing the parameter files
+	 * @return ship parameters
+	 */
+	private static List<ShipParameters> parseShips(File directory) {
+		List<ShipParameters> shipList = new ArrayList<ShipParameters>();
+		for (String[] fields : readRecords(directory, "ships.txt", "Ships", 6)) {
+			shipList.add(new ShipParameters(fields[0].strip(), parseInt(fields[1]), parseInt(fields[2]),
+					parseInt(fields[3]), parseInt(fields[4]), parseInt(fields[5])));
+		}
+		return shipList;
+	}
+
+	/**
+	 * Parses the islands file.
+	 * @param directory directory containing the parameter files
+	 * @return island names
+	 */
+	private static List<String> parseIslands(File directory) {
+		List<String> nameList = new ArrayList<String>();
+		for (String[] fields : readRecords(directory, "islands.txt", "Islands", 1)) {
+			nameList.add(fields[0].strip());
+		}
+		return nameList;
+	}
+
+	/**
+	 * Parses the routes file.
+	 * @param directory directory containing the parameter files
+	 * @return route parameters
+	 */
+	private static List<RouteParameters> parseRoutes(File directory) {
+		List<RouteParameters> routeList = new ArrayList<RouteParameters>();
+		for (String[] fields : readRecords(directory, "routes.txt", "Routes", 6)) {
+			routeList.add(new RouteParameters(fields[0].strip(), fields[1], parseInt(fields[2]), parseInt(fields[3]),
+					parseInt(fields[4]), parseInt(fields[5])));
+		}
+		return routeList;
+	}
+
+	/**
+	 * Returns the number of trade items in the catalog.
+	 * @return number of trade items
+	 */
+	public int getItemCount() {
+		return items.size();
+	}
+
+	/**
+	 * Returns the number of weapons in the catalog.
+	 * @return number of weapons
+	 */
+	public int getWeaponCount() {
+		return weapons.size();
+	}
+
+	/**
+	 * Returns the number of ships in the catalog.
+	 * @return number of ships
+	 */
+	public int getShipCount() {
+		return ships.size();
+	}
+
+	/**
+	 * Returns a new copy of the trade item at the given index.
+	 * @param index index of the item in items.txt
+	 * @return copy of the item
+	 */
+	public Item createItem(int index) {
+		return items.get(index).copy();
+	}
+
+	/**
+	 * Returns a new copy of the weapon at the given index.
+	 * @param index index of the weapon in weapons.txt
+	 * @return copy of the weapon
+	 */
+	public Weapon createWeapon(int index) {
+		return weapons.get(index).copy();
+	}
+
+	/**
+	 * Returns a new ship built from the parameters at the given index.
+	 * @param index index of the ship in ships.txt
+	 * @return new ship
+	 */
+	public Ship createShip(int index) {
+		return ships.get(index).create();
+	}
+
+	/**
+	 * Returns new copies of every trade item.
+	 * @return ArrayList of Item objects
+	 */
+	public ArrayList<Item> createItems() {
+		ArrayList<Item> itemList = new ArrayList<Item>(items.size());
+		for (Item item : items) {
+			itemList.add(item.copy());
+		}
+		return itemList;
+	}
+
+	/**
+	 * Returns new copies of every weapon.
+	 * @return ArrayList of weapons as Item objects
+	 */
+	public ArrayList<Item> createWeapons() {
+		ArrayList<Item> weaponList = new ArrayList<Item>(weapons.size());
+		for (Weapon weapon : weapons) {
+			weaponList.add(weapon.copy());
+		}
+		return weaponList;
+	}
+
+	/**
+	 * Returns new ships built from every set of ship parameters.
+	 * @return ArrayList of Ship objects
+	 */
+	public ArrayList<Ship> createShips() {
+		ArrayList<Ship> shipList = new ArrayList<Ship>(ships.size());
+		for (ShipParameters parameters : ships) {
+			shipList.add(parameters.create());
+		}
+		return shipList;
+	}
+
+	/**
+	 * Returns the prototypes of every trade item.
+	 * @return unmodifiable list of item prototypes
+	 */
+	List<Item> getItemPrototypes() {
+		return items;
+	}
+
+	/**
+	 * Returns the prototypes of every weapon.
+	 * @return unmodifiable list of weapon prototypes
+	 */
+	List<Weapon> getWeaponPrototypes() {
+		return weapons;
+	}
+
+	/**
+	 * Returns the parameters of every ship.
+	 * @return unmodifiable list of ship parameters
+	 */
+	List<ShipParameters> getShipParameters() {
+		return ships;
+	}
+
+	/**
+	 * Returns the names of every island.
+	 * @return unmodifiable list of island names
+	 */
+	public List<String> getIslandNames() {
+		return islandNames;
+	}
+
+	/**
+	 * Returns the parameters of every route.
+	 * @return unmodifiable list of route parameters
+	 */
+	public List<RouteParameters> getRoutes() {
+		return routes;
+	}
+
+	/**
+	 * Immutable parameters of a ship from ships.txt.
+	 */
+	static final class ShipParameters {
+
+		/**
+		 * Ship's name.
+		 */
+		final String name;
+
+		/**
+		 * Number of crew members.
+		 */
+		final int crew;
+
+		/**
+		 * Cargo space.
+		 */
+		final int space;
+
+		/**
+		 * Maximum health.
+		 */
+		final int health;
+
+		/**
+		 * Ship's speed.
+		 */
+		final int speed;
+
+		/**
+		 * Ship's endurance.
+		 */
+		final int endurance;
+
+		/**
+		 * Stores the ship's parameters.
+		 * @param name ship's name
+		 * @param crew number of crew members
+		 * @param space cargo space
+		 * @param health maximum health
+		 * @param speed ship's speed
+		 * @param endurance ship's endurance
+		 */
+		ShipParameters(String name, int crew, int space, int health, int speed, int endurance) {
+			this.name = name;
+			this.crew = crew;
+			this.space = space;
+			this.health = health;
+			this.speed = speed;
+			this.endurance = endurance;
+		}
+
+		/**
+		 * Returns a new ship with these parameters.
+		 * @return new ship
+		 */
+		Ship create() {
+			return new Ship(name, crew, space, health, speed, endurance);
+		}
+	}
+
+	/**
+	 * Immutable parameters of a route from routes.txt.
+	 */
+	public static final class RouteParameters {
+
+		/**
+		 * Name of one island in the route.
+		 */
+		private final String islandName1;
+
+		/**
+		 * Name of the other island in the route.
+		 */
+		private final String islandName2;
+
+		/**
+		 * Base number of days the route takes.
+		 */
+		private final int days;
+
+		/**
+		 * Chance of encountering pirates (out of 100).
+		 */
+		private final int pirateDanger;
+
+		/**
+		 * Chance of bad weather (out of 100).
+		 */
+		private final int weatherDanger;
+
+		/**
+		 * Chance of finding lost sailors (out of 100).
+		 */
+		private final int sailorsOdds;
+
+		/**
+		 * Stores the route's parameters.
+		 * @param islandName1 name of one island in the route
+		 * @param islandName2 name of the other island in the route
+		 * @param days base number of days the route takes
+		 * @param pirateDanger chance of encountering pirates (out of 100)
+		 * @param weatherDanger chance of bad weather (out of 100)
+		 * @param sailorsOdds chance of finding lost sailors (out of 100)
+		 */
+		RouteParameters(String islandName1, String islandName2, int days, int pirateDanger, int weatherDanger, int sailorsOdds) {
+			this.islandName1 = islandName1;
+			this.islandName2 = islandName2;
+			this.days = days;
+			this.pirateDanger = pirateDanger;
+			this.weatherDanger = weatherDanger;
+			this.sailorsOdds = sailorsOdds;
+		}
+
+		/**
+		 * Returns a new route between the given islands with these parameters.
+		 * @param island1 island named by the first island name
+		 * @param island2 island named by the second island name
+		 * @return new route
+		 */
+		public Route create(Island island1, Island island2) {
+			return new Route(island1, island2, days, pirateDanger, weatherDanger, sailorsOdds);
+		}
+
+		/**
+		 * Returns a new route between the given islands with these parameters that decides its random events
+		 * with the given generator.
+		 * @param island1 island named by the first island name
+		 * @param island2 island named by the second island name
+		 * @param randomGenerator random number generator for the route's random events
+		 * @return new route
+		 */
+		public Route create(Island island1, Island island2, RandomSource randomGenerator) {
+			return new Route(island1, island2, days, pirateDanger, weatherDanger, sailorsOdds, randomGenerator);
+		}
+
+		/**
+		 * Returns the name of one island in the route.
+		 * @return first island name
+		 */
+		public String getIslandName1() {
+			return islandName1;
+		}
+
+		/**
+		 * Returns the name of the other island in the route.
+		 * @return second island name
+		 */
+		public String getIslandName2() {
+			return islandName2;
+		}
+
+		/**
+		 * Returns the base number of days the route takes.
+		 * @return base days
+		 */
+		int getDays() {
+			return days;
+		}
+
+		/**
+		 * Returns the chance of encountering pirates.
+		 * @return chance out of 100
+		 */
+		int getPirateDanger() {
+			return pirateDanger;
+		}
+
+		/**
+		 * Returns the chance of bad weather.
+		 * @return chance out of 100
+		 */
+		int getWeatherDanger() {
+			return weatherDanger;
+		}
+
+		/**
+		 * Returns the chance of finding lost sailors.
+		 * @return chance out of 100
+		 */
+		int getSailorsOdds() {
+			return sailorsOdds;
+		}
+	}
+}
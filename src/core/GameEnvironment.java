@@ -1,6 +1,6 @@
 package core;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.HashMap;
 
 import ui.GameUI;
 import ui.TextUI;
@@ -63,9 +63,19 @@ public class GameEnvironment {
 	private ArrayList<Island> islands;
 	
 	/**
-	 * All goods purchased by the player during the game.
+	 * Islands in the game by name.
 	 */
-	private ArrayList<Item> goods;
+	private HashMap<String, Island> islandsByName;
+	
+	/**
+	 * All goods purchased by the player during the game, and where they were sold.
+	 */
+	private TradeLedger goods;
+	
+	/**
+	 * Supply and demand of every island's store.
+	 */
+	private Market market;
 	
 	/**
 	 * User interface used by the game.
@@ -107,14 +117,94 @@ public class GameEnvironment {
 	 */
 	private boolean gameOver = false;
 	
+	/**
+	 * Reason the game ended, null while the game is still running.
+	 */
+	private String endReason;
+	
+	/**
+	 * Random number generator for random events, the stores and routes have their own splits of it.
+	 */
+	private RandomSource randomGenerator;
+	
+	/**
+	 * Gold the current island's store would pay for all of the ship's cargo, kept up to date as items are
+	 * bought and sold.
+	 */
+	private int liquidationValue;
+	
+	/**
+	 * Island the liquidation value was worked out for.
+	 */
+	private Island liquidationIsland;
+	
+	/**
+	 * Cargo hold the liquidation value was worked out for.
+	 */
+	private CargoHold liquidationHold;
+	
+	/**
+	 * Modification count of the cargo hold when the liquidation value was last brought up to date.
+	 */
+	private int liquidationModCount;
+	
+	/**
+	 * Price version of the island's store when the liquidation value was worked out.
+	 */
+	private int liquidationPriceVersion;
+	
+	/**
+	 * Journal every command and random event is recorded in, or null if the game isn't journaled.
+	 */
+	private GameJournal journal;
+	
+	/**
+	 * Events changes to the game's state are published to.
+	 */
+	private final GameEvents events = new GameEvents();
+	
 	/**
 	 * Instantiates the game with the given user interface, starting island, and starting gold amount.
-	 * @param ui user interface the game will use
+	 * @param ui user interface the game will use, or null if the game is driven without one
 	 * @param islandIndex ArrayList index of the starting island
 	 * @param gold starting gold amount
 	 */
 	public GameEnvironment(GameUI ui, int islandIndex, int gold) {
+		this(ui, islandIndex, gold, new RandomSource());
+	}
+	
+	/**
+	 * Instantiates the game with the given user interface, starting island, and starting gold amount,
+	 * drawing every random number in the game from the given generator so the game can be reproduced.
+	 * @param ui user interface the game will use, or null if the game is driven without one
+	 * @param islandIndex ArrayList index of the starting island
+	 * @param gold starting gold amount
+	 * @param randomGenerator random number generator for the whole game
+	 */
+	public GameEnvironment(GameUI ui, int islandIndex, int gold, RandomSource randomGenerator) {
+		this(ui, islandIndex, gold, randomGenerator, null);
+	}
+	
+	/**
+	 * Instantiates the game with the given user interface, starting island, and starting gold amount,
+	 * drawing every random number in the game from the given generator, and recording every command and
+	 * random event in the given journal so the game can be replayed.
+	 * @param ui user interface the game will use, or null if the game is driven without one
+	 * @param islandIndex ArrayList index of the starting island
+	 * @param gold starting gold amount
+	 * @param randomGenerator random number generator for the whole game, which mustn't have been used by another game
+	 * @param journal empty journal to record the game in, or null if the game isn't journaled
+	 */
+	public GameEnvironment(GameUI ui, int islandIndex, int gold, RandomSource randomGenerator, GameJournal journal) {
+		this.randomGenerator = randomGenerator;
+		this.journal = journal;
+		if (journal != null) {
+			journal.begin(randomGenerator, islandIndex, gold);
+		}
 		initArrayLists();
+		if (journal != null) {
+			journal.attachRoutes(islands);
+		}
 		this.ui = ui;
 		this.island = islands.get(islandIndex);
 		this.gold = gold;
@@ -126,15 +216,19 @@ public class GameEnvironment {
 	 */
 	private void initArrayLists() {
 		ships = ObjectsListGenerator.generateShip();
-		islands = ObjectsListGenerator.generateIsland();
-		ObjectsListGenerator.generateRoute(islands); // generates routes for each island
-		goods = new ArrayList<Item>();
+		islands = ObjectsListGenerator.generateIsland(randomGenerator);
+		islandsByName = ObjectsListGenerator.indexIslands(islands);
+		ObjectsListGenerator.generateRoute(islandsByName, randomGenerator); // generates routes for each island
+		goods = new TradeLedger();
+		goods.setEvents(events);
+		market = new Market();
+		market.setEvents(events);
 	}
 	
 
 	/**
 	 * Finished the setup by assigning the player's name, ship, and the number of days the game will last.
-	 * Afterwards, the game menu is launched.
+	 * Afterwards, the game menu is launched if the game has a user interface.
 	 * @param name player's name
 	 * @param days number of days the game will last
 	 * @param ship player's ship
@@ -143,8 +237,15 @@ public class GameEnvironment {
 		this.name = name;
 		this.totalDays = days;
 		this.daysLeft = days;
+		this.ship.setEvents(null);
 		this.ship = ship;
-		ui.menu();
+		ship.setEvents(events);
+		if (journal != null) {
+			journal.setup(name, days, ships.indexOf(ship), market.isEnabled());
+		}
+		if (ui != null) {
+			ui.menu();
+		}
 	}
 	
 	/**
@@ -171,6 +272,15 @@ public class GameEnvironment {
 		return islands;
 	}
 	
+	/**
+	 * Returns the island with the given name.
+	 * @param name island's name
+	 * @return island with the name, or null if there isn't one
+	 */
+	public Island findIsland(String name) {
+		return islandsByName.get(name);
+	}
+	
 	/**
 	 * Returns the player's chosen ship.
 	 * @return player's ship
@@ -204,11 +314,26 @@ public class GameEnvironment {
 	}
 	
 	/** 
-	 * Ends the game.
+	 * Ends the game and shows the end screen if the game has a user interface.
 	 * @param reason reason for game ending
 	 */
 	public void endGame(String reason) {
-		ui.endGame(reason);
+		endReason = reason;
+		gameOver = true;
+		if (journal != null) {
+			journal.end(reason);
+		}
+		if (ui != null) {
+			ui.endGame(reason);
+		}
+	}
+	
+	/**
+	 * Returns the reason the game ended.
+	 * @return reason for game ending, or null if the game hasn't ended
+	 */
+	public String getEndReason() {
+		return endReason;
 	}
 	
 	/**
@@ -240,6 +365,10 @@ public class GameEnvironment {
 	 */
 	public void loseGold() {
 		gold = 0;
+		events.goldChanged(gold);
+		if (journal != null) {
+			journal.loseGold();
+		}
 	}
 	
 	/**
@@ -248,62 +377,258 @@ public class GameEnvironment {
 	 */
 	public void setGold(int gold) {
 		this.gold = gold;
+		events.goldChanged(gold);
+		if (journal != null) {
+			journal.setGold(gold);
+		}
 	}
 	
 	/**
-	 * Returns all the goods the player has bought during the game.
+	 * Empties the player's ship's cargo, such as when the ship is destroyed.
+	 */
+	public void loseCargo() {
+		ship.emptyCargo();
+		if (journal != null) {
+			journal.loseCargo();
+		}
+	}
+	
+	/**
+	 * Returns the ledger of all the goods the player has bought during the game.
 	 * @return goods the player has bought
 	 */
-	public ArrayList<Item> getGoods() {
+	public TradeLedger getGoods() {
 		return goods;
 	}
 	
+	/**
+	 * Returns the supply and demand of every island's store.
+	 * @return game's market
+	 */
+	public Market getMarket() {
+		return market;
+	}
+	
+	/**
+	 * Adds a listener to be told about every change to the game's state from now on.
+	 * @param listener listener to add
+	 */
+	public void addListener(GameListener listener) {
+		events.addListener(listener);
+	}
+	
+	/**
+	 * Stops telling a listener about changes to the game's state.
+	 * @param listener listener to remove
+	 */
+	public void removeListener(GameListener listener) {
+		events.removeListener(listener);
+	}
+	
+	/**
+	 * Returns the journal the game is recorded in.
+	 * @return game's journal, or null if the game isn't journaled
+	 */
+	public GameJournal getJournal() {
+		return journal;
+	}
+	
+	/**
+	 * Returns the random number generator the game's events are decided with, for saving its state.
+	 * @return game's random number generator
+	 */
+	RandomSource getRandomGenerator() {
+		return randomGenerator;
+	}
+	
+	/**
+	 * Puts the game into the state of a saved game, after the saved islands, routes and ship have been restored.
+	 * @param name player's name
+	 * @param totalDays number of days the game lasts
+	 * @param daysLeft number of days left
+	 * @param gold player's gold
+	 * @param island current island
+	 * @param ship player's ship
+	 * @param goods ledger of the goods the player has bought
+	 * @param gameOver whether the game has ended
+	 * @param endReason reason the game ended, or null
+	 */
+	void restore(String name, int totalDays, int daysLeft, int gold, Island island, Ship ship, TradeLedger goods,
+			boolean gameOver, String endReason) {
+		this.name = name;
+		this.totalDays = totalDays;
+		this.daysLeft = daysLeft;
+		this.gold = gold;
+		this.island = island;
+		this.ship.setEvents(null);
+		this.ship = ship;
+		ship.setEvents(events);
+		this.goods = goods;
+		goods.setEvents(events);
+		this.gameOver = gameOver;
+		this.endReason = endReason;
+	}
+	
 	/**
 	 * If the player has enough gold and space for the item, the player is charged and it's added to the ship's cargo.
-	 * A copy is also added to the goods ArrayList.
+	 * It is also recorded in the goods ledger.
 	 * If successfully bought, true is returned, otherwise false.
 	 * @param item item to buy
 	 * @return true if successful, otherwise false
 	 */
 	public boolean buyItem(Item item) {
+		return buyItems(item, 1);
+	}
+	
+	/**
+	 * If the player has enough gold and space for the given quantity of the item, the player is charged once and
+	 * they're all added to the ship's cargo, otherwise nothing is bought.
+	 * Each unit costs what it would if the units before it had been bought one at a time, so buying in one trade
+	 * costs the same as buying one at a time. One lot for the whole quantity is recorded in the goods ledger at the
+	 * average price paid, and the market raises the price the store charges for the item afterwards.
+	 * If successfully bought, true is returned, otherwise false.
+	 * @param item item to buy
+	 * @param quantity number of the item to buy, nothing is bought unless it's from 1 to the maximum buy quantity
+	 * @return true if successful, otherwise false
+	 */
+	public boolean buyItems(Item item, int quantity) {
 		boolean bought = false;
-		if (gold >= item.getPrice() && ship.addCargo(item)) {
+		boolean current = isLiquidationValueCurrent();
+		int share = current ? getLiquidationShare(item.getName()) : 0;
+		// Checking against the maximum buy quantity divides the gold rather than multiplying the price,
+		// so a huge quantity can't overflow past the check
+		if (quantity > 0 && quantity <= getMaxBuyQuantity(item) && ship.addCargo(item, quantity)) {
 			bought = true;
-			gold -= item.getPrice();
-			
-			// Adds a copy of item to goods with the necessary constructor variables
-			// Note: price is passed in as basePrice since basePrice not needed
-			goods.add(new Item(item.getName(), item.getDesc(), item.getSize(), item.getPrice(), item.isWeapon()));
+			// The cost can't be more than the gold, since the quantity is no more than the player can afford
+			int cost = (int) market.getBuyCost(island.getStore(), item, quantity);
+			gold -= cost;
+			events.goldChanged(gold);
+			goods.buy(item.getName(), quantity, cost / quantity, island.getName(), totalDays - daysLeft);
+			market.recordPurchase(island.getStore(), item.getName(), quantity);
+			updateLiquidationValue(current, item.getName(), share);
+		}
+		if (journal != null) {
+			journal.buy(item.getName(), quantity, bought);
 		}
 		return bought;
 	}
 	
+	/**
+	 * Returns the largest quantity of the item the player has enough gold and cargo space to buy in one trade,
+	 * with each unit costing more than the last as the store's price rises.
+	 * @param item item to buy
+	 * @return largest quantity that can be bought
+	 */
+	public int getMaxBuyQuantity(Item item) {
+		// Ship.addCargo needs more space left than the items' total size
+		int bySpace = item.getSize() > 0 ? (ship.getSpaceLeft() - 1) / item.getSize() : Integer.MAX_VALUE;
+		int byGold = market.getAffordableQuantity(island.getStore(), item, gold);
+		return Math.max(0, Math.min(bySpace, byGold));
+	}
+	
 	/**
 	 * If the player's ship's cargo contains the item, the player is paid and the item is removed from their ship's cargo.
-	 * The first copy found in the goods ArrayList is also updated with its sell price and location.
+	 * The oldest unsold lot in the goods ledger is also updated with its sell price and location.
 	 * If successfully sold, true is returned, otherwise false.
 	 * @param item item to sell
 	 * @return true if successful, otherwise false
 	 */
 	public boolean sellItem(Item item) {
+		return sellItems(item, 1);
+	}
+	
+	/**
+	 * If the player's ship's cargo contains at least the given quantity of the item, the player is paid once and
+	 * they're all removed from their ship's cargo, otherwise nothing is sold.
+	 * Each unit fetches what it would if the units before it had been sold one at a time, so selling in one trade
+	 * pays the same as selling one at a time. The oldest unsold lots in the goods ledger are updated with the average
+	 * price received and the location, and the market lowers the price the store pays for the item afterwards.
+	 * If successfully sold, true is returned, otherwise false.
+	 * @param item item to sell
+	 * @param quantity number of the item to sell
+	 * @return true if successful, otherwise false
+	 */
+	public boolean sellItems(Item item, int quantity) {
 		boolean sold = false;
-		if (ship.removeCargo(item)) {
+		boolean current = isLiquidationValueCurrent();
+		int share = current ? getLiquidationShare(item.getName()) : 0;
+		if (quantity > 0 && ship.removeCargo(item, quantity)) {
 			sold = true;
-			gold += item.getPrice();
-			for (Item goodsItem : goods) {
-				
-				// Sets the first unsold occurrence of this item in goods to sold and stores the
-				// sell price and location
-				if (goodsItem.getName().equals(item.getName()) && goodsItem.getSoldAt() == null) {
-					goodsItem.setSoldAt(island.getName());
-					goodsItem.setSoldFor(item.getPrice());
-					break;
-				}
-			}
+			long value = market.getSaleValue(island.getStore(), item, quantity);
+			gold = (int) Math.min(Integer.MAX_VALUE, gold + value);
+			events.goldChanged(gold);
+			goods.sell(item.getName(), quantity, (int) (value / quantity), island.getName(), totalDays - daysLeft);
+			market.recordSale(island.getStore(), item.getName(), quantity);
+			updateLiquidationValue(current, item.getName(), share);
+		}
+		if (journal != null) {
+			journal.sell(item.getName(), quantity, sold);
 		}
 		return sold;
 	}
 	
+	/**
+	 * Returns the gold the current island's store would pay for all of the ship's cargo at its current prices,
+	 * which can be more than one trade would fetch for it, since prices fall as each unit is sold.
+	 * The value is only worked out from scratch after travelling, when the store's prices have moved other than
+	 * by a trade, or when the cargo has been changed other than by buying and selling, such as by pirates.
+	 * @return gold from selling all the cargo that the store buys
+	 */
+	public int getLiquidationValue() {
+		if (!isLiquidationValueCurrent()) {
+			CargoHold cargo = ship.getCargoHold();
+			Store store = island.getStore();
+			liquidationValue = 0;
+			for (Item item : store.getSells()) {
+				liquidationValue += item.getPrice() * cargo.count(item.getName());
+			}
+			liquidationIsland = island;
+			liquidationHold = cargo;
+			liquidationModCount = cargo.getModCount();
+			liquidationPriceVersion = store.getPriceVersion();
+		}
+		return liquidationValue;
+	}
+	
+	/**
+	 * Returns true if the liquidation value was worked out for the current island and ship,
+	 * and neither the cargo nor the store's prices have changed since.
+	 * @return true if the liquidation value is up to date
+	 */
+	private boolean isLiquidationValueCurrent() {
+		CargoHold cargo = ship.getCargoHold();
+		return liquidationIsland == island && liquidationHold == cargo && liquidationModCount == cargo.getModCount()
+				&& liquidationPriceVersion == island.getStore().getPriceVersion();
+	}
+	
+	/**
+	 * Returns the gold the current island's store would pay for all of the ship's cargo with the given name.
+	 * @param name item's name
+	 * @return gold from selling the items, or 0 if the store doesn't buy them
+	 */
+	private int getLiquidationShare(String name) {
+		int price = island.getStore().getSellPrice(name);
+		return price > 0 ? price * ship.getCargoHold().count(name) : 0;
+	}
+	
+	/**
+	 * Replaces the traded item's old share of the liquidation value with its share at the new quantity and price,
+	 * if the value was up to date before the trade. A trade only reprices the traded item, so the rest of the value
+	 * still holds and it's marked up to date with the store's new prices.
+	 * @param current true if the liquidation value was up to date before the trade
+	 * @param name name of the item traded
+	 * @param share item's share of the liquidation value before the trade
+	 */
+	private void updateLiquidationValue(boolean current, String name, int share) {
+		CargoHold cargo = ship.getCargoHold();
+		// A listener told about the trade may have already worked the value out again from scratch
+		if (current && liquidationModCount != cargo.getModCount()) {
+			liquidationValue += getLiquidationShare(name) - share;
+			liquidationModCount = cargo.getModCount();
+			liquidationPriceVersion = island.getStore().getPriceVersion();
+		}
+	}
+	
 	/** 
 	 * Attempts to repair ship, but fails if the player doesn't have enough gold.
 	 * @return true if successful, otherwise false
@@ -313,9 +638,13 @@ public class GameEnvironment {
 		int cost = ship.getRepairCost();
 		if (gold > cost) {
 			gold -= cost;
+			events.goldChanged(gold);
 			ship.setHealth(ship.getMaxHealth());
 			repaired = true;
 		}
+		if (journal != null) {
+			journal.repair(repaired);
+		}
 		return repaired;
 	}
 	
@@ -335,10 +664,18 @@ public class GameEnvironment {
 	 */
 	public double getTravelCost(Route route) {
 		int daysTaken = route.getDays(ship.getSpeed());
-		return daysTaken * ship.getCrew() * WAGE_MODIFIER;
+		return daysTaken * getDailyWages();
 		
 	}
 	
+	/**
+	 * Returns the wages paid to the crew for each day spent traveling.
+	 * @return crew's daily wages
+	 */
+	public double getDailyWages() {
+		return ship.getCrew() * WAGE_MODIFIER;
+	}
+	
 	/**
 	 * Returns true if there are enough days left for the player to travel along route, otherwise false.
 	 * @param route the route to travel on
@@ -355,8 +692,8 @@ public class GameEnvironment {
 
 	/** 
 	 * Decreases the number of days by the days of the route, decreases gold by the crew's wages,
-	 * possibly encounters random events if the user interface is text based, 
-	 * and changes island to the destination of the route.
+	 * possibly encounters random events if the user interface is text based, lets the market recover
+	 * for the days travelled, and changes island to the destination of the route.
 	 * @param route the route to travel on
 	 */
 	public void travelRoute(Route route) {
@@ -364,15 +701,17 @@ public class GameEnvironment {
 			if (route.encounterPirates()) {
 				ui.pirateEncounter(route);
 			}
-			if (route.encounterWeatherEvent()) {
+			// Encounters are still drawn once the game is over, so the same random numbers are used either way
+			if (route.encounterWeatherEvent() && !gameOver) {
 				ui.weatherEncounter(route);
 			}
-			if (route.encounterLostSailors()) {
+			if (route.encounterLostSailors() && !gameOver) {
 				ui.sailorEncounter(route);
 			}
 		}
 		int daysTaken = route.getDays(ship.getSpeed());
 		this.daysLeft -= daysTaken;
+		market.advance(daysTaken);
 		this.gold -= getTravelCost(route); // Charges crew wages
 		
 		Island[] islands = route.getIslands();	
@@ -382,6 +721,11 @@ public class GameEnvironment {
 		} else {
 			island = islands[1];
 		}
+		events.goldChanged(gold);
+		events.islandChanged(island, daysLeft);
+		if (journal != null) {
+			journal.travel(route, daysLeft);
+		}
 	}
 	
 	/**
@@ -389,45 +733,69 @@ public class GameEnvironment {
 	 * @return true if pirate's are satisfied, otherwise false.
 	 */
 	public boolean pirateLossOutcome() {
-		int totalValue = 0;
-		for (Item item : ship.getCargo()) {
-			totalValue += item.getBasePrice();
-		}
+		int totalValue = ship.getCargoValue();
 		ship.emptyCargo(); // Pirates steal all goods
-		return totalValue > PIRATE_CARGO_THRESHOLD;
+		boolean satisfied = totalValue > PIRATE_CARGO_THRESHOLD;
+		if (journal != null) {
+			journal.pirateLoss(satisfied);
+		}
+		return satisfied;
 	}
 	
 	/**
 	 * Simulates player turn in a battle.
-	 * @param pirateShip
-	 * @return
+	 * @param pirateShip pirate ship being fought
+	 * @return text describing the turn
 	 */
 	public String playerTurn(Ship pirateShip) {
-		Ship playerShip = this.getShip();
-		String battleText = "";
-		Random randomGenerator = new Random();
-		// Player Turn
-		battleText += "Your Turn:\n";
-					
-		for (Item item : playerShip.getWeapons()) {
-			Weapon weapon = (Weapon) item; 
-			battleText += "\tFiring " + weapon.getName()+"!\n";
-			for (int i = 0; i < weapon.shots(); i++) {
-			int damage = randomGenerator.nextInt(weapon.damage());
-			if (damage > 0) {
-				int resisted = randomGenerator.nextInt(pirateShip.getEndurance());
-				resisted = Math.min(resisted, damage);
-				battleText += "\t"+resisted+" damage resisted by pirate ship\n";
-				battleText += "\t"+(damage-resisted)+" damage dealt to pirate ship\n";
-				pirateShip.setHealth(pirateShip.getHealth() - damage + resisted);
+		BattleLog log = new BattleLog();
+		playerTurn(pirateShip, log);
+		return log.toString();
+	}
+	
+	/**
+	 * Simulates player turn in a battle, recording what happens in the given log.
+	 * @param pirateShip pirate ship being fought
+	 * @param log battle log to record the turn in, or null if nothing needs to be recorded
+	 */
+	public void playerTurn(Ship pirateShip, BattleLog log) {
+		fireWeapons(ship, pirateShip, false, log);
+		if (journal != null) {
+			journal.playerTurn(pirateShip.getHealth());
+		}
+	}
+	
+	/**
+	 * Fires every weapon on the attacking ship at the defending ship, rolling each shot's damage and how much of it
+	 * is resisted. Nothing is allocated for the shots, so battles without a user interface don't create garbage.
+	 * @param attacker ship firing
+	 * @param defender ship being fired at
+	 * @param pirates true if the pirates are firing
+	 * @param log battle log to record the shots in, or null if nothing needs to be recorded
+	 */
+	private void fireWeapons(Ship attacker, Ship defender, boolean pirates, BattleLog log) {
+		if (log != null) {
+			log.turn(pirates);
+		}
+		ArrayList<Item> weapons = attacker.getWeapons();
+		for (int w = 0; w < weapons.size(); w++) {
+			Weapon weapon = (Weapon) weapons.get(w);
+			if (log != null) {
+				log.fire(pirates, weapon);
 			}
-			else {
-				battleText += "\tThe shot missed the pirate ship\n";
+			for (int i = 0; i < weapon.shots(); i++) {
+				int damage = randomGenerator.nextInt(weapon.damage());
+				int resisted = 0;
+				if (damage > 0) {
+					resisted = randomGenerator.nextInt(defender.getEndurance());
+					resisted = Math.min(resisted, damage);
+					defender.setHealth(defender.getHealth() - damage + resisted);
+				}
+				if (log != null) {
+					log.shot(pirates, weapon, damage, resisted);
+				}
 			}
-			}	
-		
 		}
-		return battleText;
 	}
 	
 	/**
@@ -435,46 +803,39 @@ public class GameEnvironment {
 	 * @return pirate ship
 	 */
 	public Ship generatePirateShip() {
-		Random randomGenerator = new Random();
-		ArrayList<Ship> ships = ObjectsListGenerator.generateShip();
-		int shipInt = randomGenerator.nextInt(ships.size());
-		Ship pirateShip = ships.get(shipInt);
-		ArrayList<Item> weapons = ObjectsListGenerator.generateWeapon();
+		GameCatalog catalog = GameCatalog.getInstance();
+		int shipInt = randomGenerator.nextInt(catalog.getShipCount());
+		Ship pirateShip = catalog.createShip(shipInt);
 		pirateShip.emptyCargo();
-		int weaponInt = randomGenerator.nextInt(weapons.size());
-		Item weapon = weapons.get(weaponInt);
+		int weaponInt = randomGenerator.nextInt(catalog.getWeaponCount());
+		Item weapon = catalog.createWeapon(weaponInt);
 		pirateShip.addCargo(weapon);
+		if (journal != null) {
+			journal.pirateShip(pirateShip.getHealth());
+		}
 		return pirateShip;	
 	}
 	/**
 	 * Simulates pirate turn in a battle.
-	 * @param pirateShip
-	 * @return
+	 * @param pirateShip pirate ship being fought
+	 * @return text describing the turn
 	 */
 	public String pirateTurn(Ship pirateShip) {
-		Ship playerShip = this.getShip();
-		String battleText = "";
-		Random randomGenerator = new Random();
-		// Pirate Turn
-		battleText += "Pirate Turn:\n";
-		for (Item item : pirateShip.getWeapons()) {
-			Weapon weapon = (Weapon) item; 
-			battleText += "\tFiring " + weapon.getName()+"!\n";
-			for (int i = 0; i < weapon.shots(); i++) {
-				int damage = randomGenerator.nextInt(weapon.damage());
-				if (damage > 0) {
-					int resisted = randomGenerator.nextInt(playerShip.getEndurance());
-					resisted = Math.min(resisted, damage);
-					battleText += "\t"+resisted+" damage resisted by your ship\n";
-					battleText += "\t"+(damage-resisted)+" damage dealt to your ship\n";
-					playerShip.setHealth(playerShip.getHealth() - damage + resisted);
-				}
-				else {
-					battleText += "\tThe shot missed your ship\n";
-				}
-			}			
+		BattleLog log = new BattleLog();
+		pirateTurn(pirateShip, log);
+		return log.toString();
+	}
+	
+	/**
+	 * Simulates pirate turn in a battle, recording what happens in the given log.
+	 * @param pirateShip pirate ship being fought
+	 * @param log battle log to record the turn in, or null if nothing needs to be recorded
+	 */
+	public void pirateTurn(Ship pirateShip, BattleLog log) {
+		fireWeapons(pirateShip, ship, true, log);
+		if (journal != null) {
+			journal.pirateTurn(ship.getHealth());
 		}
-		return battleText;
 	}
 	
 	/**
@@ -482,45 +843,35 @@ public class GameEnvironment {
 	 * @return damage done to the player's ship
 	 */
 	public int pirateEvent() {
-		Random randomGenerator = new Random();
+		return pirateEvent(null);
+	}
+	
+	/**
+	 * Simulates a battle between the player and the pirate's ship, recording every shot in the given log.
+	 * @param log battle log to record the battle in, or null if nothing needs to be recorded
+	 * @return damage done to the player's ship
+	 */
+	public int pirateEvent(BattleLog log) {
 		// Generate enemy ship
-		ArrayList<Ship> ships = ObjectsListGenerator.generateShip();
-		int shipInt = randomGenerator.nextInt(ships.size());
-		Ship pirateShip = ships.get(shipInt);
-		Ship playerShip = ship;
-		int initialHealth = playerShip.getHealth();
+		GameCatalog catalog = GameCatalog.getInstance();
+		int shipInt = randomGenerator.nextInt(catalog.getShipCount());
+		Ship pirateShip = catalog.createShip(shipInt);
+		int initialHealth = ship.getHealth();
 		
 		// Player and pirate take turns rolling dice
-		while (playerShip.getHealth() > 0 && pirateShip.getHealth() > 0) {
-			// Player Turn
-			for (Item item : playerShip.getWeapons()) {
-				Weapon weapon = (Weapon) item; 
-				for (int i = 0; i < weapon.shots(); i++) {
-					int damage = randomGenerator.nextInt(weapon.damage());
-					if (damage > 0) {
-						int resisted = randomGenerator.nextInt(pirateShip.getEndurance());
-						resisted = Math.min(resisted, damage);
-						pirateShip.setHealth(pirateShip.getHealth() - damage + resisted);
-					}
-				}				
-			}
+		// Turns are fired directly so the journal records the battle as one event
+		while (ship.getHealth() > 0 && pirateShip.getHealth() > 0) {
+			fireWeapons(ship, pirateShip, false, log);
 			if (pirateShip.getHealth() <= 0){
 				break;
 			}
-			// Pirate Turn
-			for (Item item : pirateShip.getWeapons()) {
-				Weapon weapon = (Weapon) item; 
-				for (int i = 0; i < weapon.shots(); i++) {
-					int damage = randomGenerator.nextInt(weapon.damage());
-					if (damage > 0) {
-						int resisted = randomGenerator.nextInt(playerShip.getEndurance());
-						resisted = Math.min(resisted, damage);
-						playerShip.setHealth(playerShip.getHealth() - damage + resisted);
-					}
-				}				
-			}
+			fireWeapons(pirateShip, ship, true, log);
+		}
+		int damage = initialHealth - ship.getHealth();
+		if (journal != null) {
+			journal.pirateBattle(damage);
 		}
-		return initialHealth - playerShip.getHealth();
+		return damage;
 	}
 
 	
@@ -529,10 +880,12 @@ public class GameEnvironment {
 	 * @return amount of damage
 	 */
 	public int weatherEvent() {
-		Random randomGenerator = new Random();
 		// Deal random damage between a range
 		int damage = randomGenerator.nextInt(MAX_WEATHER_DAMAGE - MIN_WEATHER_DAMAGE) + MIN_WEATHER_DAMAGE;
 		ship.setHealth(ship.getHealth() - damage);
+		if (journal != null) {
+			journal.weather(damage);
+		}
 		return damage;
 	}
 	
@@ -541,10 +894,13 @@ public class GameEnvironment {
 	 * @return reward amount
 	 */
 	public int sailorEvent() {
-		Random randomGenerator = new Random();
 		// Give monetary reward between a range
 		int reward = randomGenerator.nextInt(MAX_SAILOR_REWARD - MIN_SAILOR_REWARD) + MIN_SAILOR_REWARD;
-		setGold(gold + reward);
+		gold += reward;
+		events.goldChanged(gold);
+		if (journal != null) {
+			journal.sailors(reward);
+		}
 		return reward;
 	}
 	/**
@@ -573,6 +929,9 @@ public class GameEnvironment {
 	 */
 	public void setGameOver() {
 		this.gameOver = true;
+		if (journal != null) {
+			journal.end(endReason);
+		}
 	}
 	
 	/**
@@ -581,28 +940,18 @@ public class GameEnvironment {
 	 */
 	public boolean checkCanTravel() {
 		
-		ArrayList<Route> routes = island.getRoutes();
+		Route[] routes = island.getRoutesByDays();
 		
-		// Calculate gold that can be made by selling cargo
-		ArrayList<Item> storeSell = island.getStore().getSells();
-		int storeGold = 0;
-		for (Item item1: storeSell) {
-			for (Item item2: ship.getCargo()) {
-				if (item1.getName().equals(item2.getName())){
-					storeGold += item1.getPrice();
-				}
-			}
-		}
 		// Check that it is possible to travel at least one route with max gold 
 		// selling items and repairing ship
-		int goldAfterAction = gold - ship.getRepairCost() + storeGold;
+		int goldAfterAction = gold - ship.getRepairCost() + getLiquidationValue();
 		boolean canTravel = false;
-		for (Route route: routes) {
+		// The route with the fewest base days takes the fewest days and costs the least, so if it can't be
+		// travelled then none can
+		if (routes.length > 0) {
+			Route route = routes[0];
 			int days = route.getDays(ship.getSpeed());
-			if (days <= daysLeft && getTravelCost(route) <= goldAfterAction ) {
-				canTravel = true;
-				break;	
-			}
+			canTravel = days <= daysLeft && getTravelCost(route) <= goldAfterAction;
 		}
 		return canTravel;
 	}
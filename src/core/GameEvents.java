@@ -0,0 +1,138 @@
+package core;
+import java.util.Arrays;
+
+/**
+ * This class passes changes to a game's state on to the game's listeners. The game, the player's ship, the market
+ * and the goods ledger each tell it about the changes they make, so a change is published however it's made.
+ * The listeners are kept in an array that's replaced rather than changed, so a listener can be added or removed
+ * while changes are being passed on, and a change costs nothing but a loop when nobody is listening.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+final class GameEvents {
+	
+	/**
+	 * Listeners the changes are passed on to, in the order they were added.
+	 */
+	private GameListener[] listeners = new GameListener[0];
+	
+	/**
+	 * Adds a listener to be told about every change from now on.
+	 * @param listener listener to add
+	 */
+	void addListener(GameListener listener) {
+		GameListener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+		added[listeners.length] = listener;
+		listeners = added;
+	}
+	
+	/**
+	 * Stops telling a listener about changes. Nothing happens if it isn't listening.
+	 * @param listener listener to remove
+	 */
+	void removeListener(GameListener listener) {
+		for (int i = 0; i < listeners.length; i++) {
+			if (listeners[i] == listener) {
+				GameListener[] removed = new GameListener[listeners.length - 1];
+				System.arraycopy(listeners, 0, removed, 0, i);
+				System.arraycopy(listeners, i + 1, removed, i, removed.length - i);
+				listeners = removed;
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Tells the listeners the player's gold changed.
+	 * @param gold player's new gold
+	 */
+	void goldChanged(int gold) {
+		for (GameListener listener : listeners) {
+			listener.goldChanged(gold);
+		}
+	}
+	
+	/**
+	 * Tells the listeners the player arrived at an island.
+	 * @param island island the player is now at
+	 * @param daysLeft number of days left
+	 */
+	void islandChanged(Island island, int daysLeft) {
+		for (GameListener listener : listeners) {
+			listener.islandChanged(island, daysLeft);
+		}
+	}
+	
+	/**
+	 * Tells the listeners items were added to the player's cargo.
+	 * @param name name of the items
+	 * @param index index of the first new item
+	 * @param quantity number of items added
+	 */
+	void cargoAdded(String name, int index, int quantity) {
+		for (GameListener listener : listeners) {
+			listener.cargoAdded(name, index, quantity);
+		}
+	}
+	
+	/**
+	 * Tells the listeners items were removed from the player's cargo.
+	 * @param name name of the items
+	 * @param index index the first removed item had
+	 * @param quantity number of items removed
+	 */
+	void cargoRemoved(String name, int index, int quantity) {
+		for (GameListener listener : listeners) {
+			listener.cargoRemoved(name, index, quantity);
+		}
+	}
+	
+	/**
+	 * Tells the listeners all of the player's cargo was lost.
+	 */
+	void cargoCleared() {
+		for (GameListener listener : listeners) {
+			listener.cargoCleared();
+		}
+	}
+	
+	/**
+	 * Tells the listeners the health of the player's ship changed.
+	 * @param health ship's new health
+	 */
+	void healthChanged(int health) {
+		for (GameListener listener : listeners) {
+			listener.healthChanged(health);
+		}
+	}
+	
+	/**
+	 * Tells the listeners the market changed a store's prices.
+	 * @param store store whose prices changed
+	 */
+	void pricesChanged(Store store) {
+		for (GameListener listener : listeners) {
+			listener.pricesChanged(store);
+		}
+	}
+	
+	/**
+	 * Tells the listeners a lot was added to the goods ledger.
+	 * @param lot index of the new lot
+	 */
+	void goodsAdded(int lot) {
+		for (GameListener listener : listeners) {
+			listener.goodsAdded(lot);
+		}
+	}
+	
+	/**
+	 * Tells the listeners a lot in the goods ledger was sold.
+	 * @param lot index of the lot
+	 */
+	void goodsChanged(int lot) {
+		for (GameListener listener : listeners) {
+			listener.goodsChanged(lot);
+		}
+	}
+}
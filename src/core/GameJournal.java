@@ -0,0 +1,692 @@
+package core;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * This class records every command that changes a game's state, and the outcome of every random event,
+ * in an append-only journal, so a game can be audited afterwards and rebuilt exactly by replaying it.
+ * A journal only needs the game's starting random number generator state, because replaying the same commands
+ * draws the same random numbers. The recorded outcomes are checked as the journal is replayed, so replaying
+ * old journals after the rules change shows which games now play out differently.
+ * Entries are kept in columns of primitive arrays like the trade ledger, with strings stored once and
+ * routes referred to by number.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class GameJournal {
+
+	/**
+	 * Entry for the player's name, number of days and ship being chosen.
+	 */
+	private static final int SETUP = 0;
+
+	/**
+	 * Entry for items being bought.
+	 */
+	private static final int BUY = 1;
+
+	/**
+	 * Entry for items being sold.
+	 */
+	private static final int SELL = 2;
+
+	/**
+	 * Entry for the ship being repaired.
+	 */
+	private static final int REPAIR = 3;
+
+	/**
+	 * Entry for a route being travelled along.
+	 */
+	private static final int TRAVEL = 4;
+
+	/**
+	 * Entry for a route's roll for a random event.
+	 */
+	private static final int ENCOUNTER = 5;
+
+	/**
+	 * Entry for a pirate ship being generated for a battle fought turn by turn.
+	 */
+	private static final int PIRATE_SHIP = 6;
+
+	/**
+	 * Entry for the player's turn against the generated pirate ship.
+	 */
+	private static final int PLAYER_TURN = 7;
+
+	/**
+	 * Entry for the pirates' turn with the generated pirate ship.
+	 */
+	private static final int PIRATE_TURN = 8;
+
+	/**
+	 * Entry for a whole pirate battle.
+	 */
+	private static final int PIRATE_BATTLE = 9;
+
+	/**
+	 * Entry for the pirates taking the cargo after winning a battle.
+	 */
+	private static final int PIRATE_LOSS = 10;
+
+	/**
+	 * Entry for bad weather damaging the ship.
+	 */
+	private static final int WEATHER = 11;
+
+	/**
+	 * Entry for lost sailors rewarding the player.
+	 */
+	private static final int SAILORS = 12;
+
+	/**
+	 * Entry for the player losing all their gold.
+	 */
+	private static final int LOSE_GOLD = 13;
+
+	/**
+	 * Entry for the player's gold being set.
+	 */
+	private static final int SET_GOLD = 14;
+
+	/**
+	 * Entry for the ship's cargo being lost.
+	 */
+	private static final int LOSE_CARGO = 15;
+
+	/**
+	 * Entry for the game ending.
+	 */
+	private static final int END = 16;
+
+	/**
+	 * Route encounter with pirates.
+	 */
+	static final int ENCOUNTER_PIRATES = 0;
+
+	/**
+	 * Route encounter with bad weather.
+	 */
+	static final int ENCOUNTER_WEATHER = 1;
+
+	/**
+	 * Route encounter with lost sailors.
+	 */
+	static final int ENCOUNTER_SAILORS = 2;
+
+	/**
+	 * Number that starts every journal file.
+	 */
+	private static final int MAGIC = 0x4954534A;
+
+	/**
+	 * Version of the journal format, increased whenever the layout changes.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * String number recorded for a null string.
+	 */
+	private static final int NO_STRING = -1;
+
+	/**
+	 * Number of entries the columns start with room for.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Seed of the game's random number generator before the game was created.
+	 */
+	private long seed;
+
+	/**
+	 * Gamma of the game's random number generator before the game was created.
+	 */
+	private long gamma;
+
+	/**
+	 * ArrayList index of the starting island.
+	 */
+	private int islandIndex;
+
+	/**
+	 * Amount of gold the player started with.
+	 */
+	private int startingGold;
+
+	/**
+	 * Whether the market was enabled when the game was set up.
+	 */
+	private boolean marketEnabled = true;
+
+	/**
+	 * Whether the journal has been given a game to record.
+	 */
+	private boolean started;
+
+	/**
+	 * Number of each string recorded.
+	 */
+	private final HashMap<String, Integer> stringIds = new HashMap<String, Integer>();
+
+	/**
+	 * Strings recorded, by number.
+	 */
+	private final ArrayList<String> strings = new ArrayList<String>();
+
+	/**
+	 * Number of each route in the recorded game.
+	 */
+	private final HashMap<Route, Integer> routeIds = new HashMap<Route, Integer>();
+
+	/**
+	 * Kind of each entry.
+	 */
+	private int[] kinds = new int[INITIAL_CAPACITY];
+
+	/**
+	 * First argument of each entry.
+	 */
+	private int[] firsts = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Second argument of each entry.
+	 */
+	private int[] seconds = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Outcome of each entry, checked when replaying.
+	 */
+	private int[] outcomes = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Number of entries in the journal.
+	 */
+	private int size;
+
+	/**
+	 * Reads a journal from a file written by write.
+	 * @param file file to read from
+	 * @return journal read
+	 * @throws IOException if the file can't be read or isn't a journal
+	 */
+	public static GameJournal read(File file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not an Island Trader journal");
+			}
+			int version = in.readInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported journal version " + version);
+			}
+			GameJournal journal = new GameJournal();
+			journal.started = true;
+			journal.seed = in.readLong();
+			journal.gamma = in.readLong();
+			journal.islandIndex = SaveGame.readInt(in);
+			journal.startingGold = SaveGame.readInt(in);
+			journal.marketEnabled = in.readBoolean();
+			for (int count = SaveGame.readInt(in); count > 0; count--) {
+				journal.stringId(in.readUTF());
+			}
+			for (int count = SaveGame.readInt(in); count > 0; count--) {
+				int kind = in.readUnsignedByte();
+				int first = SaveGame.readInt(in);
+				int second = SaveGame.readInt(in);
+				journal.add(kind, first, second, SaveGame.readInt(in));
+			}
+			return journal;
+		} catch (RuntimeException e) {
+			throw new IOException("Journal file is damaged", e);
+		}
+	}
+
+	/**
+	 * Writes the journal to a file in one buffered pass, with integers written as variable-length numbers.
+	 * @param file file to write to
+	 * @throws IOException if the file can't be written
+	 */
+	public void write(File file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(seed);
+			out.writeLong(gamma);
+			SaveGame.writeInt(out, islandIndex);
+			SaveGame.writeInt(out, startingGold);
+			out.writeBoolean(marketEnabled);
+			SaveGame.writeInt(out, strings.size());
+			for (String string : strings) {
+				out.writeUTF(string);
+			}
+			SaveGame.writeInt(out, size);
+			for (int i = 0; i < size; i++) {
+				out.writeByte(kinds[i]);
+				SaveGame.writeInt(out, firsts[i]);
+				SaveGame.writeInt(out, seconds[i]);
+				SaveGame.writeInt(out, outcomes[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of entries in the journal.
+	 * @return number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Rebuilds the recorded game by replaying every entry in a new game without a user interface.
+	 * The game is created from the recorded random number generator state, so every command draws the same
+	 * random numbers it did when it was recorded.
+	 * @return game in the state it was in after the last entry
+	 * @throws IllegalStateException if an entry's outcome isn't the one recorded, naming the first entry that differs
+	 */
+	public GameEnvironment replay() {
+		RandomSource randomGenerator = new RandomSource(0);
+		randomGenerator.restore(seed, gamma);
+		GameEnvironment game = new GameEnvironment(null, islandIndex, startingGold, randomGenerator);
+		ArrayList<Route> routes = SaveGame.collectRoutes(game.getIslands());
+		Ship pirateShip = null;
+		for (int i = 0; i < size; i++) {
+			int first = firsts[i];
+			int second = seconds[i];
+			int outcome;
+			switch (kinds[i]) {
+				case SETUP:
+					game.getMarket().setEnabled(marketEnabled);
+					game.finishSetup(strings.get(first), second, game.getShips().get(outcomes[i]));
+					outcome = outcomes[i];
+					break;
+				case BUY:
+					outcome = flag(game.buyItems(findItem(game.getStore().getBuys(), strings.get(first), i), second));
+					break;
+				case SELL:
+					outcome = flag(game.sellItems(findItem(game.getStore().getSells(), strings.get(first), i), second));
+					break;
+				case REPAIR:
+					outcome = flag(game.repairShip());
+					break;
+				case TRAVEL:
+					game.travelRoute(routes.get(first));
+					outcome = game.getDaysLeft();
+					break;
+				case ENCOUNTER:
+					outcome = flag(encounter(routes.get(first), second));
+					break;
+				case PIRATE_SHIP:
+					pirateShip = game.generatePirateShip();
+					outcome = pirateShip.getHealth();
+					break;
+				case PLAYER_TURN:
+					game.playerTurn(pirateShip, null);
+					outcome = pirateShip.getHealth();
+					break;
+				case PIRATE_TURN:
+					game.pirateTurn(pirateShip, null);
+					outcome = game.getShip().getHealth();
+					break;
+				case PIRATE_BATTLE:
+					outcome = game.pirateEvent();
+					break;
+				case PIRATE_LOSS:
+					outcome = flag(game.pirateLossOutcome());
+					break;
+				case WEATHER:
+					outcome = game.weatherEvent();
+					break;
+				case SAILORS:
+					outcome = game.sailorEvent();
+					break;
+				case LOSE_GOLD:
+					game.loseGold();
+					outcome = 0;
+					break;
+				case SET_GOLD:
+					game.setGold(first);
+					outcome = 0;
+					break;
+				case LOSE_CARGO:
+					game.loseCargo();
+					outcome = 0;
+					break;
+				default:
+					game.endGame(first == NO_STRING ? null : strings.get(first));
+					outcome = 0;
+			}
+			if (outcome != outcomes[i]) {
+				throw new IllegalStateException("Replay differs from the journal at entry " + i + " (" + describe(i)
+						+ "): expected " + outcomes[i] + " but was " + outcome);
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Returns every entry in the journal, one per line.
+	 * @return journal text
+	 */
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			text.append(i).append(": ").append(describe(i)).append(" -> ").append(outcomes[i]).append('\n');
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Starts recording a new game. Called by the game before it draws any random numbers.
+	 * @param randomGenerator game's random number generator
+	 * @param islandIndex ArrayList index of the starting island
+	 * @param gold starting gold amount
+	 * @throws IllegalStateException if the journal is already recording a game
+	 */
+	void begin(RandomSource randomGenerator, int islandIndex, int gold) {
+		if (started) {
+			throw new IllegalStateException("Journal has already recorded a game");
+		}
+		started = true;
+		seed = randomGenerator.getSeed();
+		gamma = randomGenerator.getGamma();
+		this.islandIndex = islandIndex;
+		startingGold = gold;
+	}
+
+	/**
+	 * Numbers the game's routes and has them record their random event rolls, once the game's routes are made.
+	 * @param islands islands in the game
+	 */
+	void attachRoutes(ArrayList<Island> islands) {
+		ArrayList<Route> routes = SaveGame.collectRoutes(islands);
+		for (int i = 0; i < routes.size(); i++) {
+			routeIds.put(routes.get(i), i);
+			routes.get(i).setJournal(this);
+		}
+	}
+
+	/**
+	 * Records the game being set up.
+	 * @param name player's name
+	 * @param days number of days the game lasts
+	 * @param shipIndex index of the chosen ship in the game's ships
+	 * @param market whether the market is enabled
+	 */
+	void setup(String name, int days, int shipIndex, boolean market) {
+		marketEnabled = market;
+		add(SETUP, stringId(name), days, shipIndex);
+	}
+
+	/**
+	 * Records items being bought.
+	 * @param itemName name of the item
+	 * @param quantity number of the item
+	 * @param bought whether they were bought
+	 */
+	void buy(String itemName, int quantity, boolean bought) {
+		add(BUY, stringId(itemName), quantity, flag(bought));
+	}
+
+	/**
+	 * Records items being sold.
+	 * @param itemName name of the item
+	 * @param quantity number of the item
+	 * @param sold whether they were sold
+	 */
+	void sell(String itemName, int quantity, boolean sold) {
+		add(SELL, stringId(itemName), quantity, flag(sold));
+	}
+
+	/**
+	 * Records the ship being repaired.
+	 * @param repaired whether it was repaired
+	 */
+	void repair(boolean repaired) {
+		add(REPAIR, 0, 0, flag(repaired));
+	}
+
+	/**
+	 * Records a route being travelled along, after any random events that happened on the way.
+	 * @param route route travelled along
+	 * @param daysLeft days left after travelling
+	 */
+	void travel(Route route, int daysLeft) {
+		add(TRAVEL, routeIds.get(route), 0, daysLeft);
+	}
+
+	/**
+	 * Records a route's roll for a random event.
+	 * @param route route rolling
+	 * @param encounter kind of encounter rolled for
+	 * @param encountered whether the event happens
+	 */
+	void encounter(Route route, int encounter, boolean encountered) {
+		add(ENCOUNTER, routeIds.get(route), encounter, flag(encountered));
+	}
+
+	/**
+	 * Records a pirate ship being generated.
+	 * @param health pirate ship's health
+	 */
+	void pirateShip(int health) {
+		add(PIRATE_SHIP, 0, 0, health);
+	}
+
+	/**
+	 * Records the player's turn against the generated pirate ship.
+	 * @param pirateHealth pirate ship's health afterwards
+	 */
+	void playerTurn(int pirateHealth) {
+		add(PLAYER_TURN, 0, 0, pirateHealth);
+	}
+
+	/**
+	 * Records the pirates' turn with the generated pirate ship.
+	 * @param health player's ship's health afterwards
+	 */
+	void pirateTurn(int health) {
+		add(PIRATE_TURN, 0, 0, health);
+	}
+
+	/**
+	 * Records a whole pirate battle.
+	 * @param damage damage done to the player's ship
+	 */
+	void pirateBattle(int damage) {
+		add(PIRATE_BATTLE, 0, 0, damage);
+	}
+
+	/**
+	 * Records the pirates taking the cargo.
+	 * @param satisfied whether the pirates were satisfied
+	 */
+	void pirateLoss(boolean satisfied) {
+		add(PIRATE_LOSS, 0, 0, flag(satisfied));
+	}
+
+	/**
+	 * Records bad weather damaging the ship.
+	 * @param damage damage done
+	 */
+	void weather(int damage) {
+		add(WEATHER, 0, 0, damage);
+	}
+
+	/**
+	 * Records lost sailors rewarding the player.
+	 * @param reward gold given
+	 */
+	void sailors(int reward) {
+		add(SAILORS, 0, 0, reward);
+	}
+
+	/**
+	 * Records the player losing all their gold.
+	 */
+	void loseGold() {
+		add(LOSE_GOLD, 0, 0, 0);
+	}
+
+	/**
+	 * Records the player's gold being set.
+	 * @param gold new gold amount
+	 */
+	void setGold(int gold) {
+		add(SET_GOLD, gold, 0, 0);
+	}
+
+	/**
+	 * Records the ship's cargo being lost.
+	 */
+	void loseCargo() {
+		add(LOSE_CARGO, 0, 0, 0);
+	}
+
+	/**
+	 * Records the game ending.
+	 * @param reason reason the game ended, or null
+	 */
+	void end(String reason) {
+		add(END, reason == null ? NO_STRING : stringId(reason), 0, 0);
+	}
+
+	/**
+	 * Rolls a route for the given kind of encounter.
+	 * @param route route to roll
+	 * @param encounter kind of encounter
+	 * @return true if the event happens
+	 */
+	private static boolean encounter(Route route, int encounter) {
+		switch (encounter) {
+			case ENCOUNTER_PIRATES:
+				return route.encounterPirates();
+			case ENCOUNTER_WEATHER:
+				return route.encounterWeatherEvent();
+			default:
+				return route.encounterLostSailors();
+		}
+	}
+
+	/**
+	 * Returns the item with the given name in a store's list.
+	 * @param items store's items
+	 * @param name item's name
+	 * @param entry index of the entry being replayed, for the error message
+	 * @return item with the name
+	 * @throws IllegalStateException if the store has no item with the name
+	 */
+	private Item findItem(ArrayList<Item> items, String name, int entry) {
+		for (Item item : items) {
+			if (item.getName().equals(name)) {
+				return item;
+			}
+		}
+		throw new IllegalStateException("Replay differs from the journal at entry " + entry + " (" + describe(entry)
+				+ "): the store doesn't have " + name);
+	}
+
+	/**
+	 * Returns a short description of an entry's command and arguments.
+	 * @param entry index of the entry
+	 * @return description of the entry
+	 */
+	private String describe(int entry) {
+		int first = firsts[entry];
+		int second = seconds[entry];
+		switch (kinds[entry]) {
+			case SETUP:
+				return "setup " + strings.get(first) + " for " + second + " days";
+			case BUY:
+				return "buy " + second + " " + strings.get(first);
+			case SELL:
+				return "sell " + second + " " + strings.get(first);
+			case REPAIR:
+				return "repair";
+			case TRAVEL:
+				return "travel route " + first;
+			case ENCOUNTER:
+				return "route " + first + (second == ENCOUNTER_PIRATES ? " pirates"
+						: second == ENCOUNTER_WEATHER ? " weather" : " sailors");
+			case PIRATE_SHIP:
+				return "pirate ship";
+			case PLAYER_TURN:
+				return "player turn";
+			case PIRATE_TURN:
+				return "pirate turn";
+			case PIRATE_BATTLE:
+				return "pirate battle";
+			case PIRATE_LOSS:
+				return "pirate loss";
+			case WEATHER:
+				return "weather";
+			case SAILORS:
+				return "sailors";
+			case LOSE_GOLD:
+				return "lose gold";
+			case SET_GOLD:
+				return "set gold " + first;
+			case LOSE_CARGO:
+				return "lose cargo";
+			default:
+				return "end " + (first == NO_STRING ? null : strings.get(first));
+		}
+	}
+
+	/**
+	 * Adds an entry, growing the columns if they're full.
+	 * @param kind kind of entry
+	 * @param first first argument
+	 * @param second second argument
+	 * @param outcome outcome
+	 */
+	private void add(int kind, int first, int second, int outcome) {
+		if (size == kinds.length) {
+			int capacity = size * 2;
+			kinds = Arrays.copyOf(kinds, capacity);
+			firsts = Arrays.copyOf(firsts, capacity);
+			seconds = Arrays.copyOf(seconds, capacity);
+			outcomes = Arrays.copyOf(outcomes, capacity);
+		}
+		kinds[size] = kind;
+		firsts[size] = first;
+		seconds[size] = second;
+		outcomes[size] = outcome;
+		size++;
+	}
+
+	/**
+	 * Returns the number of a string, giving it a new number if it's new.
+	 * @param string string to number
+	 * @return string's number
+	 */
+	private int stringId(String string) {
+		Integer id = stringIds.get(string);
+		if (id == null) {
+			id = strings.size();
+			stringIds.put(string, id);
+			strings.add(string);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns 1 for true and 0 for false, the outcome recorded for commands that succeed or fail.
+	 * @param value value to record
+	 * @return 1 or 0
+	 */
+	private static int flag(boolean value) {
+		return value ? 1 : 0;
+	}
+}
@@ -0,0 +1,81 @@
+package core;
+
+/**
+ * Listens for changes to a game's state, so a user interface can update only what changed rather than
+ * rebuilding everything it shows. Every method does nothing by default, so a listener only overrides the changes
+ * it shows. Listeners are told about changes on the thread that made them, straight after they're made.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public interface GameListener {
+	
+	/**
+	 * Called when the player's gold changes.
+	 * @param gold player's new gold
+	 */
+	default void goldChanged(int gold) {
+	}
+	
+	/**
+	 * Called when the player arrives at an island.
+	 * @param island island the player is now at
+	 * @param daysLeft number of days left after the voyage
+	 */
+	default void islandChanged(Island island, int daysLeft) {
+	}
+	
+	/**
+	 * Called when items are added to the player's cargo. Items are numbered as in the cargo's list of items,
+	 * where the new ones follow the others with the same name.
+	 * @param name name of the items
+	 * @param index index of the first new item
+	 * @param quantity number of items added
+	 */
+	default void cargoAdded(String name, int index, int quantity) {
+	}
+	
+	/**
+	 * Called when items are removed from the player's cargo. Items are numbered as in the cargo's list of items
+	 * before they were removed, where the oldest items with a name come first and are the ones removed.
+	 * @param name name of the items
+	 * @param index index of the first removed item
+	 * @param quantity number of items removed
+	 */
+	default void cargoRemoved(String name, int index, int quantity) {
+	}
+	
+	/**
+	 * Called when all of the player's cargo is lost.
+	 */
+	default void cargoCleared() {
+	}
+	
+	/**
+	 * Called when the health of the player's ship changes.
+	 * @param health ship's new health
+	 */
+	default void healthChanged(int health) {
+	}
+	
+	/**
+	 * Called when the market changes the prices of some of a store's items, after the player trades with it or as
+	 * the store recovers from earlier trades.
+	 * @param store store whose prices changed
+	 */
+	default void pricesChanged(Store store) {
+	}
+	
+	/**
+	 * Called when a lot is added to the end of the goods ledger.
+	 * @param lot index of the new lot
+	 */
+	default void goodsAdded(int lot) {
+	}
+	
+	/**
+	 * Called when a lot already in the goods ledger is sold, or part of it is.
+	 * @param lot index of the lot
+	 */
+	default void goodsChanged(int lot) {
+	}
+}
@@ -0,0 +1,78 @@
+package core;
+
+/**
+ * This class picks a number of distinct indices from 0 up to a population size with a partial Fisher-Yates
+ * shuffle of a reusable index array. Picking k indices takes k random numbers however large the population is,
+ * and the swaps are undone afterwards so every sample starts from the same array and depends only on the
+ * random numbers drawn.
+ * A sampler isn't thread safe, each thread should use its own.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class IndexSampler {
+
+	/**
+	 * Every index of the population, in order between samples.
+	 */
+	private final int[] indices;
+
+	/**
+	 * Position each step of the current sample swapped with, so the swaps can be undone.
+	 */
+	private final int[] swaps;
+
+	/**
+	 * Creates a sampler for a population of the given size.
+	 * @param populationSize number of indices to pick from
+	 */
+	public IndexSampler(int populationSize) {
+		indices = new int[populationSize];
+		swaps = new int[populationSize];
+		for (int i = 0; i < populationSize; i++) {
+			indices[i] = i;
+		}
+	}
+
+	/**
+	 * Returns the number of indices the sampler picks from.
+	 * @return population size
+	 */
+	public int getPopulationSize() {
+		return indices.length;
+	}
+
+	/**
+	 * Returns the given number of distinct random indices in the order they were picked.
+	 * @param count number of indices to pick, at most the population size
+	 * @param randomGenerator random number generator to pick with
+	 * @return picked indices
+	 */
+	public int[] sample(int count, RandomSource randomGenerator) {
+		if (count > indices.length) {
+			throw new IllegalArgumentException("Can't pick " + count + " of " + indices.length + " indices");
+		}
+		int[] picked = new int[count];
+		for (int i = 0; i < count; i++) {
+			int j = i + randomGenerator.nextInt(indices.length - i);
+			swap(i, j);
+			swaps[i] = j;
+			picked[i] = indices[i];
+		}
+		// Undo the swaps in reverse so the array is back in order for the next sample
+		for (int i = count - 1; i >= 0; i--) {
+			swap(i, swaps[i]);
+		}
+		return picked;
+	}
+
+	/**
+	 * Swaps two entries of the index array.
+	 * @param i first position
+	 * @param j second position
+	 */
+	private void swap(int i, int j) {
+		int index = indices[i];
+		indices[i] = indices[j];
+		indices[j] = index;
+	}
+}
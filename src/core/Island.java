@@ -1,8 +1,12 @@
 package core;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * This class models an island that has a store and a list of routes to other islands.
+ * The store is only generated the first time it's needed, from the island's own random number generator,
+ * so it's the same store whenever that happens.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
@@ -14,23 +18,44 @@ public class Island {
 	private String name;
 	
 	/**
-	 * Island's store.
+	 * Island's store, or null until it's first needed.
 	 */
 	private Store store;
 	
+	/**
+	 * Random number generator the island's store is generated with.
+	 */
+	private RandomSource randomGenerator;
+	
 	/**
 	 * Routes from the island to others.
 	 */
 	private ArrayList<Route> routes;
 	
+	/**
+	 * Routes from the island sorted by their base days, or null if a route has been added since they were sorted.
+	 */
+	private Route[] routesByDays;
+	
 	/**
 	 * Creates an island with the given name, gives it a store, 
 	 * and gives it an empty ArrayList of routes from the island.
 	 * @param name island's name
 	 */
 	public Island(String name) {
+		this(name, new RandomSource());
+	}
+	
+	/**
+	 * Creates an island with the given name, gives it a store that will use the given random number generator,
+	 * and gives it an empty ArrayList of routes from the island.
+	 * Nothing else should draw from the generator, or the store would depend on when it's generated.
+	 * @param name island's name
+	 * @param randomGenerator random number generator for the island's store
+	 */
+	public Island(String name, RandomSource randomGenerator) {
 		this.name = name;
-		this.store = new Store();
+		this.randomGenerator = randomGenerator;
 		this.routes = new ArrayList<Route>();
 	}
 	
@@ -47,9 +72,36 @@ public class Island {
 	 * @return island's store
 	 */
 	public Store getStore() {
+		if (store == null) {
+			store = new Store(randomGenerator);
+		}
 		return store;
 	}
 	
+	/**
+	 * Returns true if the island's store has been generated.
+	 * @return true if the store exists
+	 */
+	public boolean hasStore() {
+		return store != null;
+	}
+	
+	/**
+	 * Returns the random number generator the island's store is generated with, for saving its state.
+	 * @return store's random number generator
+	 */
+	RandomSource getRandomGenerator() {
+		return randomGenerator;
+	}
+	
+	/**
+	 * Gives the island a store restored from a saved game. The store must use the island's random number generator.
+	 * @param store restored store
+	 */
+	void restoreStore(Store store) {
+		this.store = store;
+	}
+	
 	/**
 	 * Returns the routes to and from the island.
 	 * @return routes to and from the island.
@@ -64,5 +116,20 @@ public class Island {
 	 */
 	public void addRoute(Route route) {
 		routes.add(route);
+		routesByDays = null;
+	}
+	
+	/**
+	 * Returns the routes from the island sorted from fewest to most base days. A route's days and cost both
+	 * grow with its base days for any ship, so this is also the routes sorted from cheapest to dearest.
+	 * The array is the island's own and mustn't be changed.
+	 * @return routes sorted by base days
+	 */
+	public Route[] getRoutesByDays() {
+		if (routesByDays == null) {
+			routesByDays = routes.toArray(new Route[0]);
+			Arrays.sort(routesByDays, Comparator.comparingInt(Route::getBaseDays));
+		}
+		return routesByDays;
 	}
 }
\ No newline at end of file
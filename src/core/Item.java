@@ -68,6 +68,15 @@ public class Item {
 		this.soldFor = -1;
 	}
 	
+	/**
+	 * Returns a new item with the same name, description, size, base price, and weapon status.
+	 * The copy's price is reset to the base price and it is marked as unsold.
+	 * @return copy of the item
+	 */
+	public Item copy() {
+		return new Item(name, desc, size, basePrice, isWeapon);
+	}
+	
 	/** 
 	 * Returns the items's name. 
 	 * @return item's name
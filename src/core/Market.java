@@ -0,0 +1,162 @@
+package core;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * This class runs the supply and demand of every store in a game. Trades move the prices of the store they're
+ * made at, and each day some of that pressure wears off. Only stores with pressure left are kept track of,
+ * so passing days costs nothing for the islands the player hasn't traded at recently.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class Market {
+
+	/**
+	 * Stores with supply pressure, in the order they were first traded at.
+	 */
+	private final LinkedHashSet<Store> unsettledStores = new LinkedHashSet<Store>();
+
+	/**
+	 * Whether trades move prices. A disabled market keeps every price where it is.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Events price changes are published to, or null if nobody is told about them.
+	 */
+	private GameEvents events;
+
+	/**
+	 * Records the player buying the given quantity of an item from a store, which raises the price the store charges for it.
+	 * @param store store the item was bought from
+	 * @param name item's name
+	 * @param quantity number of the item bought
+	 */
+	public void recordPurchase(Store store, String name, int quantity) {
+		trade(store, name, quantity);
+	}
+
+	/**
+	 * Records the player selling the given quantity of an item to a store, which lowers the price the store pays for it.
+	 * @param store store the item was sold to
+	 * @param name item's name
+	 * @param quantity number of the item sold
+	 */
+	public void recordSale(Store store, String name, int quantity) {
+		trade(store, name, -quantity);
+	}
+
+	/**
+	 * Returns the gold a store charges for the given quantity of an item bought in one trade. Each unit costs what it
+	 * would if the units before it had been bought one at a time, or the item's price if trades don't move prices.
+	 * @param store store the item is bought from
+	 * @param item item to buy
+	 * @param quantity number of the item to buy
+	 * @return cost of the trade
+	 */
+	public long getBuyCost(Store store, Item item, int quantity) {
+		return enabled ? store.getBuyCost(item, quantity) : (long) item.getPrice() * quantity;
+	}
+
+	/**
+	 * Returns the gold a store pays for the given quantity of an item sold in one trade. Each unit fetches what it
+	 * would if the units before it had been sold one at a time, or the item's price if trades don't move prices.
+	 * @param store store the item is sold to
+	 * @param item item to sell
+	 * @param quantity number of the item to sell
+	 * @return gold paid for the trade
+	 */
+	public long getSaleValue(Store store, Item item, int quantity) {
+		return enabled ? store.getSaleValue(item, quantity) : (long) item.getPrice() * quantity;
+	}
+
+	/**
+	 * Returns the largest quantity of an item that can be bought from a store in one trade with the given gold.
+	 * @param store store the item is bought from
+	 * @param item item to buy
+	 * @param gold gold to spend
+	 * @return largest affordable quantity, or Integer.MAX_VALUE if the item is free
+	 */
+	public int getAffordableQuantity(Store store, Item item, int gold) {
+		if (!enabled) {
+			return item.getPrice() > 0 ? gold / item.getPrice() : Integer.MAX_VALUE;
+		}
+		return store.getAffordableQuantity(item, gold);
+	}
+
+	/**
+	 * Passes the given number of days, wearing off supply pressure at every store that has some.
+	 * @param days number of days passed
+	 */
+	public void advance(int days) {
+		Iterator<Store> stores = unsettledStores.iterator();
+		while (stores.hasNext()) {
+			Store store = stores.next();
+			if (!store.recover(days)) {
+				stores.remove();
+			}
+			if (events != null) {
+				events.pricesChanged(store);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of stores whose prices are still recovering from trades.
+	 * @return number of unsettled stores
+	 */
+	public int getUnsettledCount() {
+		return unsettledStores.size();
+	}
+
+	/**
+	 * Returns true if trades move prices.
+	 * @return true if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Sets whether trades move prices. Prices that have already moved still recover while disabled.
+	 * @param enabled true to let trades move prices
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Publishes the price changes the market makes to the given events.
+	 * @param events events to publish price changes to
+	 */
+	void setEvents(GameEvents events) {
+		this.events = events;
+	}
+
+	/**
+	 * Keeps track of a store restored from a saved game if it still has supply pressure.
+	 * @param store restored store
+	 */
+	void track(Store store) {
+		if (!store.isSettled()) {
+			unsettledStores.add(store);
+		}
+	}
+
+	/**
+	 * Applies a change in supply of an item at a store, and keeps track of the store if it's now unsettled.
+	 * @param store store the trade was made at
+	 * @param name item's name
+	 * @param change units bought by the player, negative if sold
+	 */
+	private void trade(Store store, String name, int change) {
+		if (enabled && store.trade(name, change)) {
+			if (!store.isSettled()) {
+				unsettledStores.add(store);
+			}
+			if (events != null) {
+				events.pricesChanged(store);
+			}
+		}
+	}
+}
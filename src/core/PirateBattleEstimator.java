@@ -0,0 +1,172 @@
+package core;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * This class estimates the outcome of a pirate battle by simulating many battles in parallel,
+ * using the same dice rolls as GameEnvironment.pirateEvent against a random pirate ship.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class PirateBattleEstimator {
+	
+	/**
+	 * Number of battles each parallel task simulates.
+	 */
+	private static final int BATTLES_PER_TASK = 2048;
+	
+	/**
+	 * Pirate ships that can be fought, each equally likely.
+	 */
+	private final Combatant[] pirates;
+	
+	/**
+	 * Creates an estimator that fights the given pirate ships.
+	 * @param pirates pirate ships that can be fought, each equally likely
+	 */
+	private PirateBattleEstimator(List<Combatant> pirates) {
+		this.pirates = pirates.toArray(new Combatant[0]);
+	}
+	
+	/**
+	 * Returns an estimator for the pirate ships fought in GameEnvironment.pirateEvent.
+	 * @param catalog catalog to take ships and weapons from
+	 * @return estimator for pirateEvent battles
+	 */
+	public static PirateBattleEstimator forPirateEvent(GameCatalog catalog) {
+		return new PirateBattleEstimator(Combatant.pirateEventShips(catalog));
+	}
+	
+	/**
+	 * Returns an estimator for the pirate ships created by GameEnvironment.generatePirateShip.
+	 * @param catalog catalog to take ships and weapons from
+	 * @return estimator for battles against generated pirate ships
+	 */
+	public static PirateBattleEstimator forGeneratedPirates(GameCatalog catalog) {
+		return new PirateBattleEstimator(Combatant.generatedPirateShips(catalog));
+	}
+	
+	/**
+	 * Simulates the given number of battles with a random seed and returns the estimated outcome.
+	 * @param playerShip player's ship, in its current state
+	 * @param battles number of battles to simulate
+	 * @return estimated battle outcome
+	 */
+	public BattleEstimate estimate(Ship playerShip, int battles) {
+		return estimate(playerShip, battles, System.nanoTime());
+	}
+	
+	/**
+	 * Simulates the given number of battles in parallel and returns the estimated outcome.
+	 * The same seed always gives the same estimate, however many cores are used.
+	 * @param playerShip player's ship, in its current state
+	 * @param battles number of battles to simulate
+	 * @param seed seed for the random number generators
+	 * @return estimated battle outcome
+	 */
+	public BattleEstimate estimate(Ship playerShip, int battles, long seed) {
+		Combatant player = Combatant.of(playerShip);
+		int tasks = (battles + BATTLES_PER_TASK - 1) / BATTLES_PER_TASK;
+		
+		// Split the generators up front so each task's rolls don't depend on which thread runs it
+		SplittableRandom root = new SplittableRandom(seed);
+		SplittableRandom[] randoms = new SplittableRandom[tasks];
+		for (int i = 0; i < tasks; i++) {
+			randoms[i] = root.split();
+		}
+		
+		// Index 0 to health holds the damage counts, the last index holds the number of wins
+		long[] tally = IntStream.range(0, tasks).parallel()
+				.mapToObj(task -> {
+					int count = Math.min(BATTLES_PER_TASK, battles - task * BATTLES_PER_TASK);
+					return simulate(player, count, randoms[task]);
+				})
+				.reduce(PirateBattleEstimator::merge)
+				.orElse(new long[player.health + 2]);
+		long[] damageCounts = Arrays.copyOf(tally, player.health + 1);
+		return BattleEstimate.fromCounts(battles, tally[player.health + 1], damageCounts);
+	}
+	
+	/**
+	 * Simulates battles against random pirate ships and tallies the results.
+	 * @param player player's ship
+	 * @param count number of battles to simulate
+	 * @param random random number generator used only by this call
+	 * @return damage counts followed by the number of wins
+	 */
+	private long[] simulate(Combatant player, int count, SplittableRandom random) {
+		long[] tally = new long[player.health + 2];
+		// The player can only win by sinking the pirates, not by both ships being unable to do damage
+		boolean canWin = player.canDoDamage();
+		for (int i = 0; i < count; i++) {
+			Combatant pirate = pirates[random.nextInt(pirates.length)];
+			int health = fight(player, pirate, random);
+			tally[player.health - health]++;
+			if (health > 0 && canWin) {
+				tally[player.health + 1]++;
+			}
+		}
+		return tally;
+	}
+	
+	/**
+	 * Adds the second tally to the first.
+	 * @param tally1 first tally
+	 * @param tally2 second tally
+	 * @return first tally with the second added
+	 */
+	private static long[] merge(long[] tally1, long[] tally2) {
+		for (int i = 0; i < tally1.length; i++) {
+			tally1[i] += tally2[i];
+		}
+		return tally1;
+	}
+	
+	/**
+	 * Fights a battle with the same rules as GameEnvironment.pirateEvent: the player and the pirates take turns
+	 * firing every shot of every weapon until one ship has no health left.
+	 * If neither ship can do damage the battle ends immediately with no damage taken.
+	 * @param player player's ship
+	 * @param pirate pirate ship
+	 * @param random random number generator
+	 * @return player's health at the end of the battle
+	 */
+	static int fight(Combatant player, Combatant pirate, SplittableRandom random) {
+		int playerHealth = player.health;
+		int pirateHealth = pirate.health;
+		if (!player.canDoDamage() && !pirate.canDoDamage()) {
+			return playerHealth;
+		}
+		while (playerHealth > 0 && pirateHealth > 0) {
+			pirateHealth = turn(player, pirate, pirateHealth, random);
+			if (pirateHealth <= 0) {
+				break;
+			}
+			playerHealth = turn(pirate, player, playerHealth, random);
+		}
+		return playerHealth;
+	}
+	
+	/**
+	 * Fires every shot of the attacker's weapons at the defender.
+	 * @param attacker ship firing
+	 * @param defender ship being fired at
+	 * @param defenderHealth defender's health before the turn
+	 * @param random random number generator
+	 * @return defender's health after the turn, never below 0
+	 */
+	private static int turn(Combatant attacker, Combatant defender, int defenderHealth, SplittableRandom random) {
+		for (int i = 0; i < attacker.shots.length; i++) {
+			for (int j = 0; j < attacker.shots[i]; j++) {
+				int damage = random.nextInt(attacker.damage[i]);
+				if (damage > 0) {
+					int resisted = Math.min(random.nextInt(defender.endurance), damage);
+					defenderHealth = Math.max(0, defenderHealth - damage + resisted);
+				}
+			}
+		}
+		return defenderHealth;
+	}
+}
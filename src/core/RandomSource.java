@@ -0,0 +1,169 @@
+package core;
+import java.util.SplittableRandom;
+
+/**
+ * This class is the source of random numbers for a game. A game creates one from its seed and splits off an
+ * independent stream for each store and route, so a whole game can be replayed from one seed, and games run
+ * in parallel never share a generator.
+ * Numbers are generated with the same SplitMix64 algorithm as SplittableRandom, giving the same numbers for the
+ * same seed, but the generator's state is kept here so a saved game can carry on exactly where it left off.
+ * A source isn't thread safe, each thread should use its own split.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class RandomSource {
+
+	/**
+	 * Gamma of a source created from a seed, the odd integer closest to 2^64 divided by the golden ratio.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * Current seed, advanced by the gamma for every number drawn.
+	 */
+	private long seed;
+
+	/**
+	 * Odd step the seed is advanced by, different for each split.
+	 */
+	private long gamma;
+
+	/**
+	 * Creates a source whose numbers are determined by the given seed.
+	 * @param seed seed for the source
+	 */
+	public RandomSource(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Creates a source with an unpredictable seed, for games that don't need to be reproduced.
+	 */
+	public RandomSource() {
+		this(new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Creates a source with the given state.
+	 * @param seed current seed
+	 * @param gamma odd step the seed is advanced by
+	 */
+	private RandomSource(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * Returns a new source with its own stream of numbers, determined by this source's seed
+	 * and how many times it has been used.
+	 * @return independent source
+	 */
+	public RandomSource split() {
+		return new RandomSource(nextLong(), mixGamma(nextSeed()));
+	}
+
+	/**
+	 * Returns a random integer from 0 (inclusive) to the given bound (exclusive).
+	 * @param bound upper bound, must be positive
+	 * @return random integer
+	 */
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		int r = mix32(nextSeed());
+		int m = bound - 1;
+		if ((bound & m) == 0) {
+			r &= m;
+		} else {
+			// Redraw values from the uneven top end of the range so every result is equally likely
+			for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Returns a random double from 0 (inclusive) to 1 (exclusive).
+	 * @return random double
+	 */
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	/**
+	 * Returns a random long, for seeding other generators such as a policy's.
+	 * @return random long
+	 */
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+
+	/**
+	 * Returns the current seed, for saving the source's state.
+	 * @return current seed
+	 */
+	long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the step the seed is advanced by, for saving the source's state.
+	 * @return gamma
+	 */
+	long getGamma() {
+		return gamma;
+	}
+
+	/**
+	 * Puts the source back into a saved state, so it carries on drawing the same numbers it would have.
+	 * @param seed saved seed
+	 * @param gamma saved gamma
+	 */
+	void restore(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * Advances the seed and returns it.
+	 * @return next seed
+	 */
+	private long nextSeed() {
+		return seed += gamma;
+	}
+
+	/**
+	 * Mixes a seed into a random long (Stafford variant 13 of the MurmurHash3 finaliser).
+	 * @param z seed to mix
+	 * @return mixed value
+	 */
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Mixes a seed into a random int.
+	 * @param z seed to mix
+	 * @return mixed value
+	 */
+	private static int mix32(long z) {
+		z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+		return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+	}
+
+	/**
+	 * Mixes a seed into the gamma of a split, which must be odd and have enough bit transitions to mix well.
+	 * @param z seed to mix
+	 * @return gamma for a split
+	 */
+	private static long mixGamma(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		int transitions = Long.bitCount(z ^ (z >>> 1));
+		return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+	}
+}
@@ -1,5 +1,4 @@
 package core;
-import java.util.Random;
 
 /**
  * This class models a route between islands.
@@ -16,7 +15,12 @@ public class Route {
 	/**
 	 * Random number generator.
 	 */
-	private Random randomGenerator;
+	private RandomSource randomGenerator;
+	
+	/**
+	 * Journal the route's random event rolls are recorded in, or null if the game isn't journaled.
+	 */
+	private GameJournal journal;
 	
 	/**
 	 * One island in the route.
@@ -58,7 +62,22 @@ public class Route {
 	 * @param sailorsOdds change of finding lost sailors (out of 100)
 	 */
 	public Route(Island island1, Island island2, int days, int pirateDanger, int weatherDanger, int sailorsOdds) {
-		randomGenerator = new Random();
+		this(island1, island2, days, pirateDanger, weatherDanger, sailorsOdds, new RandomSource());
+	}
+	
+	/**
+	 * Creates a route with the given parameter values that decides its random events with the given generator.
+	 * @param island1 one island in the route
+	 * @param island2 other island in the route
+	 * @param days base number of days it takes to travel this route
+	 * @param pirateDanger chance of encountering pirates (out of 100)
+	 * @param weatherDanger chance of bad weather (out of 100)
+	 * @param sailorsOdds change of finding lost sailors (out of 100)
+	 * @param randomGenerator random number generator for deciding random events
+	 */
+	public Route(Island island1, Island island2, int days, int pirateDanger, int weatherDanger, int sailorsOdds,
+			RandomSource randomGenerator) {
+		this.randomGenerator = randomGenerator;
 		this.island1 = island1;
 		this.island2 = island2;
 		this.days = days;
@@ -107,6 +126,30 @@ public class Route {
 		return days * DAYS_MODIFIER / speed;
 	}
 	
+	/**
+	 * Returns the random number generator the route's random events are decided with, for saving its state.
+	 * @return route's random number generator
+	 */
+	RandomSource getRandomGenerator() {
+		return randomGenerator;
+	}
+	
+	/**
+	 * Sets the journal the route's random event rolls are recorded in.
+	 * @param journal game's journal
+	 */
+	void setJournal(GameJournal journal) {
+		this.journal = journal;
+	}
+	
+	/**
+	 * Returns the base number of days the route takes, before the ship's speed is applied.
+	 * @return base days
+	 */
+	public int getBaseDays() {
+		return days;
+	}
+	
 	/**
 	 * Returns chance of encountering pirates
 	 * @return pirateDanger
@@ -136,7 +179,11 @@ public class Route {
 	 * @return if pirates encountered
 	 */
 	public boolean encounterPirates() {
-		return (randomGenerator.nextInt(100) < pirateDanger);
+		boolean encountered = randomGenerator.nextInt(100) < pirateDanger;
+		if (journal != null) {
+			journal.encounter(this, GameJournal.ENCOUNTER_PIRATES, encountered);
+		}
+		return encountered;
 	}
 	
 	/**
@@ -144,7 +191,11 @@ public class Route {
 	 * @return if dangerous weather encountered
 	 */
 	public boolean encounterWeatherEvent() {
-		return (randomGenerator.nextInt(100) < weatherDanger);
+		boolean encountered = randomGenerator.nextInt(100) < weatherDanger;
+		if (journal != null) {
+			journal.encounter(this, GameJournal.ENCOUNTER_WEATHER, encountered);
+		}
+		return encountered;
 	}
 	
 	/**
@@ -152,7 +203,11 @@ public class Route {
 	 * @return if lost sailors encountered
 	 */
 	public boolean encounterLostSailors() {
-		return (randomGenerator.nextInt(100) < sailorsOdds);
+		boolean encountered = randomGenerator.nextInt(100) < sailorsOdds;
+		if (journal != null) {
+			journal.encounter(this, GameJournal.ENCOUNTER_SAILORS, encountered);
+		}
+		return encountered;
 	}
 }
 
@@ -0,0 +1,538 @@
+package core;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import ui.GameUI;
+
+/**
+ * This class saves the whole state of a game to a file and loads it back, so a long game can be checkpointed
+ * and carried on later exactly where it left off, random number generators included.
+ * The file is a versioned binary format written in one buffered pass. Integers are written as variable-length
+ * zigzag numbers, and each distinct string is written once and referred to by number afterwards.
+ * Islands and routes aren't saved, only their random number generators and stores, so a save must be loaded
+ * with the same game parameters it was saved with.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class SaveGame {
+
+	/**
+	 * File games are saved to when no other file is given.
+	 */
+	public static final String DEFAULT_FILE = "islandtrader.sav";
+
+	/**
+	 * Number that starts every save file.
+	 */
+	private static final int MAGIC = 0x49545356;
+
+	/**
+	 * Version of the save format, increased whenever the layout changes.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * String number written for a null string.
+	 */
+	private static final int NO_STRING = -1;
+
+	/**
+	 * Stream the game is saved to, or null when loading.
+	 */
+	private final DataOutputStream out;
+
+	/**
+	 * Stream the game is loaded from, or null when saving.
+	 */
+	private final DataInputStream in;
+
+	/**
+	 * Number of each string written so far.
+	 */
+	private final HashMap<String, Integer> stringIds = new HashMap<String, Integer>();
+
+	/**
+	 * Strings read so far, by number.
+	 */
+	private final ArrayList<String> strings = new ArrayList<String>();
+
+	/**
+	 * Creates a saver or loader for the given stream.
+	 * @param out stream to save to, or null
+	 * @param in stream to load from, or null
+	 */
+	private SaveGame(DataOutputStream out, DataInputStream in) {
+		this.out = out;
+		this.in = in;
+	}
+
+	/**
+	 * Saves a game to a file. The game is written to a temporary file first and moved into place,
+	 * so an earlier save isn't lost if saving fails.
+	 * @param game game to save
+	 * @param file file to save to
+	 * @throws IOException if the file can't be written
+	 */
+	public static void save(GameEnvironment game, File file) throws IOException {
+		File temporary = new File(file.getPath() + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+				new SaveGame(out, null).writeGame(game);
+			}
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary.toPath());
+		}
+	}
+
+	/**
+	 * Loads a game from a file. The game isn't started, its user interface should resume it.
+	 * @param file file to load from
+	 * @param ui user interface the game will use, or null if the game is driven without one
+	 * @return loaded game
+	 * @throws IOException if the file can't be read, isn't a save, or doesn't match the game parameters
+	 */
+	public static GameEnvironment load(File file, GameUI ui) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return new SaveGame(null, in).readGame(ui);
+		} catch (RuntimeException e) {
+			throw new IOException("Save file is damaged", e);
+		}
+	}
+
+	/**
+	 * Writes every part of a game.
+	 * @param game game to write
+	 * @throws IOException if the game can't be written
+	 */
+	private void writeGame(GameEnvironment game) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		ArrayList<Island> islands = game.getIslands();
+		ArrayList<Route> routes = collectRoutes(islands);
+		writeInt(islands.size());
+		writeInt(routes.size());
+		writeInt(islands.indexOf(game.getIsland()));
+		writeString(game.getIsland().getName());
+
+		writeString(game.getName());
+		writeInt(game.getTotalDays());
+		writeInt(game.getDaysLeft());
+		writeInt(game.getGold());
+		out.writeBoolean(game.isGameOver());
+		writeString(game.getEndReason());
+		writeRandom(game.getRandomGenerator());
+		out.writeBoolean(game.getMarket().isEnabled());
+		writeShip(game.getShips().indexOf(game.getShip()), game.getShip());
+		writeLedger(game.getGoods());
+
+		for (Island island : islands) {
+			writeRandom(island.getRandomGenerator());
+			out.writeBoolean(island.hasStore());
+			if (island.hasStore()) {
+				writeStore(island.getStore());
+			}
+		}
+		for (Route route : routes) {
+			writeRandom(route.getRandomGenerator());
+		}
+	}
+
+	/**
+	 * Reads every part of a game into a new game built from the current game parameters.
+	 * @param ui user interface the game will use
+	 * @return loaded game
+	 * @throws IOException if the save can't be read or doesn't match the game parameters
+	 */
+	private GameEnvironment readGame(GameUI ui) throws IOException {
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not an Island Trader save file");
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported save file version " + version);
+		}
+		GameEnvironment game = new GameEnvironment(ui, 0, 0, new RandomSource(0));
+		ArrayList<Island> islands = game.getIslands();
+		ArrayList<Route> routes = collectRoutes(islands);
+		int islandCount = readInt();
+		int routeCount = readInt();
+		int islandIndex = readInt();
+		String islandName = readString();
+		if (islandCount != islands.size() || routeCount != routes.size()
+				|| !islands.get(islandIndex).getName().equals(islandName)) {
+			throw new IOException("Save file doesn't match the game parameters");
+		}
+
+		String name = readString();
+		int totalDays = readInt();
+		int daysLeft = readInt();
+		int gold = readInt();
+		boolean gameOver = in.readBoolean();
+		String endReason = readString();
+		readRandom(game.getRandomGenerator());
+		game.getMarket().setEnabled(in.readBoolean());
+		int shipIndex = readInt();
+		Ship ship = readShip();
+		if (shipIndex >= 0) {
+			game.getShips().set(shipIndex, ship);
+		}
+		TradeLedger goods = readLedger();
+
+		for (Island island : islands) {
+			readRandom(island.getRandomGenerator());
+			if (in.readBoolean()) {
+				Store store = readStore(island.getRandomGenerator());
+				island.restoreStore(store);
+				game.getMarket().track(store);
+			}
+		}
+		for (Route route : routes) {
+			readRandom(route.getRandomGenerator());
+		}
+		game.restore(name, totalDays, daysLeft, gold, islands.get(islandIndex), ship, goods, gameOver, endReason);
+		return game;
+	}
+
+	/**
+	 * Returns every route between the given islands once, in the order they're first found in the islands' routes.
+	 * The order only depends on the game parameters, so it's the same when saving and loading.
+	 * @param islands islands in the game
+	 * @return every route
+	 */
+	static ArrayList<Route> collectRoutes(ArrayList<Island> islands) {
+		ArrayList<Route> routes = new ArrayList<Route>();
+		HashSet<Route> seen = new HashSet<Route>();
+		for (Island island : islands) {
+			for (Route route : island.getRoutes()) {
+				if (seen.add(route)) {
+					routes.add(route);
+				}
+			}
+		}
+		return routes;
+	}
+
+	/**
+	 * Writes the player's ship, its cargo, and the order its weapons were added in.
+	 * @param shipIndex index of the ship in the game's ships, or -1
+	 * @param ship ship to write
+	 * @throws IOException if the ship can't be written
+	 */
+	private void writeShip(int shipIndex, Ship ship) throws IOException {
+		writeInt(shipIndex);
+		writeString(ship.getName());
+		writeInt(ship.getCrew());
+		writeInt(ship.getMaxSpace());
+		writeInt(ship.getSpaceLeft());
+		writeInt(ship.getMaxHealth());
+		writeInt(ship.getHealth());
+		writeInt(ship.getSpeed());
+		writeInt(ship.getEndurance());
+
+		ArrayList<Item> lotItems = new ArrayList<Item>();
+		ArrayList<Integer> lotQuantities = new ArrayList<Integer>();
+		ship.getCargoHold().forEachLot((item, quantity) -> {
+			lotItems.add(item);
+			lotQuantities.add(quantity);
+		});
+		writeInt(lotItems.size());
+		for (int i = 0; i < lotItems.size(); i++) {
+			writeItem(lotItems.get(i), lotItems.get(i).getPrice());
+			writeInt(lotQuantities.get(i));
+		}
+		ArrayList<Item> weapons = ship.getWeapons();
+		writeInt(weapons.size());
+		for (Item weapon : weapons) {
+			writeString(weapon.getName());
+		}
+	}
+
+	/**
+	 * Reads the player's ship and puts its cargo back as it was saved.
+	 * @return restored ship
+	 * @throws IOException if the ship can't be read
+	 */
+	private Ship readShip() throws IOException {
+		String name = readString();
+		int crew = readInt();
+		int maxSpace = readInt();
+		int spaceLeft = readInt();
+		int maxHealth = readInt();
+		int health = readInt();
+		int speed = readInt();
+		int endurance = readInt();
+		Ship ship = new Ship(name, crew, maxSpace, maxHealth, speed, endurance);
+		ship.setHealth(health);
+		ship.emptyCargo();
+
+		CargoHold cargo = ship.getCargoHold();
+		for (int lots = readInt(); lots > 0; lots--) {
+			Item item = readItem();
+			cargo.add(item, readInt());
+		}
+		ArrayList<String> weaponNames = new ArrayList<String>();
+		for (int weapons = readInt(); weapons > 0; weapons--) {
+			weaponNames.add(readString());
+		}
+		cargo.orderWeapons(weaponNames);
+		// Space left is saved as it was, since emptying the cargo doesn't give space back
+		ship.setSpaceLeft(spaceLeft);
+		return ship;
+	}
+
+	/**
+	 * Writes an item with the given price.
+	 * @param item item to write
+	 * @param price price to write for the item
+	 * @throws IOException if the item can't be written
+	 */
+	private void writeItem(Item item, int price) throws IOException {
+		writeString(item.getName());
+		writeString(item.getDesc());
+		writeInt(item.getSize());
+		writeInt(item.getBasePrice());
+		writeInt(price);
+		out.writeBoolean(item instanceof Weapon);
+		if (item instanceof Weapon) {
+			writeInt(((Weapon) item).shots());
+			writeInt(((Weapon) item).damage());
+		}
+		writeString(item.getSoldAt());
+		writeInt(item.getSoldFor());
+	}
+
+	/**
+	 * Reads an item.
+	 * @return restored item
+	 * @throws IOException if the item can't be read
+	 */
+	private Item readItem() throws IOException {
+		String name = readString();
+		String desc = readString();
+		int size = readInt();
+		int basePrice = readInt();
+		int price = readInt();
+		Item item;
+		if (in.readBoolean()) {
+			int shots = readInt();
+			item = new Weapon(name, desc, size, basePrice, shots, readInt());
+		} else {
+			item = new Item(name, desc, size, basePrice, false);
+		}
+		item.setPrice(price);
+		item.setSoldAt(readString());
+		item.setSoldFor(readInt());
+		return item;
+	}
+
+	/**
+	 * Writes a store's items at their equilibrium prices and the supply pressure of each of its market slots.
+	 * @param store store to write
+	 * @throws IOException if the store can't be written
+	 */
+	private void writeStore(Store store) throws IOException {
+		writeInt(store.getStockSize());
+		ArrayList<Item> buys = store.getBuys();
+		writeInt(buys.size());
+		for (int i = 0; i < buys.size(); i++) {
+			writeItem(buys.get(i), store.getBuyEquilibrium(i));
+		}
+		ArrayList<Item> sells = store.getSells();
+		writeInt(sells.size());
+		for (int i = 0; i < sells.size(); i++) {
+			writeItem(sells.get(i), store.getSellEquilibrium(i));
+		}
+		int[] pressures = store.getSlotPressures();
+		writeInt(pressures.length);
+		for (int pressure : pressures) {
+			writeInt(pressure);
+		}
+	}
+
+	/**
+	 * Reads a store, which reprices its items from their equilibrium prices and supply pressures.
+	 * @param randomGenerator island's random number generator for the store
+	 * @return restored store
+	 * @throws IOException if the store can't be read
+	 */
+	private Store readStore(RandomSource randomGenerator) throws IOException {
+		int stockSize = readInt();
+		ArrayList<Item> buys = new ArrayList<Item>();
+		for (int count = readInt(); count > 0; count--) {
+			buys.add(readItem());
+		}
+		ArrayList<Item> sells = new ArrayList<Item>();
+		for (int count = readInt(); count > 0; count--) {
+			sells.add(readItem());
+		}
+		int[] pressures = new int[readInt()];
+		for (int i = 0; i < pressures.length; i++) {
+			pressures[i] = readInt();
+		}
+		return new Store(randomGenerator, stockSize, buys, sells, pressures);
+	}
+
+	/**
+	 * Writes every lot in the goods ledger.
+	 * @param goods ledger to write
+	 * @throws IOException if the ledger can't be written
+	 */
+	private void writeLedger(TradeLedger goods) throws IOException {
+		writeInt(goods.size());
+		for (int lot = 0; lot < goods.size(); lot++) {
+			writeString(goods.getItemName(lot));
+			writeInt(goods.getQuantity(lot));
+			writeInt(goods.getBuyPrice(lot));
+			writeString(goods.getBuyIsland(lot));
+			writeInt(goods.getBuyDay(lot));
+			writeString(goods.getSellIsland(lot));
+			if (goods.isSold(lot)) {
+				writeInt(goods.getSellPrice(lot));
+				writeInt(goods.getSellDay(lot));
+			}
+		}
+	}
+
+	/**
+	 * Reads the goods ledger.
+	 * @return restored ledger
+	 * @throws IOException if the ledger can't be read
+	 */
+	private TradeLedger readLedger() throws IOException {
+		TradeLedger goods = new TradeLedger();
+		for (int lots = readInt(); lots > 0; lots--) {
+			String itemName = readString();
+			int quantity = readInt();
+			int buyPrice = readInt();
+			String buyIsland = readString();
+			int buyDay = readInt();
+			String sellIsland = readString();
+			int sellPrice = sellIsland == null ? -1 : readInt();
+			int sellDay = sellIsland == null ? -1 : readInt();
+			goods.restoreLot(itemName, quantity, buyPrice, buyIsland, buyDay, sellPrice, sellIsland, sellDay);
+		}
+		return goods;
+	}
+
+	/**
+	 * Writes the state of a random number generator.
+	 * @param randomGenerator generator to write
+	 * @throws IOException if the state can't be written
+	 */
+	private void writeRandom(RandomSource randomGenerator) throws IOException {
+		out.writeLong(randomGenerator.getSeed());
+		out.writeLong(randomGenerator.getGamma());
+	}
+
+	/**
+	 * Reads the state of a random number generator into an existing generator.
+	 * @param randomGenerator generator to restore
+	 * @throws IOException if the state can't be read
+	 */
+	private void readRandom(RandomSource randomGenerator) throws IOException {
+		long seed = in.readLong();
+		randomGenerator.restore(seed, in.readLong());
+	}
+
+	/**
+	 * Writes an integer as a zigzag variable-length number.
+	 * @param value integer to write
+	 * @throws IOException if the integer can't be written
+	 */
+	private void writeInt(int value) throws IOException {
+		writeInt(out, value);
+	}
+
+	/**
+	 * Reads an integer written as a zigzag variable-length number.
+	 * @return integer read
+	 * @throws IOException if the integer can't be read
+	 */
+	private int readInt() throws IOException {
+		return readInt(in);
+	}
+
+	/**
+	 * Writes an integer to a stream as a zigzag variable-length number, so small numbers of either sign take one byte.
+	 * @param out stream to write to
+	 * @param value integer to write
+	 * @throws IOException if the integer can't be written
+	 */
+	static void writeInt(DataOutputStream out, int value) throws IOException {
+		int bits = (value << 1) ^ (value >> 31);
+		while ((bits & ~0x7F) != 0) {
+			out.writeByte((bits & 0x7F) | 0x80);
+			bits >>>= 7;
+		}
+		out.writeByte(bits);
+	}
+
+	/**
+	 * Reads an integer written to a stream as a zigzag variable-length number.
+	 * @param in stream to read from
+	 * @return integer read
+	 * @throws IOException if the integer can't be read
+	 */
+	static int readInt(DataInputStream in) throws IOException {
+		int bits = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.readUnsignedByte();
+			bits |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (bits >>> 1) ^ -(bits & 1);
+			}
+		}
+		throw new IOException("Variable-length number is too long");
+	}
+
+	/**
+	 * Writes a string, or just its number if it has already been written.
+	 * @param string string to write, or null
+	 * @throws IOException if the string can't be written
+	 */
+	private void writeString(String string) throws IOException {
+		if (string == null) {
+			writeInt(NO_STRING);
+		} else {
+			Integer id = stringIds.get(string);
+			if (id == null) {
+				id = stringIds.size();
+				stringIds.put(string, id);
+				writeInt(id);
+				out.writeUTF(string);
+			} else {
+				writeInt(id);
+			}
+		}
+	}
+
+	/**
+	 * Reads a string written by writeString.
+	 * @return string read, or null
+	 * @throws IOException if the string can't be read
+	 */
+	private String readString() throws IOException {
+		int id = readInt();
+		String string = null;
+		if (id == strings.size()) {
+			string = in.readUTF();
+			strings.add(string);
+		} else if (id != NO_STRING) {
+			string = strings.get(id);
+		}
+		return string;
+	}
+}
@@ -59,14 +59,14 @@ public class Ship {
 	private int endurance;
 	
 	/**
-	 * All the items in the ship's cargo.
+	 * All the items in the ship's cargo, including its weapons.
 	 */
-	private ArrayList<Item> cargo;
+	private CargoHold cargo;
 	
 	/**
-	 * All the weapons in the ship's cargo.
+	 * Events changes to the ship are published to, or null if the ship isn't the player's.
 	 */
-	private ArrayList<Item> weapons;
+	private GameEvents events;
 	
 	/**
 	 * Creates a ship at full health with the given parameter values.
@@ -87,9 +87,8 @@ public class Ship {
 		this.speed = speed;
 		this.endurance = endurance;
 		
-		cargo = new ArrayList<Item>();
-		weapons = new ArrayList<Item>();
-		addCargo(ObjectsListGenerator.generateWeapon().get(0)); // Add basic cannon to ship
+		cargo = new CargoHold();
+		addCargo(GameCatalog.getInstance().createWeapon(0)); // Add basic cannon to ship
 	}
 	
 	/**
@@ -146,6 +145,14 @@ public class Ship {
 		return spaceLeft;
 	}
 	
+	/**
+	 * Sets the amount of free space on the ship, for restoring a saved ship whose cargo was put back directly.
+	 * @param spaceLeft amount of space
+	 */
+	void setSpaceLeft(int spaceLeft) {
+		this.spaceLeft = spaceLeft;
+	}
+	
 	/**
 	 * Returns the max amount of free space on the ship.
 	 * @return max amount of space
@@ -167,7 +174,13 @@ public class Ship {
 	 * @param health new health value for the ship
 	 */
 	public void setHealth(int health) {
-		this.health = Math.max(MIN_HEALTH, Math.min(health, maxHealth));
+		health = Math.max(MIN_HEALTH, Math.min(health, maxHealth));
+		if (health != this.health) {
+			this.health = health;
+			if (events != null) {
+				events.healthChanged(health);
+			}
+		}
 	}
 	
 	/**
@@ -219,10 +232,18 @@ public class Ship {
 	}
 	
 	/**
-	 * Returns an ArrayList of the ship's cargo (the items on the ship).
+	 * Returns an ArrayList of the ship's cargo (the items on the ship), grouped by item type.
 	 * @return ArrayList of ship's cargo
 	 */
 	public ArrayList<Item> getCargo() {
+		return cargo.getItems();
+	}
+	
+	/**
+	 * Returns the ship's cargo hold, for counting items without listing the whole cargo.
+	 * @return ship's cargo hold
+	 */
+	public CargoHold getCargoHold() {
 		return cargo;
 	}
 	
@@ -231,18 +252,15 @@ public class Ship {
 	 * @return value of items in cargo
 	 */
 	public int getCargoValue() {
-		int cargoValue = 0;
-		for (Item item: this.getCargo()) {
-			cargoValue += item.getBasePrice();
-		}
-		return cargoValue;
+		return cargo.getValue();
 	}
+	
 	/**
 	 * Returns an ArrayList of the ship's weapons.
 	 * @return ArrayList of ship's weapons
 	 */
 	public ArrayList<Item> getWeapons() {
-		return weapons;
+		return cargo.getWeapons();
 	}
 	
 	/**
@@ -252,14 +270,27 @@ public class Ship {
 	 * @return true if successful, otherwise false
 	 */
 	public boolean addCargo(Item item) {
+		return addCargo(item, 1);
+	}
+	
+	/**
+	 * Adds the given quantity of an item to the ship's cargo if there is enough space for all of them,
+	 * otherwise nothing is added. Needs the same space as adding them one at a time.
+	 * @param item item to be added
+	 * @param quantity number of the item to add, nothing is added unless it's positive
+	 * @return true if successful, otherwise false
+	 */
+	public boolean addCargo(Item item, int quantity) {
 		boolean added = false;
-		if (spaceLeft > item.getSize()) {
-			cargo.add(item);
-			if (item.isWeapon()) {
-				weapons.add(item);
-			}
-			spaceLeft -= item.getSize();
+		// The total size is worked out in a long so a huge quantity can't overflow past the check
+		if (quantity > 0 && spaceLeft > (long) item.getSize() * quantity) {
+			cargo.add(item, quantity);
+			spaceLeft -= item.getSize() * quantity;
 			added = true;
+			if (events != null) {
+				String name = item.getName();
+				events.cargoAdded(name, cargo.getFirstIndex(name) + cargo.count(name) - quantity, quantity);
+			}
 		}
 		return added;
 	}
@@ -271,17 +302,23 @@ public class Ship {
 	 * @return true if successful, otherwise false
 	 */
 	public boolean removeCargo(Item item) {
-		boolean removed = false;
-		for (Item cargoItem : cargo) {
-			// Check if the item's name is equal to the one in cargo since they could be different objects
-			if (cargoItem.getName().equals(item.getName())) {
-				cargo.remove(cargoItem);
-				if (cargoItem.isWeapon()){
-					weapons.remove(cargoItem);
-				}
-				spaceLeft += item.getSize();
-				removed = true;
-				break; // stop checking items if removed
+		return removeCargo(item, 1);
+	}
+	
+	/**
+	 * Removes the given quantity of an item from the ship's cargo if the cargo contains that many,
+	 * otherwise nothing is removed.
+	 * @param item item to be removed
+	 * @param quantity number of the item to remove, nothing is removed unless it's positive
+	 * @return true if successful, otherwise false
+	 */
+	public boolean removeCargo(Item item, int quantity) {
+		// Items are removed by name since the one in cargo could be a different object
+		boolean removed = quantity > 0 && cargo.remove(item.getName(), quantity) != null;
+		if (removed) {
+			spaceLeft += item.getSize() * quantity;
+			if (events != null) {
+				events.cargoRemoved(item.getName(), cargo.getFirstIndex(item.getName()), quantity);
 			}
 		}
 		return removed;
@@ -291,7 +328,17 @@ public class Ship {
 	 * Empties player's cargo.
 	 */
 	public void emptyCargo() {
-		cargo =  new ArrayList<Item>();
-		weapons = new ArrayList<Item>();
+		cargo.clear();
+		if (events != null) {
+			events.cargoCleared();
+		}
+	}
+	
+	/**
+	 * Publishes changes to the ship's health and cargo to the given events, once it's the player's ship.
+	 * @param events events to publish changes to, or null to stop publishing them
+	 */
+	void setEvents(GameEvents events) {
+		this.events = events;
 	}
 }
@@ -1,9 +1,12 @@
 package core;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.Arrays;
+import java.util.HashMap;
 
 /**
  * This class models a store with a list of items that can be bought from and sold to the store.
+ * Each item the store stocks has a supply pressure that moves its prices as the player trades it,
+ * and wears off as days pass.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
@@ -26,10 +29,41 @@ public class Store {
 	 */
 	private final int SELL_DIFFERENCE = 5; 
 	
+	/**
+	 * Number of units of an item the player has to buy to double its prices, or sell to halve them.
+	 */
+	private final int SUPPLY_UNITS = 20;
+	
+	/**
+	 * Largest supply pressure an item can build up in either direction.
+	 */
+	private final int MAX_PRESSURE = 3 * SUPPLY_UNITS;
+	
+	/**
+	 * Percentage of an item's supply pressure that wears off each day, rounded up so it always settles.
+	 */
+	private final int RECOVERY_PERCENT = 25;
+	
+	/**
+	 * Number of items a store buys and sells unless it's given another stock size.
+	 */
+	public static final int DEFAULT_STOCK_SIZE = 10;
+	
+	/**
+	 * Sampler each thread picks store items with, reused by every store the thread creates.
+	 */
+	private static final ThreadLocal<IndexSampler> SAMPLERS = ThreadLocal.withInitial(() -> new IndexSampler(0));
+	
+	/**
+	 * Number of different items the store buys, and the number it sells.
+	 * Capped at the number of items in the game.
+	 */
+	private final int stockSize;
+	
 	/**
 	 * Random number generator for picking items and prices.
 	 */
-	private Random randomGenerator;
+	private RandomSource randomGenerator;
 	
 	/**
 	 * Items that can be bought at the store.
@@ -42,17 +76,100 @@ public class Store {
 	private ArrayList<Item> sells;
 	
 	/**
-	 * Creates a store with a random number generator and ArrayLists of items that can be bought from and sold to the store,
-	 * then populates the lists with items.
+	 * Slot in the market arrays of each item name the store buys or sells.
+	 */
+	private HashMap<String, Integer> slots;
+	
+	/**
+	 * Index in buys of the item in each slot, or -1 if the store doesn't sell it.
+	 */
+	private int[] slotBuys;
+	
+	/**
+	 * Index in sells of the item in each slot, or -1 if the store doesn't buy it.
+	 */
+	private int[] slotSells;
+	
+	/**
+	 * Price of each item in buys when its supply is settled.
+	 */
+	private int[] buyEquilibrium;
+	
+	/**
+	 * Price of each item in sells when its supply is settled.
+	 */
+	private int[] sellEquilibrium;
+	
+	/**
+	 * Supply pressure of the item in each slot: the number of units the player has recently bought from the store,
+	 * less the number they've sold to it. Positive pressure raises the price the store charges for the item and negative lowers the price it pays.
+	 */
+	private int[] pressures;
+	
+	/**
+	 * Number of slots with supply pressure.
+	 */
+	private int unsettledSlots;
+	
+	/**
+	 * Number of times the store's prices have changed.
+	 */
+	private int priceVersion;
+	
+	/**
+	 * Creates a store with an unseeded random number generator and ArrayLists of items that can be bought from
+	 * and sold to the store, then populates the lists with items.
 	 */
 	public Store() {
-		randomGenerator = new Random();
+		this(new RandomSource());
+	}
+	
+	/**
+	 * Creates a store that picks its items and prices with the given random number generator
+	 * and ArrayLists of items that can be bought from and sold to the store, then populates the lists with items.
+	 * @param randomGenerator random number generator for picking items and prices
+	 */
+	public Store(RandomSource randomGenerator) {
+		this(randomGenerator, DEFAULT_STOCK_SIZE);
+	}
+	
+	/**
+	 * Creates a store that picks the given number of items to buy and sell, with their prices,
+	 * using the given random number generator.
+	 * @param randomGenerator random number generator for picking items and prices
+	 * @param stockSize number of different items the store buys, and the number it sells
+	 */
+	public Store(RandomSource randomGenerator, int stockSize) {
+		this.randomGenerator = randomGenerator;
+		this.stockSize = stockSize;
 		buys = new ArrayList<>();
 		sells = new ArrayList<>();
 		generateBuys();
 		generateSells();
 	}
 	
+	/**
+	 * Creates a store restored from a saved game, with the given items at their equilibrium prices,
+	 * then applies the saved supply pressure of each market slot.
+	 * @param randomGenerator random number generator for generating new lists of items
+	 * @param stockSize number of different items the store buys, and the number it sells
+	 * @param buys items that can be bought at the store, priced at equilibrium
+	 * @param sells items that can be sold to the store, priced at equilibrium
+	 * @param slotPressures supply pressure of each market slot
+	 */
+	Store(RandomSource randomGenerator, int stockSize, ArrayList<Item> buys, ArrayList<Item> sells, int[] slotPressures) {
+		this.randomGenerator = randomGenerator;
+		this.stockSize = stockSize;
+		this.buys = buys;
+		this.sells = sells;
+		indexStock();
+		for (int slot = 0; slot < slotPressures.length; slot++) {
+			if (slotPressures[slot] != 0) {
+				setPressure(slot, slotPressures[slot]);
+			}
+		}
+	}
+	
 	/**
 	 * Generates random price for an item within a range.
 	 * @param item item to generate a price for
@@ -62,7 +179,7 @@ public class Store {
 		int basePrice = item.getBasePrice();
 		double minPrice = (basePrice + basePrice * VARIATION_MODIFIER) * PRICE_MODIFIER;
 		double maxPrice = (basePrice - basePrice * VARIATION_MODIFIER) * PRICE_MODIFIER;
-		int price = (int) ((Math.random() * (maxPrice - minPrice)) + minPrice);
+		int price = (int) ((randomGenerator.nextDouble() * (maxPrice - minPrice)) + minPrice);
 		return price;
 	}
 	
@@ -83,72 +200,327 @@ public class Store {
 	}
 	
 	/**
-	 * Generates a random list of items that can be bought from the store.
+	 * Returns the price the store pays for the item with the given name.
+	 * @param name item's name
+	 * @return price paid for the item, or -1 if the store doesn't buy it
 	 */
-	public void generateBuys() {
-		ArrayList<Item> newBuys = new ArrayList<>();
-		// Get list of all possible items to sell.
-		ArrayList<Item> allItems = ObjectsListGenerator.generateItem();
-		ArrayList<Item> weapons = ObjectsListGenerator.generateWeapon();
-		// Add weapons to all possible items list.
-		allItems.addAll(weapons);
-		// Create array to keep track of which items have already been added to store.
-		ArrayList<Integer> prevInts = new ArrayList<>();
-		for (int i=0;i<10; i++) {
-			// Generate a random index in all items list and add item at that index if it's not already in the list.
-			int nextInt = randomGenerator.nextInt(allItems.size());
-			while (prevInts.contains(nextInt)) {
-				nextInt = randomGenerator.nextInt(allItems.size());
+	public int getSellPrice(String name) {
+		Integer slot = slots.get(name);
+		return slot == null || slotSells[slot] == -1 ? -1 : sells.get(slotSells[slot]).getPrice();
+	}
+	
+	/**
+	 * Returns the gold the store charges for the given quantity of an item bought in one trade. Each unit costs what
+	 * it would if the units before it had been bought one at a time, so a trade costs the same however it's split.
+	 * An item that isn't one of the store's own buys costs its price for every unit.
+	 * @param item item to buy
+	 * @param quantity number of the item to buy
+	 * @return cost of the trade
+	 */
+	public long getBuyCost(Item item, int quantity) {
+		Integer slot = slots.get(item.getName());
+		if (slot == null || slotBuys[slot] == -1 || buys.get(slotBuys[slot]) != item) {
+			return (long) item.getPrice() * quantity;
+		}
+		return getTradeValue(buyEquilibrium[slotBuys[slot]], pressures[slot], 1, quantity);
+	}
+	
+	/**
+	 * Returns the gold the store pays for the given quantity of an item sold in one trade. Each unit fetches what it
+	 * would if the units before it had been sold one at a time, so a trade pays the same however it's split.
+	 * An item that isn't one of the store's own sells fetches its price for every unit.
+	 * @param item item to sell
+	 * @param quantity number of the item to sell
+	 * @return gold paid for the trade
+	 */
+	public long getSaleValue(Item item, int quantity) {
+		Integer slot = slots.get(item.getName());
+		if (slot == null || slotSells[slot] == -1 || sells.get(slotSells[slot]) != item) {
+			return (long) item.getPrice() * quantity;
+		}
+		return getTradeValue(sellEquilibrium[slotSells[slot]], pressures[slot], -1, quantity);
+	}
+	
+	/**
+	 * Returns the largest quantity of an item that can be bought in one trade with the given gold, with each unit
+	 * costing what it would if the units before it had been bought one at a time.
+	 * @param item item to buy
+	 * @param gold gold to spend
+	 * @return largest affordable quantity, or Integer.MAX_VALUE if the item is free
+	 */
+	public int getAffordableQuantity(Item item, int gold) {
+		Integer slot = slots.get(item.getName());
+		if (slot == null || slotBuys[slot] == -1 || buys.get(slotBuys[slot]) != item) {
+			return item.getPrice() > 0 ? gold / item.getPrice() : Integer.MAX_VALUE;
+		}
+		int equilibrium = buyEquilibrium[slotBuys[slot]];
+		int quantity = 0;
+		int left = gold;
+		// Each unit bought raises the price until the pressure reaches its limit, after which it stays put
+		for (int pressure = pressures[slot]; pressure < MAX_PRESSURE; pressure++) {
+			int price = marketPrice(equilibrium, Math.max(0, pressure));
+			if (price > left) {
+				return quantity;
 			}
-			prevInts.add(nextInt);
-			Item newItem = allItems.get(nextInt);
-			// Randomise price of item within range
-			int price = randomizePrice(newItem);
-			newItem.setPrice(price);
-			newBuys.add(newItem);
+			left -= price;
+			quantity++;
 		}
-		buys = newBuys;
+		int price = marketPrice(equilibrium, MAX_PRESSURE);
+		return price > 0 ? (int) Math.min(Integer.MAX_VALUE, (long) quantity + left / price) : Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Returns the supply pressure of the item with the given name: the number of units the player has recently
+	 * bought from the store less the number they've sold to it, wearing off day by day.
+	 * @param name item's name
+	 * @return supply pressure, or 0 if the store doesn't stock the item
+	 */
+	public int getPressure(String name) {
+		Integer slot = slots.get(name);
+		return slot == null ? 0 : pressures[slot];
+	}
+	
+	/**
+	 * Returns true if no item in the store has supply pressure, so its prices are all at equilibrium.
+	 * @return true if settled
+	 */
+	public boolean isSettled() {
+		return unsettledSlots == 0;
+	}
+	
+	/**
+	 * Returns the number of times the store's prices have changed, so values worked out from them can tell
+	 * when they're stale.
+	 * @return number of price changes
+	 */
+	public int getPriceVersion() {
+		return priceVersion;
+	}
+	
+	/**
+	 * Returns the number of different items the store buys, and the number it sells.
+	 * @return stock size
+	 */
+	int getStockSize() {
+		return stockSize;
+	}
+	
+	/**
+	 * Returns the equilibrium price of an item that can be bought at the store.
+	 * @param index index of the item in buys
+	 * @return equilibrium price
+	 */
+	int getBuyEquilibrium(int index) {
+		return buyEquilibrium[index];
+	}
+	
+	/**
+	 * Returns the equilibrium price of an item that can be sold to the store.
+	 * @param index index of the item in sells
+	 * @return equilibrium price
+	 */
+	int getSellEquilibrium(int index) {
+		return sellEquilibrium[index];
+	}
+	
+	/**
+	 * Returns the supply pressure of every market slot. Slots are numbered by the first appearance of each item name
+	 * in buys and then sells. The array is the store's own and mustn't be changed.
+	 * @return supply pressure of each slot
+	 */
+	int[] getSlotPressures() {
+		return pressures;
+	}
+	
+	/**
+	 * Adds a change in supply of an item to its pressure and reprices it in both lists.
+	 * @param name item's name
+	 * @param change number of units bought by the player, negative if sold to the store
+	 * @return true if the store stocks the item
+	 */
+	boolean trade(String name, int change) {
+		Integer slot = slots.get(name);
+		if (slot == null) {
+			return false;
+		}
+		setPressure(slot, Math.max(-MAX_PRESSURE, Math.min(MAX_PRESSURE, pressures[slot] + change)));
+		return true;
+	}
+	
+	/**
+	 * Wears off the given number of days of supply pressure and reprices the items it changes.
+	 * @param days number of days passed
+	 * @return true if any item still has supply pressure
+	 */
+	boolean recover(int days) {
+		for (int slot = 0; slot < pressures.length && unsettledSlots > 0; slot++) {
+			int pressure = pressures[slot];
+			for (int day = 0; day < days && pressure != 0; day++) {
+				int recovered = (Math.abs(pressure) * RECOVERY_PERCENT + 99) / 100;
+				pressure -= Integer.signum(pressure) * recovered;
+			}
+			if (pressure != pressures[slot]) {
+				setPressure(slot, pressure);
+			}
+		}
+		return unsettledSlots > 0;
+	}
+	
+	/**
+	 * Sets the supply pressure of a slot and reprices its items from their equilibrium prices.
+	 * Positive pressure only raises the price the store charges and negative pressure only lowers the price it
+	 * pays, so prices only ever move against the player. The store never pays more for an item than it charges,
+	 * and buying an item and selling it straight back can't make money.
+	 * @param slot slot of the item
+	 * @param pressure new supply pressure
+	 */
+	private void setPressure(int slot, int pressure) {
+		if ((pressures[slot] == 0) != (pressure == 0)) {
+			unsettledSlots += pressure == 0 ? -1 : 1;
+		}
+		pressures[slot] = pressure;
+		if (slotBuys[slot] != -1) {
+			buys.get(slotBuys[slot]).setPrice(marketPrice(buyEquilibrium[slotBuys[slot]], Math.max(0, pressure)));
+		}
+		if (slotSells[slot] != -1) {
+			sells.get(slotSells[slot]).setPrice(marketPrice(sellEquilibrium[slotSells[slot]], Math.min(0, pressure)));
+		}
+		priceVersion++;
+	}
+	
+	/**
+	 * Returns the gold a trade of several units is worth, pricing each unit at the supply pressure left by the units
+	 * before it. Buying only prices at positive pressure and selling only at negative, as in setPressure.
+	 * @param equilibrium item's price with no supply pressure
+	 * @param pressure item's supply pressure before the trade
+	 * @param step change in pressure from each unit, 1 for buying and -1 for selling
+	 * @param quantity number of units traded
+	 * @return gold the units are worth
+	 */
+	private long getTradeValue(int equilibrium, int pressure, int step, int quantity) {
+		long value = 0;
+		int units = 0;
+		// The pressure stops at its limit, so every unit after that is priced the same
+		while (units < quantity && pressure != step * MAX_PRESSURE) {
+			value += marketPrice(equilibrium, step > 0 ? Math.max(0, pressure) : Math.min(0, pressure));
+			pressure += step;
+			units++;
+		}
+		int price = marketPrice(equilibrium, step > 0 ? Math.max(0, pressure) : Math.min(0, pressure));
+		return value + (long) price * (quantity - units);
+	}
+	
+	/**
+	 * Returns an item's price under the given supply pressure.
+	 * Each SUPPLY_UNITS of positive pressure adds the equilibrium price again,
+	 * and negative pressure divides it the same way, but never below 1 gold.
+	 * @param equilibrium item's price with no supply pressure
+	 * @param pressure item's supply pressure
+	 * @return item's price
+	 */
+	private int marketPrice(int equilibrium, int pressure) {
+		int price;
+		if (pressure >= 0) {
+			price = equilibrium * (SUPPLY_UNITS + pressure) / SUPPLY_UNITS;
+		} else {
+			price = Math.min(equilibrium, Math.max(1, equilibrium * SUPPLY_UNITS / (SUPPLY_UNITS - pressure)));
+		}
+		return price;
+	}
+	
+	/**
+	 * Gives every item the store buys or sells a market slot with no supply pressure, taking the current prices
+	 * as the equilibrium prices.
+	 */
+	private void indexStock() {
+		slots = new HashMap<>();
+		slotBuys = new int[buys.size() + sells.size()];
+		slotSells = new int[slotBuys.length];
+		Arrays.fill(slotBuys, -1);
+		Arrays.fill(slotSells, -1);
+		buyEquilibrium = new int[buys.size()];
+		for (int i = 0; i < buys.size(); i++) {
+			slotBuys[slotOf(buys.get(i).getName())] = i;
+			buyEquilibrium[i] = buys.get(i).getPrice();
+		}
+		sellEquilibrium = new int[sells.size()];
+		for (int i = 0; i < sells.size(); i++) {
+			slotSells[slotOf(sells.get(i).getName())] = i;
+			sellEquilibrium[i] = sells.get(i).getPrice();
+		}
+		pressures = new int[slots.size()];
+		unsettledSlots = 0;
+		priceVersion++;
+	}
+	
+	/**
+	 * Returns the market slot of an item name, giving it the next slot if it doesn't have one.
+	 * @param name item's name
+	 * @return item's slot
+	 */
+	private int slotOf(String name) {
+		Integer slot = slots.get(name);
+		if (slot == null) {
+			slot = slots.size();
+			slots.put(name, slot);
+		}
+		return slot;
+	}
+	
+	/**
+	 * Generates a random list of items that can be bought from the store.
+	 */
+	public void generateBuys() {
+		buys = pickItems();
+		indexStock();
 	}
 	
 	/**
 	 * Generates a random list of items that can be sold to the store.
 	 */
 	public void generateSells() {
-		// Get list of all possible items to sell.
-		ArrayList<Item> newSells = new ArrayList<>();
-		ArrayList<Item> allItems = ObjectsListGenerator.generateItem();
-		ArrayList<Item> weapons = ObjectsListGenerator.generateWeapon();
-		// Add weapons to all possible items list.
-		allItems.addAll(weapons);
-		// Create array to keep track of which items have already been added to store.
-		ArrayList<Integer> prevInts = new ArrayList<>();
-		for (int i=0;i<10; i++) {
-			// Generate a random index in all items list and add item at that index if it's not already in the list.
-			int nextInt = randomGenerator.nextInt(allItems.size());
-			while (prevInts.contains(nextInt)) {
-				nextInt = randomGenerator.nextInt(allItems.size());
-			}
-			prevInts.add(nextInt);
-			Item newItem = allItems.get(nextInt);
-			// Randomise price of item within range
-			int price = randomizePrice(newItem);
-			newItem.setPrice(price);
-			newSells.add(newItem);
+		ArrayList<Item> newSells = pickItems();
+		HashMap<String, Integer> buyPrices = new HashMap<>();
+		for (Item item : buys) {
+			buyPrices.put(item.getName(), item.getPrice());
 		}
 		// For each item in sells list check if it is in the buys list and if so make sure that the price is lower in this list
-		for (Item item1 : newSells) {
-			for (Item item2: this.buys) {
-				if (item1.getName().equals(item2.getName())){
-					if (item2.getPrice() < item1.getPrice()) {
-						int newPrice = item2.getPrice()-(1+randomGenerator.nextInt(SELL_DIFFERENCE-1));
-						if (newPrice < 1) {
-							newPrice = 1;
-						}
-						item1.setPrice(newPrice);
-					}
+		for (Item item : newSells) {
+			Integer buyPrice = buyPrices.get(item.getName());
+			if (buyPrice != null && buyPrice < item.getPrice()) {
+				int newPrice = buyPrice-(1+randomGenerator.nextInt(SELL_DIFFERENCE-1));
+				if (newPrice < 1) {
+					newPrice = 1;
 				}
+				item.setPrice(newPrice);
 			}
 		}
 		sells = newSells;
+		indexStock();
+	}
+	
+	/**
+	 * Picks stockSize distinct items from every trade item and weapon in the game and gives them random prices.
+	 * Only the picked items are copied from the catalog.
+	 * @return picked items
+	 */
+	private ArrayList<Item> pickItems() {
+		GameCatalog catalog = GameCatalog.getInstance();
+		int itemCount = catalog.getItemCount();
+		int population = itemCount + catalog.getWeaponCount();
+		IndexSampler sampler = SAMPLERS.get();
+		if (sampler.getPopulationSize() != population) {
+			sampler = new IndexSampler(population);
+			SAMPLERS.set(sampler);
+		}
+		int[] picked = sampler.sample(Math.min(stockSize, population), randomGenerator);
+		ArrayList<Item> items = new ArrayList<>(picked.length);
+		for (int index : picked) {
+			// Weapons are numbered after the trade items
+			Item item = index < itemCount ? catalog.createItem(index) : catalog.createWeapon(index - itemCount);
+			item.setPrice(randomizePrice(item));
+			items.add(item);
+		}
+		return items;
 	}
 }
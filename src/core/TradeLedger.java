@@ -0,0 +1,399 @@
+package core;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * This class records every lot of goods the player buys, and where, when and for how much it was sold.
+ * Lots are kept in columns of primitive arrays that are only ever appended to, with item and island names
+ * stored once and referred to by number. The unsold lots of each item are chained together oldest first,
+ * so a sale finds the lots it sells without searching the ledger.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class TradeLedger {
+
+	/**
+	 * Number of lots the columns start with room for.
+	 */
+	private static final int INITIAL_CAPACITY = 32;
+
+	/**
+	 * Value of the sell columns of a lot that hasn't been sold, and the end of an unsold chain.
+	 */
+	private static final int NONE = -1;
+
+	/**
+	 * Number of each item name in the ledger.
+	 */
+	private final HashMap<String, Integer> itemIds = new HashMap<String, Integer>();
+
+	/**
+	 * Item names by number.
+	 */
+	private final ArrayList<String> itemNames = new ArrayList<String>();
+
+	/**
+	 * Number of each island name in the ledger.
+	 */
+	private final HashMap<String, Integer> islandIds = new HashMap<String, Integer>();
+
+	/**
+	 * Island names by number.
+	 */
+	private final ArrayList<String> islandNames = new ArrayList<String>();
+
+	/**
+	 * Item number of each lot.
+	 */
+	private int[] items = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Number of items in each lot.
+	 */
+	private int[] quantities = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Price each lot's items were bought for.
+	 */
+	private int[] buyPrices = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Island number each lot was bought at.
+	 */
+	private int[] buyIslands = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Game day each lot was bought on.
+	 */
+	private int[] buyDays = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Price each lot's items were sold for, or -1 if unsold.
+	 */
+	private int[] sellPrices = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Island number each lot was sold at, or -1 if unsold.
+	 */
+	private int[] sellIslands = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Game day each lot was sold on, or -1 if unsold.
+	 */
+	private int[] sellDays = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Next unsold lot of the same item for each unsold lot, or -1 for the newest.
+	 */
+	private int[] nextUnsold = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Oldest unsold lot of each item, or -1 if there are none.
+	 */
+	private int[] oldestUnsold = new int[0];
+
+	/**
+	 * Newest unsold lot of each item, or -1 if there are none.
+	 */
+	private int[] newestUnsold = new int[0];
+
+	/**
+	 * Number of unsold items of each item.
+	 */
+	private int[] unsoldCounts = new int[0];
+
+	/**
+	 * Number of lots in the ledger.
+	 */
+	private int size;
+	
+	/**
+	 * Events changes to the ledger are published to, or null if nobody is told about them.
+	 */
+	private GameEvents events;
+
+	/**
+	 * Records a lot of items bought together.
+	 * @param itemName name of the item
+	 * @param quantity number of the item bought
+	 * @param price price paid for each item
+	 * @param islandName name of the island the lot was bought at
+	 * @param day game day the lot was bought on
+	 */
+	public void buy(String itemName, int quantity, int price, String islandName, int day) {
+		int item = itemId(itemName);
+		int lot = append(item, quantity, price, islandId(islandName), day);
+		if (newestUnsold[item] == NONE) {
+			oldestUnsold[item] = lot;
+		} else {
+			nextUnsold[newestUnsold[item]] = lot;
+		}
+		newestUnsold[item] = lot;
+		unsoldCounts[item] += quantity;
+		if (events != null) {
+			events.goodsAdded(lot);
+		}
+	}
+
+	/**
+	 * Records the sale of up to the given quantity of an item, selling the oldest unsold lots first.
+	 * If only part of a lot is sold, the sold part is added as a new lot and the rest stays unsold.
+	 * Items that were never recorded as bought, such as the ship's starting cannon, are ignored.
+	 * @param itemName name of the item
+	 * @param quantity number of the item sold
+	 * @param price price received for each item
+	 * @param islandName name of the island the items were sold at
+	 * @param day game day the items were sold on
+	 */
+	public void sell(String itemName, int quantity, int price, String islandName, int day) {
+		Integer item = itemIds.get(itemName);
+		if (item == null) {
+			return;
+		}
+		int island = islandId(islandName);
+		int left = quantity;
+		while (left > 0 && oldestUnsold[item] != NONE) {
+			int lot = oldestUnsold[item];
+			if (quantities[lot] > left) {
+				// Split off the sold part, the rest of the lot stays first in the unsold chain
+				quantities[lot] -= left;
+				int sold = append(item, left, buyPrices[lot], buyIslands[lot], buyDays[lot]);
+				markSold(sold, price, island, day);
+				unsoldCounts[item] -= left;
+				left = 0;
+				if (events != null) {
+					events.goodsChanged(lot);
+					events.goodsAdded(sold);
+				}
+			} else {
+				oldestUnsold[item] = nextUnsold[lot];
+				if (oldestUnsold[item] == NONE) {
+					newestUnsold[item] = NONE;
+				}
+				markSold(lot, price, island, day);
+				unsoldCounts[item] -= quantities[lot];
+				left -= quantities[lot];
+				if (events != null) {
+					events.goodsChanged(lot);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a lot from a saved ledger to the end of this one. Unsold lots join the end of their item's unsold chain,
+	 * so adding a saved ledger's lots in order rebuilds it exactly.
+	 * @param itemName name of the item
+	 * @param quantity number of items in the lot
+	 * @param buyPrice price paid for each item
+	 * @param buyIsland name of the island the lot was bought at
+	 * @param buyDay game day the lot was bought on
+	 * @param sellPrice price received for each item, ignored if unsold
+	 * @param sellIsland name of the island the lot was sold at, or null if unsold
+	 * @param sellDay game day the lot was sold on, ignored if unsold
+	 */
+	void restoreLot(String itemName, int quantity, int buyPrice, String buyIsland, int buyDay,
+			int sellPrice, String sellIsland, int sellDay) {
+		if (sellIsland == null) {
+			buy(itemName, quantity, buyPrice, buyIsland, buyDay);
+		} else {
+			int lot = append(itemId(itemName), quantity, buyPrice, islandId(buyIsland), buyDay);
+			markSold(lot, sellPrice, islandId(sellIsland), sellDay);
+		}
+	}
+
+	/**
+	 * Publishes the lots added to and sold from the ledger to the given events.
+	 * @param events events to publish changes to
+	 */
+	void setEvents(GameEvents events) {
+		this.events = events;
+	}
+	
+	/**
+	 * Returns the number of lots in the ledger.
+	 * @return number of lots
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of unsold items with the given name.
+	 * @param itemName name of the item
+	 * @return number of unsold items
+	 */
+	public int getUnsoldCount(String itemName) {
+		Integer item = itemIds.get(itemName);
+		return item == null ? 0 : unsoldCounts[item];
+	}
+
+	/**
+	 * Returns the name of the item in a lot.
+	 * @param lot index of the lot
+	 * @return item's name
+	 */
+	public String getItemName(int lot) {
+		return itemNames.get(items[lot]);
+	}
+
+	/**
+	 * Returns the number of items in a lot.
+	 * @param lot index of the lot
+	 * @return number of items
+	 */
+	public int getQuantity(int lot) {
+		return quantities[lot];
+	}
+
+	/**
+	 * Returns the price each item in a lot was bought for.
+	 * @param lot index of the lot
+	 * @return buying price
+	 */
+	public int getBuyPrice(int lot) {
+		return buyPrices[lot];
+	}
+
+	/**
+	 * Returns the name of the island a lot was bought at.
+	 * @param lot index of the lot
+	 * @return island's name
+	 */
+	public String getBuyIsland(int lot) {
+		return islandNames.get(buyIslands[lot]);
+	}
+
+	/**
+	 * Returns the game day a lot was bought on.
+	 * @param lot index of the lot
+	 * @return day bought
+	 */
+	public int getBuyDay(int lot) {
+		return buyDays[lot];
+	}
+
+	/**
+	 * Returns true if a lot has been sold.
+	 * @param lot index of the lot
+	 * @return true if sold
+	 */
+	public boolean isSold(int lot) {
+		return sellIslands[lot] != NONE;
+	}
+
+	/**
+	 * Returns the price each item in a lot was sold for.
+	 * @param lot index of the lot
+	 * @return selling price, or -1 if unsold
+	 */
+	public int getSellPrice(int lot) {
+		return sellPrices[lot];
+	}
+
+	/**
+	 * Returns the name of the island a lot was sold at.
+	 * @param lot index of the lot
+	 * @return island's name, or null if unsold
+	 */
+	public String getSellIsland(int lot) {
+		return isSold(lot) ? islandNames.get(sellIslands[lot]) : null;
+	}
+
+	/**
+	 * Returns the game day a lot was sold on.
+	 * @param lot index of the lot
+	 * @return day sold, or -1 if unsold
+	 */
+	public int getSellDay(int lot) {
+		return sellDays[lot];
+	}
+
+	/**
+	 * Adds an unsold lot to the end of the columns, growing them if they're full.
+	 * @param item item number
+	 * @param quantity number of items
+	 * @param price buying price
+	 * @param island island number it was bought at
+	 * @param day day it was bought on
+	 * @return index of the new lot
+	 */
+	private int append(int item, int quantity, int price, int island, int day) {
+		if (size == items.length) {
+			int capacity = size * 2;
+			items = Arrays.copyOf(items, capacity);
+			quantities = Arrays.copyOf(quantities, capacity);
+			buyPrices = Arrays.copyOf(buyPrices, capacity);
+			buyIslands = Arrays.copyOf(buyIslands, capacity);
+			buyDays = Arrays.copyOf(buyDays, capacity);
+			sellPrices = Arrays.copyOf(sellPrices, capacity);
+			sellIslands = Arrays.copyOf(sellIslands, capacity);
+			sellDays = Arrays.copyOf(sellDays, capacity);
+			nextUnsold = Arrays.copyOf(nextUnsold, capacity);
+		}
+		int lot = size++;
+		items[lot] = item;
+		quantities[lot] = quantity;
+		buyPrices[lot] = price;
+		buyIslands[lot] = island;
+		buyDays[lot] = day;
+		sellPrices[lot] = NONE;
+		sellIslands[lot] = NONE;
+		sellDays[lot] = NONE;
+		nextUnsold[lot] = NONE;
+		return lot;
+	}
+
+	/**
+	 * Fills in a lot's sell columns.
+	 * @param lot index of the lot
+	 * @param price selling price
+	 * @param island island number it was sold at
+	 * @param day day it was sold on
+	 */
+	private void markSold(int lot, int price, int island, int day) {
+		sellPrices[lot] = price;
+		sellIslands[lot] = island;
+		sellDays[lot] = day;
+		nextUnsold[lot] = NONE;
+	}
+
+	/**
+	 * Returns the number of an item name, giving it a new number with an empty unsold chain if it's new.
+	 * @param itemName item's name
+	 * @return item number
+	 */
+	private int itemId(String itemName) {
+		Integer item = itemIds.get(itemName);
+		if (item == null) {
+			item = itemNames.size();
+			itemIds.put(itemName, item);
+			itemNames.add(itemName);
+			if (item == oldestUnsold.length) {
+				int capacity = Math.max(INITIAL_CAPACITY, item * 2);
+				oldestUnsold = Arrays.copyOf(oldestUnsold, capacity);
+				newestUnsold = Arrays.copyOf(newestUnsold, capacity);
+				unsoldCounts = Arrays.copyOf(unsoldCounts, capacity);
+			}
+			oldestUnsold[item] = NONE;
+			newestUnsold[item] = NONE;
+		}
+		return item;
+	}
+
+	/**
+	 * Returns the number of an island name, giving it a new number if it's new.
+	 * @param islandName island's name
+	 * @return island number
+	 */
+	private int islandId(String islandName) {
+		Integer island = islandIds.get(islandName);
+		if (island == null) {
+			island = islandNames.size();
+			islandIds.put(islandName, island);
+			islandNames.add(islandName);
+		}
+		return island;
+	}
+}
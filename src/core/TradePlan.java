@@ -0,0 +1,247 @@
+package core;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class models an itinerary found by the trade planner: a sequence of legs where items are bought at one island,
+ * carried along a route, and sold at the next island.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class TradePlan {
+	
+	/**
+	 * Legs of the itinerary in the order they're traveled.
+	 */
+	private final List<Leg> legs;
+	
+	/**
+	 * Gold the player has at the start of the plan.
+	 */
+	private final int startGold;
+	
+	/**
+	 * Gold the player has after the last leg.
+	 */
+	private final int finalGold;
+	
+	/**
+	 * Creates a plan with the given legs.
+	 * @param legs legs in the order they're traveled
+	 * @param startGold gold at the start of the plan
+	 * @param finalGold gold after the last leg
+	 */
+	TradePlan(List<Leg> legs, int startGold, int finalGold) {
+		this.legs = Collections.unmodifiableList(new ArrayList<Leg>(legs));
+		this.startGold = startGold;
+		this.finalGold = finalGold;
+	}
+	
+	/**
+	 * Returns the legs of the itinerary in the order they're traveled.
+	 * @return unmodifiable list of legs
+	 */
+	public List<Leg> getLegs() {
+		return legs;
+	}
+	
+	/**
+	 * Returns the gold the player has at the start of the plan.
+	 * @return starting gold
+	 */
+	public int getStartGold() {
+		return startGold;
+	}
+	
+	/**
+	 * Returns the gold the player has after following the whole plan.
+	 * @return final gold
+	 */
+	public int getFinalGold() {
+		return finalGold;
+	}
+	
+	/**
+	 * Returns the gold gained by following the whole plan, after wages.
+	 * @return profit
+	 */
+	public int getProfit() {
+		return finalGold - startGold;
+	}
+	
+	/**
+	 * Returns the number of days the plan takes.
+	 * @return days used
+	 */
+	public int getDaysUsed() {
+		int days = 0;
+		for (Leg leg : legs) {
+			days += leg.getDays();
+		}
+		return days;
+	}
+	
+	/**
+	 * Returns a string representation of the plan with one line per leg.
+	 * @return string representation of the plan
+	 */
+	public String toString() {
+		String string = "Profit: " + getProfit() + " gold over " + getDaysUsed() + " days";
+		for (Leg leg : legs) {
+			string += "\n\t" + leg;
+		}
+		return string;
+	}
+	
+	/**
+	 * One leg of the itinerary: the items to buy before leaving, the route to travel along, and the island to sell at.
+	 */
+	public static class Leg {
+		
+		/**
+		 * Island the leg starts at.
+		 */
+		private final Island from;
+		
+		/**
+		 * Island the leg ends at, where the cargo is sold.
+		 */
+		private final Island to;
+		
+		/**
+		 * Route traveled along.
+		 */
+		private final Route route;
+		
+		/**
+		 * Number of days the route takes.
+		 */
+		private final int days;
+		
+		/**
+		 * Items to buy from the starting island's store and how many of each.
+		 */
+		private final Map<Item, Integer> purchases;
+		
+		/**
+		 * Gold spent buying the items.
+		 */
+		private final int spend;
+		
+		/**
+		 * Gold made selling the items at the destination.
+		 */
+		private final int revenue;
+		
+		/**
+		 * Gold the player has after selling at the destination.
+		 */
+		private final int goldAfter;
+		
+		/**
+		 * Creates a leg with the given values.
+		 * @param from island the leg starts at
+		 * @param to island the leg ends at
+		 * @param route route traveled along
+		 * @param days number of days the route takes
+		 * @param purchases items to buy and how many of each
+		 * @param spend gold spent buying the items
+		 * @param revenue gold made selling the items
+		 * @param goldAfter gold after selling at the destination
+		 */
+		Leg(Island from, Island to, Route route, int days, Map<Item, Integer> purchases, int spend, int revenue, int goldAfter) {
+			this.from = from;
+			this.to = to;
+			this.route = route;
+			this.days = days;
+			this.purchases = Collections.unmodifiableMap(new LinkedHashMap<Item, Integer>(purchases));
+			this.spend = spend;
+			this.revenue = revenue;
+			this.goldAfter = goldAfter;
+		}
+		
+		/**
+		 * Returns the island the leg starts at.
+		 * @return starting island
+		 */
+		public Island getFrom() {
+			return from;
+		}
+		
+		/**
+		 * Returns the island the leg ends at.
+		 * @return destination island
+		 */
+		public Island getTo() {
+			return to;
+		}
+		
+		/**
+		 * Returns the route traveled along.
+		 * @return route
+		 */
+		public Route getRoute() {
+			return route;
+		}
+		
+		/**
+		 * Returns the number of days the route takes.
+		 * @return days
+		 */
+		public int getDays() {
+			return days;
+		}
+		
+		/**
+		 * Returns the items to buy from the starting island's store and how many of each.
+		 * @return unmodifiable map of store items to quantities
+		 */
+		public Map<Item, Integer> getPurchases() {
+			return purchases;
+		}
+		
+		/**
+		 * Returns the gold spent buying the items.
+		 * @return gold spent
+		 */
+		public int getSpend() {
+			return spend;
+		}
+		
+		/**
+		 * Returns the gold made selling the items at the destination.
+		 * @return gold made
+		 */
+		public int getRevenue() {
+			return revenue;
+		}
+		
+		/**
+		 * Returns the gold the player has after selling at the destination.
+		 * @return gold after the leg
+		 */
+		public int getGoldAfter() {
+			return goldAfter;
+		}
+		
+		/**
+		 * Returns a one line representation of the leg.
+		 * @return string representation of the leg
+		 */
+		public String toString() {
+			String string = from.getName() + " -> " + to.getName() + " (" + days + " days): ";
+			if (purchases.isEmpty()) {
+				string += "no cargo";
+			}
+			String separator = "";
+			for (Map.Entry<Item, Integer> purchase : purchases.entrySet()) {
+				string += separator + purchase.getValue() + " x " + purchase.getKey().getName();
+				separator = ", ";
+			}
+			return string + ", gold after: " + goldAfter;
+		}
+	}
+}
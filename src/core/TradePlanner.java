@@ -0,0 +1,528 @@
+package core;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class finds the most profitable itinerary for a trader. On each leg the trader buys items at one island,
+ * travels along a route paying the crew's wages, and sells everything at the next island.
+ * The search is a dynamic program over (island, days used) states that keeps only the most gold reached in each state,
+ * since more gold in the same place at the same time is never worse. The cargo for each leg is an unbounded knapsack
+ * limited by both cargo space and gold, solved by branch and bound.
+ * Random events are not considered, and the ship is assumed to stay at full health.
+ * Prices are taken as they are when planning, so the market moving them as the plan is followed isn't considered.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class TradePlanner {
+	
+	/**
+	 * Maximum number of branches explored when choosing the cargo for one leg.
+	 * The best cargo found so far is used if the limit is reached.
+	 */
+	private static final int MAX_CARGO_NODES = 20000;
+	
+	/**
+	 * Islands that can be traveled between.
+	 */
+	private final ArrayList<Island> islands;
+	
+	/**
+	 * Index of the first directed route from each island in the route arrays, with one extra entry at the end.
+	 */
+	private final int[] routeStart;
+	
+	/**
+	 * Index of the island at the end of each directed route.
+	 */
+	private final int[] routeTarget;
+	
+	/**
+	 * Route object for each directed route.
+	 */
+	private final Route[] routes;
+	
+	/**
+	 * Creates a planner for the given islands and builds a directed list of the routes from each island.
+	 * @param islands islands that can be traveled between
+	 */
+	public TradePlanner(ArrayList<Island> islands) {
+		this.islands = islands;
+		IdentityHashMap<Island, Integer> indices = new IdentityHashMap<Island, Integer>();
+		int routeCount = 0;
+		for (int i = 0; i < islands.size(); i++) {
+			indices.put(islands.get(i), i);
+			routeCount += islands.get(i).getRoutes().size();
+		}
+		routeStart = new int[islands.size() + 1];
+		routeTarget = new int[routeCount];
+		routes = new Route[routeCount];
+		int next = 0;
+		for (int i = 0; i < islands.size(); i++) {
+			Island island = islands.get(i);
+			routeStart[i] = next;
+			for (Route route : island.getRoutes()) {
+				Island[] ends = route.getIslands();
+				routeTarget[next] = indices.get(ends[0] != island ? ends[0] : ends[1]);
+				routes[next] = route;
+				next++;
+			}
+		}
+		routeStart[islands.size()] = next;
+	}
+	
+	/**
+	 * Finds the most profitable itinerary from the player's current position, using their gold, ship, and days left.
+	 * @param game game instance
+	 * @return most profitable plan found
+	 */
+	public TradePlan plan(GameEnvironment game) {
+		Ship ship = game.getShip();
+		return plan(game.getIsland(), game.getGold(), ship.getSpaceLeft(), ship.getSpeed(), game.getDailyWages(), game.getDaysLeft());
+	}
+	
+	/**
+	 * Finds the most profitable itinerary with the given starting conditions.
+	 * Routes that would take no days are planned as taking one day, so the plan can't loop forever.
+	 * @param start island the trader starts at
+	 * @param gold gold the trader starts with
+	 * @param spaceLeft space left in the ship's cargo
+	 * @param speed ship's speed
+	 * @param dailyWages crew's wages for each day of travel
+	 * @param daysLeft number of days left in the game
+	 * @return most profitable plan found
+	 */
+	public TradePlan plan(Island start, int gold, int spaceLeft, int speed, double dailyWages, int daysLeft) {
+		int startIndex = islands.indexOf(start);
+		if (startIndex < 0) {
+			throw new IllegalArgumentException("Starting island is not one of the planner's islands");
+		}
+		// Ship.addCargo needs more space left than the item's size, so one unit of space can never be filled
+		int capacity = Math.max(0, spaceLeft - 1);
+		int islandCount = islands.size();
+		int states = islandCount * (daysLeft + 1);
+		
+		// States are numbered day by day so each day's states are next to each other in memory
+		int[] bestGold = new int[states];
+		Arrays.fill(bestGold, -1);
+		int[] previousState = new int[states];
+		int[] previousRoute = new int[states];
+		Cargo[] previousCargo = new Cargo[states];
+		LegItems[] legs = new LegItems[routes.length];
+		int[] routeDays = new int[routes.length];
+		for (int r = 0; r < routes.length; r++) {
+			routeDays[r] = routes[r].getDays(speed);
+		}
+		StorePrices prices = new StorePrices(islands);
+		
+		int startState = startIndex;
+		bestGold[startState] = gold;
+		int finalState = startState;
+		
+		for (int day = 0; day <= daysLeft; day++) {
+			for (int island = 0; island < islandCount; island++) {
+				int state = day * islandCount + island;
+				int currentGold = bestGold[state];
+				if (currentGold < 0) {
+					continue;
+				}
+				if (currentGold > bestGold[finalState]) {
+					finalState = state;
+				}
+				for (int r = routeStart[island]; r < routeStart[island + 1]; r++) {
+					int days = routeDays[r];
+					int nextDay = day + Math.max(1, days);
+					double wages = days * dailyWages;
+					if (nextDay > daysLeft || currentGold < wages) {
+						continue;
+					}
+					if (legs[r] == null) {
+						legs[r] = new LegItems(islands.get(island), islands.get(routeTarget[r]), island, routeTarget[r], prices);
+					}
+					// Enough gold has to be kept to pay the wages when leaving
+					Cargo cargo = legs[r].solve(capacity, (int) Math.floor(currentGold - wages));
+					int nextGold = (int) (currentGold - cargo.cost - wages) + cargo.cost + cargo.profit;
+					int nextState = nextDay * islandCount + routeTarget[r];
+					if (nextGold > bestGold[nextState]) {
+						bestGold[nextState] = nextGold;
+						previousState[nextState] = state;
+						previousRoute[nextState] = r;
+						previousCargo[nextState] = cargo;
+					}
+				}
+			}
+		}
+		return buildPlan(startState, finalState, gold, bestGold, previousState, previousRoute, previousCargo, legs, speed);
+	}
+	
+	/**
+	 * Follows the previous state links back from the final state to build the plan's legs in order.
+	 * @param startState state the plan starts in
+	 * @param finalState state with the most gold
+	 * @param gold starting gold
+	 * @param bestGold most gold reached in each state
+	 * @param previousState state each state was reached from
+	 * @param previousRoute directed route each state was reached along
+	 * @param previousCargo cargo carried into each state
+	 * @param legs item data for each directed route
+	 * @param speed ship's speed
+	 * @return plan ending in the final state
+	 */
+	private TradePlan buildPlan(int startState, int finalState, int gold, int[] bestGold, int[] previousState,
+			int[] previousRoute, Cargo[] previousCargo, LegItems[] legs, int speed) {
+		ArrayList<TradePlan.Leg> planLegs = new ArrayList<TradePlan.Leg>();
+		for (int state = finalState; state != startState; state = previousState[state]) {
+			int r = previousRoute[state];
+			LegItems leg = legs[r];
+			Cargo cargo = previousCargo[state];
+			Map<Item, Integer> purchases = new LinkedHashMap<Item, Integer>();
+			for (int i = 0; i < cargo.quantities.length; i++) {
+				if (cargo.quantities[i] > 0) {
+					purchases.put(leg.items[i], cargo.quantities[i]);
+				}
+			}
+			planLegs.add(new TradePlan.Leg(leg.from, leg.to, routes[r], routes[r].getDays(speed), purchases,
+					cargo.cost, cargo.cost + cargo.profit, bestGold[state]));
+		}
+		Collections.reverse(planLegs);
+		return new TradePlan(planLegs, gold, bestGold[finalState]);
+	}
+	
+	/**
+	 * Items that can be bought when leaving one island and sold for a profit at the next,
+	 * sorted by profit per unit of space.
+	 */
+	private static final class LegItems {
+		
+		/**
+		 * Island the items are bought at.
+		 */
+		final Island from;
+		
+		/**
+		 * Island the items are sold at.
+		 */
+		final Island to;
+		
+		/**
+		 * Store items that can be bought.
+		 */
+		final Item[] items;
+		
+		/**
+		 * Size of each item.
+		 */
+		final int[] sizes;
+		
+		/**
+		 * Buying price of each item.
+		 */
+		final int[] prices;
+		
+		/**
+		 * Profit made on one of each item.
+		 */
+		final int[] profits;
+		
+		/**
+		 * Highest profit per unit of space among each item and the ones after it.
+		 */
+		final double[] spaceRatios;
+		
+		/**
+		 * Highest profit per gold spent among each item and the ones after it.
+		 */
+		final double[] goldRatios;
+		
+		/**
+		 * Best cargo when gold isn't a limit, used whenever the trader can afford it.
+		 */
+		private Cargo unlimitedCargo;
+		
+		/**
+		 * Cargo space the unlimited cargo was found for.
+		 */
+		private int unlimitedCapacity = -1;
+		
+		/**
+		 * Best cargo found for the most recent budget that couldn't afford the unlimited cargo.
+		 */
+		private Cargo limitedCargo;
+		
+		/**
+		 * Budget the limited cargo was found for.
+		 */
+		private int limitedBudget = -1;
+		
+		/**
+		 * Finds the items bought at one island that sell for more at the other.
+		 * @param from island the items are bought at
+		 * @param to island the items are sold at
+		 * @param fromIndex index of the island the items are bought at
+		 * @param toIndex index of the island the items are sold at
+		 * @param storePrices prices at every island's store
+		 */
+		LegItems(Island from, Island to, int fromIndex, int toIndex, StorePrices storePrices) {
+			this.from = from;
+			this.to = to;
+			Item[] buys = storePrices.buys[fromIndex];
+			int[] buyIds = storePrices.buyIds[fromIndex];
+			int[] sellPrices = storePrices.sellPrices[toIndex];
+			
+			// Insertion sort the profitable items by profit per unit of space, stores only have a few items
+			Item[] profitable = new Item[buys.length];
+			int[] profitableProfits = new int[buys.length];
+			int count = 0;
+			for (int i = 0; i < buys.length; i++) {
+				int profit = sellPrices[buyIds[i]] - buys[i].getPrice();
+				if (sellPrices[buyIds[i]] < 0 || profit <= 0) {
+					continue;
+				}
+				int j = count++;
+				while (j > 0 && (long) profit * profitable[j - 1].getSize() > (long) profitableProfits[j - 1] * buys[i].getSize()) {
+					profitable[j] = profitable[j - 1];
+					profitableProfits[j] = profitableProfits[j - 1];
+					j--;
+				}
+				profitable[j] = buys[i];
+				profitableProfits[j] = profit;
+			}
+			
+			items = Arrays.copyOf(profitable, count);
+			sizes = new int[count];
+			prices = new int[count];
+			profits = Arrays.copyOf(profitableProfits, count);
+			spaceRatios = new double[count + 1];
+			goldRatios = new double[count + 1];
+			for (int i = count - 1; i >= 0; i--) {
+				sizes[i] = items[i].getSize();
+				prices[i] = items[i].getPrice();
+				spaceRatios[i] = Math.max(spaceRatios[i + 1], (double) profits[i] / sizes[i]);
+				double goldRatio = prices[i] > 0 ? (double) profits[i] / prices[i] : Double.POSITIVE_INFINITY;
+				goldRatios[i] = Math.max(goldRatios[i + 1], goldRatio);
+			}
+		}
+		
+		/**
+		 * Returns the most profitable cargo that fits in the given space and costs no more than the given gold.
+		 * @param capacity cargo space available
+		 * @param budget gold available
+		 * @return most profitable cargo found
+		 */
+		Cargo solve(int capacity, int budget) {
+			if (capacity != unlimitedCapacity) {
+				unlimitedCargo = new CargoSearch(this, capacity, Integer.MAX_VALUE).run();
+				unlimitedCapacity = capacity;
+				limitedBudget = -1;
+			}
+			if (unlimitedCargo.cost <= budget) {
+				return unlimitedCargo;
+			}
+			// The best cargo for a larger budget is still the best for a smaller one as long as it's affordable
+			if (limitedBudget >= budget && limitedCargo.cost <= budget) {
+				return limitedCargo;
+			}
+			limitedCargo = new CargoSearch(this, capacity, budget).run();
+			limitedBudget = budget;
+			return limitedCargo;
+		}
+	}
+	
+	/**
+	 * Every store's buy list and sell prices, with item names replaced by numbers so legs can be matched up
+	 * without looking up names.
+	 */
+	private static final class StorePrices {
+		
+		/**
+		 * Items that can be bought at each island's store.
+		 */
+		final Item[][] buys;
+		
+		/**
+		 * Number of each item that can be bought at each island's store.
+		 */
+		final int[][] buyIds;
+		
+		/**
+		 * Price each island's store pays for each numbered item, or -1 if it doesn't buy it.
+		 */
+		final int[][] sellPrices;
+		
+		/**
+		 * Numbers every item name found in the stores and records each store's prices.
+		 * @param islands islands with stores
+		 */
+		StorePrices(ArrayList<Island> islands) {
+			HashMap<String, Integer> ids = new HashMap<String, Integer>();
+			buys = new Item[islands.size()][];
+			buyIds = new int[islands.size()][];
+			int[][] sellIds = new int[islands.size()][];
+			int[][] sellValues = new int[islands.size()][];
+			for (int i = 0; i < islands.size(); i++) {
+				Store store = islands.get(i).getStore();
+				buys[i] = store.getBuys().toArray(new Item[0]);
+				buyIds[i] = new int[buys[i].length];
+				for (int j = 0; j < buys[i].length; j++) {
+					buyIds[i][j] = ids.computeIfAbsent(buys[i][j].getName(), name -> ids.size());
+				}
+				ArrayList<Item> sells = store.getSells();
+				sellIds[i] = new int[sells.size()];
+				sellValues[i] = new int[sells.size()];
+				for (int j = 0; j < sells.size(); j++) {
+					sellIds[i][j] = ids.computeIfAbsent(sells.get(j).getName(), name -> ids.size());
+					sellValues[i][j] = sells.get(j).getPrice();
+				}
+			}
+			sellPrices = new int[islands.size()][ids.size()];
+			for (int i = 0; i < islands.size(); i++) {
+				Arrays.fill(sellPrices[i], -1);
+				for (int j = 0; j < sellIds[i].length; j++) {
+					sellPrices[i][sellIds[i][j]] = sellValues[i][j];
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Quantity of each item to buy for a leg, with the total cost and profit.
+	 */
+	private static final class Cargo {
+		
+		/**
+		 * Number of each of the leg's items to buy.
+		 */
+		final int[] quantities;
+		
+		/**
+		 * Gold spent buying the cargo.
+		 */
+		final int cost;
+		
+		/**
+		 * Gold gained by selling the cargo, minus the cost.
+		 */
+		final int profit;
+		
+		/**
+		 * Creates a cargo with the given values.
+		 * @param quantities number of each item
+		 * @param cost gold spent
+		 * @param profit gold gained minus gold spent
+		 */
+		Cargo(int[] quantities, int cost, int profit) {
+			this.quantities = quantities;
+			this.cost = cost;
+			this.profit = profit;
+		}
+	}
+	
+	/**
+	 * Branch and bound search for the most profitable cargo, trying the largest quantities of the most space
+	 * efficient items first and pruning branches that can't beat the best cargo found so far.
+	 */
+	private static final class CargoSearch {
+		
+		/**
+		 * Items that can be bought.
+		 */
+		private final LegItems leg;
+		
+		/**
+		 * Quantities on the current branch.
+		 */
+		private final int[] current;
+		
+		/**
+		 * Quantities of the best cargo found.
+		 */
+		private int[] best;
+		
+		/**
+		 * Profit of the best cargo found.
+		 */
+		private int bestProfit;
+		
+		/**
+		 * Cost of the best cargo found.
+		 */
+		private int bestCost;
+		
+		/**
+		 * Cargo space available.
+		 */
+		private final int capacity;
+		
+		/**
+		 * Gold available.
+		 */
+		private final int budget;
+		
+		/**
+		 * Number of branches explored so far.
+		 */
+		private int nodes;
+		
+		/**
+		 * Prepares a search of the leg's items.
+		 * @param leg items that can be bought
+		 * @param capacity cargo space available
+		 * @param budget gold available
+		 */
+		CargoSearch(LegItems leg, int capacity, int budget) {
+			this.leg = leg;
+			this.capacity = capacity;
+			this.budget = budget;
+			current = new int[leg.items.length];
+			best = new int[leg.items.length];
+		}
+		
+		/**
+		 * Runs the search.
+		 * @return most profitable cargo found
+		 */
+		Cargo run() {
+			search(0, capacity, budget, 0, 0);
+			return new Cargo(best, bestCost, bestProfit);
+		}
+		
+		/**
+		 * Tries every quantity of the item at the given index, then searches the remaining items.
+		 * @param index index of the item to choose a quantity of
+		 * @param space cargo space left
+		 * @param gold gold left
+		 * @param profit profit of the branch so far
+		 * @param cost cost of the branch so far
+		 */
+		private void search(int index, int space, int gold, int profit, int cost) {
+			nodes++;
+			if (profit > bestProfit) {
+				bestProfit = profit;
+				bestCost = cost;
+				best = current.clone();
+			}
+			if (index == current.length || nodes > MAX_CARGO_NODES) {
+				return;
+			}
+			// Upper bound on the profit of this branch if items could be split
+			double bound = profit + Math.min(space * leg.spaceRatios[index], gold * leg.goldRatios[index]);
+			if (bound <= bestProfit) {
+				return;
+			}
+			int maxQuantity = space / leg.sizes[index];
+			if (leg.prices[index] > 0) {
+				maxQuantity = Math.min(maxQuantity, gold / leg.prices[index]);
+			}
+			for (int quantity = maxQuantity; quantity >= 0 && nodes <= MAX_CARGO_NODES; quantity--) {
+				current[index] = quantity;
+				search(index + 1, space - quantity * leg.sizes[index], gold - quantity * leg.prices[index],
+						profit + quantity * leg.profits[index], cost + quantity * leg.prices[index]);
+			}
+			current[index] = 0;
+		}
+	}
+}
@@ -31,6 +31,11 @@ public class Weapon extends Item {
 		this.damage = damage;
 	}
 	
+	@Override
+	public Weapon copy() {
+		return new Weapon(getName(), getDesc(), getSize(), getBasePrice(), shots, damage);
+	}
+	
 	/** 
 	 * Returns the number of shots the weapon can fire at once.
 	 * @return number of shots fired by the weapon
@@ -1,6 +1,24 @@
 package main;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import core.GameEnvironment;
+import core.GameJournal;
+import core.RandomSource;
+import core.SaveGame;
+import simulation.GameResult;
+import simulation.HeadlessEngine;
+import simulation.RandomTraderPolicy;
+import simulation.WorldGenerator;
 import ui.GameUI;
 import ui.TextUI;
 import ui.gui.GUI;
@@ -23,11 +41,71 @@ public class Main {
 	private static final int STARTING_GOLD = 250;
 	
 	/**
-	 * Creates an instance of the game with a command line UI or GUI.
+	 * Number of days each headless game lasts.
+	 */
+	private static final int HEADLESS_DAYS = 35;
+	
+	/**
+	 * Default number of islands in a generated world.
+	 */
+	private static final int GENERATED_ISLANDS = 10000;
+	
+	/**
+	 * Default number of routes in a generated world.
+	 */
+	private static final int GENERATED_ROUTES = 100000;
+	
+	/**
+	 * Default number of trade items in a generated world.
+	 */
+	private static final int GENERATED_ITEMS = 300;
+	
+	/**
+	 * File extension of game journals.
+	 */
+	private static final String JOURNAL_EXTENSION = ".journal";
+	
+	/**
+	 * Name of the script file that means the script is read from standard input.
+	 */
+	private static final String STANDARD_INPUT = "-";
+	
+	/**
+	 * Size of the buffer scripted games' output is written through.
+	 */
+	private static final int SCRIPT_OUTPUT_BUFFER = 1 << 16;
+	
+	/**
+	 * Creates an instance of the game with a command line UI or GUI, resumes a saved game,
+	 * plays a batch of games without a UI, plays a batch of games from a text UI script,
+	 * replays game journals, or generates a large world.
 	 * @param args arguments passed in when running main in terminal
+	 * @throws IOException if a generated world, a saved game, a journal, or a script can't be written or read
 	 */
-	public static void main(String[] args) {
-		if (args.length > 0 && args[0].equals("text")) {
+	public static void main(String[] args) throws IOException {
+		if (args.length > 0 && args[0].equals("headless")) {
+			int games = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+			long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+			File journalDirectory = args.length > 3 ? new File(args[3]) : null;
+			runHeadless(games, seed, journalDirectory);
+		} else if (args.length > 1 && args[0].equals("script")) {
+			int games = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+			long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+			runScript(args[1], games, seed);
+		} else if (args.length > 1 && args[0].equals("replay")) {
+			runReplay(args);
+		} else if (args.length > 1 && args[0].equals("generate")) {
+			int islands = args.length > 2 ? Integer.parseInt(args[2]) : GENERATED_ISLANDS;
+			int routes = args.length > 3 ? Integer.parseInt(args[3]) : GENERATED_ROUTES;
+			int items = args.length > 4 ? Integer.parseInt(args[4]) : GENERATED_ITEMS;
+			long seed = args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime();
+			new WorldGenerator(seed).generate(new File(args[1]), islands, routes, items);
+		} else if (args.length > 0 && args[0].equals("resume")) {
+			File file = new File(args.length > 1 ? args[1] : SaveGame.DEFAULT_FILE);
+			GameUI ui = args.length > 2 && args[2].equals("text") ? new TextUI() : new GUI();
+			GameEnvironment game = SaveGame.load(file, ui);
+			game.getUI().resume(game);
+		} else if (args.length > 0 && args[0].equals("text")) {
 			GameUI ui = new TextUI();
 			GameEnvironment game = new GameEnvironment(ui, STARTING_ISLAND_INDEX, STARTING_GOLD);
 			game.getUI().start(game);
@@ -37,4 +115,82 @@ public class Main {
 			game.getUI().start(game);
 		}
 	}
+	
+	/**
+	 * Plays the given number of games with a random policy and prints each result and the average score.
+	 * @param games number of games to play
+	 * @param seed seed every game and policy is split from, so the same seed always plays the same games
+	 * @param journalDirectory directory to write each game's journal to, or null if the games aren't journaled
+	 * @throws IOException if a journal can't be written
+	 */
+	private static void runHeadless(int games, long seed, File journalDirectory) throws IOException {
+		HeadlessEngine engine = new HeadlessEngine(STARTING_ISLAND_INDEX, STARTING_GOLD);
+		RandomSource randomGenerator = new RandomSource(seed);
+		long totalScore = 0;
+		for (int i = 0; i < games; i++) {
+			RandomSource gameGenerator = randomGenerator.split();
+			RandomTraderPolicy policy = new RandomTraderPolicy(gameGenerator.nextLong());
+			GameJournal journal = journalDirectory == null ? null : new GameJournal();
+			GameResult result = engine.run(policy, HEADLESS_DAYS, gameGenerator, journal);
+			if (journal != null) {
+				journal.write(new File(journalDirectory, "game" + i + JOURNAL_EXTENSION));
+			}
+			totalScore += result.getScore();
+			System.out.println(result);
+		}
+		System.out.println("Average score: " + (double) totalScore / games);
+	}
+	
+	/**
+	 * Plays the given number of games with the text UI, each answering the same script, a line for every
+	 * choice the player makes. The script is read once and every game's output goes through one buffer,
+	 * written only when it fills, so scripted games aren't slowed down by the console.
+	 * @param script name of the script file, or - to read it from standard input
+	 * @param games number of games to play
+	 * @param seed seed every game is split from, so the same seed always plays the same games
+	 * @throws IOException if the script can't be read
+	 */
+	private static void runScript(String script, int games, long seed) throws IOException {
+		byte[] commands = script.equals(STANDARD_INPUT) ? System.in.readAllBytes()
+				: Files.readAllBytes(new File(script).toPath());
+		PrintStream out = new PrintStream(
+				new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), SCRIPT_OUTPUT_BUFFER));
+		RandomSource randomGenerator = new RandomSource(seed);
+		for (int i = 0; i < games; i++) {
+			GameUI ui = new TextUI(new ByteArrayInputStream(commands), out, true);
+			GameEnvironment game = new GameEnvironment(ui, STARTING_ISLAND_INDEX, STARTING_GOLD, randomGenerator.split());
+			game.getUI().start(game);
+		}
+		out.flush();
+	}
+	
+	/**
+	 * Replays every journal in the given files and directories, printing each one that plays out differently
+	 * from how it was recorded, and how many replayed the same.
+	 * @param args arguments passed in when running main in terminal, the journals start at the second
+	 * @throws IOException if a journal can't be read
+	 */
+	private static void runReplay(String[] args) throws IOException {
+		ArrayList<File> files = new ArrayList<File>();
+		for (int i = 1; i < args.length; i++) {
+			File file = new File(args[i]);
+			File[] journals = file.listFiles((directory, name) -> name.endsWith(JOURNAL_EXTENSION));
+			if (journals == null) {
+				files.add(file);
+			} else {
+				Arrays.sort(journals);
+				files.addAll(Arrays.asList(journals));
+			}
+		}
+		int same = 0;
+		for (File file : files) {
+			try {
+				GameJournal.read(file).replay();
+				same++;
+			} catch (IllegalStateException e) {
+				System.out.println(file + ": " + e.getMessage());
+			}
+		}
+		System.out.println(same + " of " + files.size() + " journals replayed the same");
+	}
 }
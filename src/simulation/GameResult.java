@@ -0,0 +1,130 @@
+package simulation;
+
+/**
+ * Compact summary of a finished headless game.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public final class GameResult {
+	
+	/**
+	 * Each way a headless game can end, with the reason passed to GameEnvironment.endGame.
+	 */
+	public enum EndCause {
+		
+		/**
+		 * The player doesn't have the days or gold left to travel any route from their island.
+		 */
+		NO_ROUTES("No More Routes Can Be Travelled"),
+		
+		/**
+		 * The player lost a battle to pirates who weren't satisfied with their cargo.
+		 */
+		KILLED_BY_PIRATES("Killed by Pirates"),
+		
+		/**
+		 * The player's ship was destroyed by bad weather.
+		 */
+		KILLED_IN_STORM("Ship destroyed in storm"),
+		
+		/**
+		 * The policy chose not to travel any further.
+		 */
+		RETIRED("Retired");
+		
+		/**
+		 * Reason passed to GameEnvironment.endGame.
+		 */
+		private final String reason;
+		
+		/**
+		 * Creates an end cause with the given reason.
+		 * @param reason reason passed to GameEnvironment.endGame
+		 */
+		EndCause(String reason) {
+			this.reason = reason;
+		}
+		
+		/**
+		 * Returns the reason passed to GameEnvironment.endGame when a game ends this way.
+		 * @return end reason
+		 */
+		public String getReason() {
+			return reason;
+		}
+	}
+	
+	/**
+	 * Player's final score.
+	 */
+	private final int score;
+	
+	/**
+	 * Number of days the game took.
+	 */
+	private final int daysUsed;
+	
+	/**
+	 * Player's final gold.
+	 */
+	private final int gold;
+	
+	/**
+	 * Why the game ended.
+	 */
+	private final EndCause cause;
+	
+	/**
+	 * Creates a result with the given values.
+	 * @param score final score
+	 * @param daysUsed number of days the game took
+	 * @param gold final gold
+	 * @param cause why the game ended
+	 */
+	public GameResult(int score, int daysUsed, int gold, EndCause cause) {
+		this.score = score;
+		this.daysUsed = daysUsed;
+		this.gold = gold;
+		this.cause = cause;
+	}
+	
+	/**
+	 * Returns the player's final score.
+	 * @return final score
+	 */
+	public int getScore() {
+		return score;
+	}
+	
+	/**
+	 * Returns the number of days the game took.
+	 * @return days used
+	 */
+	public int getDaysUsed() {
+		return daysUsed;
+	}
+	
+	/**
+	 * Returns the player's final gold.
+	 * @return final gold
+	 */
+	public int getGold() {
+		return gold;
+	}
+	
+	/**
+	 * Returns why the game ended.
+	 * @return end cause
+	 */
+	public EndCause getCause() {
+		return cause;
+	}
+	
+	/**
+	 * Returns a one line representation of the result.
+	 * @return string representation of the result
+	 */
+	public String toString() {
+		return "score=" + score + ", days=" + daysUsed + ", gold=" + gold + ", cause=" + cause;
+	}
+}
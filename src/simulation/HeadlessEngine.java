@@ -0,0 +1,158 @@
+package simulation;
+
+import core.GameEnvironment;
+import core.GameJournal;
+import core.Island;
+import core.RandomSource;
+import core.Route;
+import core.Ship;
+import simulation.GameResult.EndCause;
+import ui.GameUI;
+
+/**
+ * Plays whole games without a user interface by asking a policy for every decision,
+ * so games can be run in bulk for balancing.
+ * Random events are resolved in the same order and with the same outcomes as in the GUI.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class HeadlessEngine {
+	
+	/**
+	 * Name given to the player in headless games.
+	 */
+	private static final String PLAYER_NAME = "Headless";
+	
+	/**
+	 * ArrayList index of the starting island.
+	 */
+	private final int startingIslandIndex;
+	
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private final int startingGold;
+	
+	/**
+	 * Creates an engine that starts each game on the given island with the given gold.
+	 * @param startingIslandIndex ArrayList index of the starting island
+	 * @param startingGold amount of gold the player starts with
+	 */
+	public HeadlessEngine(int startingIslandIndex, int startingGold) {
+		this.startingIslandIndex = startingIslandIndex;
+		this.startingGold = startingGold;
+	}
+	
+	/**
+	 * Plays a game to completion with the given policy.
+	 * @param policy policy making the player's decisions
+	 * @param days number of days the game will last
+	 * @return summary of the finished game
+	 */
+	public GameResult run(TraderPolicy policy, int days) {
+		return run(policy, days, new RandomSource());
+	}
+	
+	/**
+	 * Plays a game to completion with the given policy, drawing the game's random numbers from the given generator.
+	 * A seeded generator and a seeded policy always play the same game.
+	 * @param policy policy making the player's decisions
+	 * @param days number of days the game will last
+	 * @param randomGenerator random number generator for the game
+	 * @return summary of the finished game
+	 */
+	public GameResult run(TraderPolicy policy, int days, RandomSource randomGenerator) {
+		return run(policy, days, randomGenerator, null);
+	}
+	
+	/**
+	 * Plays a game to completion with the given policy, drawing the game's random numbers from the given generator
+	 * and recording the game in the given journal.
+	 * @param policy policy making the player's decisions
+	 * @param days number of days the game will last
+	 * @param randomGenerator random number generator for the game
+	 * @param journal empty journal to record the game in, or null if the game isn't journaled
+	 * @return summary of the finished game
+	 */
+	public GameResult run(TraderPolicy policy, int days, RandomSource randomGenerator, GameJournal journal) {
+		GameEnvironment game = new GameEnvironment(null, startingIslandIndex, startingGold, randomGenerator, journal);
+		game.finishSetup(PLAYER_NAME, days, policy.chooseShip(game.getShips()));
+		return play(game, policy);
+	}
+	
+	/**
+	 * Plays an already set up game to completion with the given policy.
+	 * @param game game instance with no user interface
+	 * @param policy policy making the player's decisions
+	 * @return summary of the finished game
+	 */
+	public GameResult play(GameEnvironment game, TraderPolicy policy) {
+		EndCause cause = null;
+		while (cause == null) {
+			if (!game.checkCanTravel()) {
+				cause = EndCause.NO_ROUTES;
+				break;
+			}
+			policy.trade(game);
+			Route route = policy.chooseRoute(game);
+			if (route == null) {
+				cause = EndCause.RETIRED;
+				break;
+			}
+			checkRoute(game, route);
+			game.travelRoute(route);
+			cause = resolveEvents(game, route);
+		}
+		game.endGame(cause.getReason());
+		return new GameResult(game.calcScore(), game.getTotalDays() - game.getDaysLeft(), game.getGold(), cause);
+	}
+	
+	/**
+	 * Throws an exception if the policy chose a route the player isn't allowed to travel along.
+	 * @param game game instance
+	 * @param route route chosen by the policy
+	 */
+	private void checkRoute(GameEnvironment game, Route route) {
+		Island island = game.getIsland();
+		Ship ship = game.getShip();
+		if (!island.getRoutes().contains(route)) {
+			throw new IllegalArgumentException("Route does not start at " + island.getName());
+		} else if (!game.isTimeForRoute(route)) {
+			throw new IllegalArgumentException(GameUI.TRAVEL_DAYS_ERROR);
+		} else if (ship.getHealth() != ship.getMaxHealth()) {
+			throw new IllegalArgumentException(GameUI.TRAVEL_SHIP_ERROR);
+		} else if (!game.canAffordRoute(route)) {
+			throw new IllegalArgumentException(GameUI.TRAVEL_GOLD_ERROR);
+		}
+	}
+	
+	/**
+	 * Rolls for pirates, bad weather, and lost sailors on the route and applies their outcomes.
+	 * @param game game instance
+	 * @param route route that was traveled along
+	 * @return cause of the game ending, or null if the game continues
+	 */
+	private EndCause resolveEvents(GameEnvironment game, Route route) {
+		Ship ship = game.getShip();
+		if (route.encounterPirates()) {
+			game.pirateEvent();
+			// Lose the game if the goods value is below the threshold
+			if (ship.getHealth() <= 0 && !game.pirateLossOutcome()) {
+				game.loseGold();
+				return EndCause.KILLED_BY_PIRATES;
+			}
+		}
+		if (route.encounterWeatherEvent()) {
+			game.weatherEvent();
+			if (ship.getHealth() <= 0) {
+				game.loseGold();
+				game.loseCargo();
+				return EndCause.KILLED_IN_STORM;
+			}
+		}
+		if (route.encounterLostSailors()) {
+			game.sailorEvent();
+		}
+		return null;
+	}
+}
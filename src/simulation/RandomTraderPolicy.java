@@ -0,0 +1,86 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import core.GameEnvironment;
+import core.Item;
+import core.Route;
+import core.Ship;
+
+/**
+ * Policy that sells everything the store will take, repairs the ship, buys random items
+ * while keeping enough gold for wages, and sails along a random reachable route.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class RandomTraderPolicy implements TraderPolicy {
+	
+	/**
+	 * Maximum number of random purchases attempted at each store.
+	 */
+	private static final int MAX_BUY_ATTEMPTS = 10;
+	
+	/**
+	 * Random number generator for the policy's choices.
+	 */
+	private final Random randomGenerator;
+	
+	/**
+	 * Creates a policy whose choices are determined by the given seed.
+	 * @param seed seed for the policy's random number generator
+	 */
+	public RandomTraderPolicy(long seed) {
+		randomGenerator = new Random(seed);
+	}
+
+	@Override
+	public Ship chooseShip(ArrayList<Ship> ships) {
+		return ships.get(randomGenerator.nextInt(ships.size()));
+	}
+
+	@Override
+	public void trade(GameEnvironment game) {
+		// Sell every item the store will buy
+		for (Item item : game.getStore().getSells()) {
+			int count = game.getShip().getCargoHold().count(item.getName());
+			if (count > 0) {
+				game.sellItems(item, count);
+			}
+		}
+		if (game.getShip().getHealth() != game.getShip().getMaxHealth()) {
+			game.repairShip();
+		}
+		
+		// Keep enough gold to pay wages on the most expensive route
+		double reserve = 0;
+		for (Route route : game.getIsland().getRoutes()) {
+			reserve = Math.max(reserve, game.getTravelCost(route));
+		}
+		ArrayList<Item> buys = game.getStore().getBuys();
+		for (int i = 0; i < MAX_BUY_ATTEMPTS && !buys.isEmpty(); i++) {
+			Item item = buys.get(randomGenerator.nextInt(buys.size()));
+			if (game.getGold() - item.getPrice() >= reserve) {
+				game.buyItem(item);
+			}
+		}
+	}
+
+	@Override
+	public Route chooseRoute(GameEnvironment game) {
+		Ship ship = game.getShip();
+		if (ship.getHealth() != ship.getMaxHealth()) {
+			return null;
+		}
+		ArrayList<Route> reachable = new ArrayList<Route>();
+		for (Route route : game.getIsland().getRoutes()) {
+			if (game.isTimeForRoute(route) && game.canAffordRoute(route)) {
+				reachable.add(route);
+			}
+		}
+		if (reachable.isEmpty()) {
+			return null;
+		}
+		return reachable.get(randomGenerator.nextInt(reachable.size()));
+	}
+}
@@ -0,0 +1,37 @@
+package simulation;
+
+import java.util.ArrayList;
+
+import core.GameEnvironment;
+import core.Route;
+import core.Ship;
+
+/**
+ * Interface for a strategy that plays the game without a user interface. The headless engine asks the policy
+ * for each decision a player would normally make through the text or graphical interface.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public interface TraderPolicy {
+	
+	/**
+	 * Chooses the ship the player will captain.
+	 * @param ships ships available in the game
+	 * @return chosen ship, must be one of the given ships
+	 */
+	Ship chooseShip(ArrayList<Ship> ships);
+	
+	/**
+	 * Performs any buying, selling, and repairing at the current island before the player sets sail.
+	 * @param game game instance
+	 */
+	void trade(GameEnvironment game);
+	
+	/**
+	 * Chooses the route to travel along from the current island.
+	 * The route must be affordable, fit in the days left, and the ship must be at max health.
+	 * @param game game instance
+	 * @return route to travel along, or null to retire and end the game
+	 */
+	Route chooseRoute(GameEnvironment game);
+}
@@ -0,0 +1,188 @@
+package simulation;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+
+import core.GameCatalog;
+
+/**
+ * Generates large random worlds in the game-parameters file format, so the engine can be profiled at scale.
+ * Islands, routes and trade items are generated from a seed, so the same seed always writes the same files.
+ * Ships and weapons are copied from the default game-parameters directory.
+ * The generated directory can be played by setting the islandtrader.parameters system property to it.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+public class WorldGenerator {
+
+	/**
+	 * Words an island name can start with.
+	 */
+	private static final String[] ISLAND_PREFIXES = {"Smugglers'", "Mermaid's", "Shipwreck", "Skull", "Coral",
+			"Parrot", "Cutlass", "Kraken", "Lagoon", "Tortuga", "Driftwood", "Black Sail", "Sunken", "Treasure"};
+
+	/**
+	 * Words an island name can end with.
+	 */
+	private static final String[] ISLAND_SUFFIXES = {"Bay", "Hideaway", "Cove", "Isle", "Reef", "Point", "Harbour",
+			"Key", "Landing", "Atoll", "Haven", "Rock"};
+
+	/**
+	 * Containers a trade item can come in.
+	 */
+	private static final String[] ITEM_CONTAINERS = {"crate", "barrel", "sack", "chest", "bundle", "jar"};
+
+	/**
+	 * Goods a trade item can be.
+	 */
+	private static final String[] ITEM_GOODS = {"rum", "silk", "spices", "tea", "sugar", "tobacco", "coffee",
+			"cotton", "salt", "pearls", "ivory", "indigo", "cocoa", "timber", "iron"};
+
+	/**
+	 * Maximum base number of days a route takes.
+	 */
+	private static final int MAX_ROUTE_DAYS = 6;
+
+	/**
+	 * Maximum chance (out of 100) of each random event on a route.
+	 */
+	private static final int MAX_EVENT_CHANCE = 40;
+
+	/**
+	 * Maximum size of a trade item.
+	 */
+	private static final int MAX_ITEM_SIZE = 10;
+
+	/**
+	 * Maximum value of a trade item for each unit of its size.
+	 */
+	private static final int MAX_VALUE_PER_SIZE = 12;
+
+	/**
+	 * Random number generator for the world's contents.
+	 */
+	private final Random randomGenerator;
+
+	/**
+	 * Creates a generator whose worlds are determined by the given seed.
+	 * @param seed seed for the generator's random number generator
+	 */
+	public WorldGenerator(long seed) {
+		randomGenerator = new Random(seed);
+	}
+
+	/**
+	 * Writes a generated world's parameter files to the given directory, creating it if needed.
+	 * Every island is connected to the one before it by a route, so the whole world is reachable,
+	 * and the remaining routes join random pairs of different islands.
+	 * @param directory directory to write the parameter files to
+	 * @param islandCount number of islands, at least two
+	 * @param routeCount number of routes, at least one less than the number of islands
+	 * @param itemCount number of trade items, at least ten so every store can be stocked
+	 * @throws IOException if the files can't be written
+	 */
+	public void generate(File directory, int islandCount, int routeCount, int itemCount) throws IOException {
+		if (islandCount < 2 || routeCount < islandCount - 1 || itemCount < 10) {
+			throw new IllegalArgumentException("World needs at least 2 islands, enough routes to connect them and 10 items");
+		}
+		Files.createDirectories(directory.toPath());
+		writeIslands(new File(directory, "islands.txt"), islandCount);
+		writeRoutes(new File(directory, "routes.txt"), islandCount, routeCount);
+		writeItems(new File(directory, "items.txt"), itemCount);
+		for (String fileName : new String[] {"ships.txt", "weapons.txt"}) {
+			Files.copy(new File(GameCatalog.DEFAULT_DIRECTORY, fileName).toPath(), new File(directory, fileName).toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Returns the name of the island with the given number. Numbers are appended to keep every name unique.
+	 * @param index island's number
+	 * @return island's name
+	 */
+	static String islandName(int index) {
+		int words = ISLAND_PREFIXES.length * ISLAND_SUFFIXES.length;
+		String name = ISLAND_PREFIXES[index % ISLAND_PREFIXES.length] + " "
+				+ ISLAND_SUFFIXES[(index / ISLAND_PREFIXES.length) % ISLAND_SUFFIXES.length];
+		if (index >= words) {
+			name += " " + (index / words + 1);
+		}
+		return name;
+	}
+
+	/**
+	 * Writes the islands file.
+	 * @param file file to write
+	 * @param islandCount number of islands
+	 * @throws IOException if the file can't be written
+	 */
+	private void writeIslands(File file, int islandCount) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write("id;name;\n");
+			for (int i = 0; i < islandCount; i++) {
+				writer.write(islandName(i));
+				writer.write(";\n");
+			}
+		}
+	}
+
+	/**
+	 * Writes the routes file.
+	 * @param file file to write
+	 * @param islandCount number of islands
+	 * @param routeCount number of routes
+	 * @throws IOException if the file can't be written
+	 */
+	private void writeRoutes(File file, int islandCount, int routeCount) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write("island1;island2;days;pirateDanger;weatherDanger;sailorsOdds;\n");
+			for (int i = 0; i < routeCount; i++) {
+				int island1;
+				int island2;
+				if (i < islandCount - 1) {
+					island1 = i + 1;
+					island2 = randomGenerator.nextInt(i + 1);
+				} else {
+					island1 = randomGenerator.nextInt(islandCount);
+					island2 = randomGenerator.nextInt(islandCount - 1);
+					if (island2 >= island1) {
+						island2++;
+					}
+				}
+				writer.write(islandName(island1) + ";" + islandName(island2) + ";"
+						+ (1 + randomGenerator.nextInt(MAX_ROUTE_DAYS)) + ";"
+						+ randomGenerator.nextInt(MAX_EVENT_CHANCE + 1) + ";"
+						+ randomGenerator.nextInt(MAX_EVENT_CHANCE + 1) + ";"
+						+ randomGenerator.nextInt(MAX_EVENT_CHANCE + 1) + ";\n");
+			}
+		}
+	}
+
+	/**
+	 * Writes the trade items file.
+	 * @param file file to write
+	 * @param itemCount number of trade items
+	 * @throws IOException if the file can't be written
+	 */
+	private void writeItems(File file, int itemCount) throws IOException {
+		int kinds = ITEM_CONTAINERS.length * ITEM_GOODS.length;
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write("name;description;size;value;\n");
+			for (int i = 0; i < itemCount; i++) {
+				String name = ITEM_CONTAINERS[i % ITEM_CONTAINERS.length] + " of "
+						+ ITEM_GOODS[(i / ITEM_CONTAINERS.length) % ITEM_GOODS.length];
+				if (i >= kinds) {
+					name += " " + (i / kinds + 1);
+				}
+				int size = 1 + randomGenerator.nextInt(MAX_ITEM_SIZE);
+				int value = size * (1 + randomGenerator.nextInt(MAX_VALUE_PER_SIZE));
+				writer.write(name + ";none;" + size + ";" + value + ";\n");
+			}
+		}
+	}
+}
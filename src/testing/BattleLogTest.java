@@ -0,0 +1,80 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.BattleLog;
+import core.GameEnvironment;
+import core.RandomSource;
+import core.Ship;
+
+class BattleLogTest {
+	
+	/**
+	 * Number of battles fought in each test.
+	 */
+	private static final int BATTLES = 200;
+	
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 250;
+
+	/**
+	 * Checks that the damage recorded in the log matches the health the player's ship lost,
+	 * which can't go below zero.
+	 */
+	@Test
+	void damageRecordedTest() {
+		GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(1));
+		Ship ship = game.getShip();
+		BattleLog log = new BattleLog();
+		for (int i = 0; i < BATTLES; i++) {
+			ship.setHealth(ship.getMaxHealth());
+			log.clear();
+			int damage = game.pirateEvent(log);
+			int recordedByPirates = 0;
+			for (int e = 0; e < log.size(); e++) {
+				if (log.isByPirates(e)) {
+					recordedByPirates += log.getDamageDealt(e);
+				}
+			}
+			assertEquals(Math.min(recordedByPirates, ship.getMaxHealth()), damage);
+		}
+	}
+
+	/**
+	 * Checks that recording a battle doesn't change its outcome.
+	 */
+	@Test
+	void loggingSameOutcomeTest() {
+		GameEnvironment logged = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(2));
+		GameEnvironment unlogged = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(2));
+		BattleLog log = new BattleLog();
+		for (int i = 0; i < BATTLES; i++) {
+			logged.getShip().setHealth(logged.getShip().getMaxHealth());
+			unlogged.getShip().setHealth(unlogged.getShip().getMaxHealth());
+			log.clear();
+			assertEquals(unlogged.pirateEvent(), logged.pirateEvent(log));
+		}
+	}
+
+	/**
+	 * Checks that a turn renders in the battle screen's wording, one line per weapon and per resisted,
+	 * dealt or missed shot.
+	 */
+	@Test
+	void renderTest() {
+		GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(3));
+		Ship pirateShip = game.generatePirateShip();
+		String text = game.playerTurn(pirateShip);
+		assertTrue(text.startsWith("Your Turn:\n\tFiring "));
+		for (String line : text.split("\n")) {
+			assertTrue(line.equals("Your Turn:") || line.startsWith("\tFiring ") || line.endsWith("damage resisted by pirate ship")
+					|| line.endsWith("damage dealt to pirate ship") || line.equals("\tThe shot missed the pirate ship"), line);
+		}
+		text = game.pirateTurn(pirateShip);
+		assertTrue(text.startsWith("Pirate Turn:\n\tFiring "));
+	}
+}
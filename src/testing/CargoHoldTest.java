@@ -0,0 +1,99 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.CargoHold;
+import core.Item;
+import core.Weapon;
+
+class CargoHoldTest {
+	
+	/**
+	 * Name of the test item.
+	 */
+	private static final String ITEM_NAME = "Test Item";
+	
+	/**
+	 * Name of the test weapon.
+	 */
+	private static final String WEAPON_NAME = "Test Weapon";
+
+	/**
+	 * Checks that items are counted by name and removed oldest first, and the cached value follows the contents.
+	 */
+	@Test
+	void addRemoveTest() {
+		CargoHold hold = new CargoHold();
+		Item item1 = new Item(ITEM_NAME, "", 2, 10, false);
+		Item item2 = new Item(ITEM_NAME, "", 2, 10, false);
+		Weapon weapon = new Weapon(WEAPON_NAME, "", 5, 30, 1, 10);
+		hold.add(item1);
+		hold.add(weapon);
+		hold.add(item2);
+		assertEquals(3, hold.size());
+		assertEquals(2, hold.count(ITEM_NAME));
+		assertEquals(1, hold.count(WEAPON_NAME));
+		assertEquals(0, hold.count("Missing Item"));
+		assertEquals(50, hold.getValue());
+		assertEquals(2, hold.getTypeSize(ITEM_NAME));
+		
+		// Items of a type are listed together
+		assertSame(item1, hold.getItems().get(0));
+		assertSame(item2, hold.getItems().get(1));
+		assertSame(weapon, hold.getItems().get(2));
+		
+		assertSame(item1, hold.remove(ITEM_NAME));
+		assertEquals(1, hold.count(ITEM_NAME));
+		assertEquals(40, hold.getValue());
+		assertSame(weapon, hold.remove(WEAPON_NAME));
+		assertNull(hold.remove(WEAPON_NAME));
+		assertEquals(10, hold.getValue());
+		assertEquals(1, hold.size());
+	}
+
+	/**
+	 * Checks that clearing the hold removes every item and resets its value.
+	 */
+	@Test
+	void clearTest() {
+		CargoHold hold = new CargoHold();
+		hold.add(new Item(ITEM_NAME, "", 2, 10, false));
+		hold.add(new Weapon(WEAPON_NAME, "", 5, 30, 1, 10));
+		hold.clear();
+		assertEquals(0, hold.size());
+		assertEquals(0, hold.getValue());
+		assertEquals(0, hold.count(ITEM_NAME));
+		assertEquals(0, hold.getItems().size());
+		
+		// Types are remembered after clearing
+		assertEquals(5, hold.getTypeSize(WEAPON_NAME));
+	}
+
+	/**
+	 * Checks that items can be looked up by their index in the item list without building it.
+	 */
+	@Test
+	void indexTest() {
+		CargoHold hold = new CargoHold();
+		Item item1 = new Item(ITEM_NAME, "", 2, 10, false);
+		Item item2 = new Item(ITEM_NAME, "", 2, 12, false);
+		Weapon weapon = new Weapon(WEAPON_NAME, "", 5, 30, 1, 10);
+		hold.add(item1, 2);
+		hold.add(weapon);
+		hold.add(item2, 3);
+		for (int i = 0; i < hold.size(); i++) {
+			assertSame(hold.getItems().get(i), hold.getItem(i));
+		}
+		assertEquals(0, hold.getFirstIndex(ITEM_NAME));
+		assertEquals(5, hold.getFirstIndex(WEAPON_NAME));
+		assertEquals(6, hold.getFirstIndex("Missing Item"));
+		assertThrows(IndexOutOfBoundsException.class, () -> hold.getItem(6));
+		
+		hold.remove(ITEM_NAME, 3);
+		assertSame(item2, hold.getItem(0));
+		assertSame(weapon, hold.getItem(2));
+		assertEquals(2, hold.getFirstIndex(WEAPON_NAME));
+	}
+}
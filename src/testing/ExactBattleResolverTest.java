@@ -0,0 +1,68 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.BattleEstimate;
+import core.ExactBattleResolver;
+import core.GameCatalog;
+import core.PirateBattleEstimator;
+import core.Ship;
+
+class ExactBattleResolverTest {
+	
+	/**
+	 * Number of battles simulated for the Monte Carlo comparison.
+	 */
+	private static final int BATTLES = 200000;
+	
+	/**
+	 * Largest difference allowed between the exact and simulated results.
+	 */
+	private static final double TOLERANCE = 0.01;
+
+	/**
+	 * Checks that the exact outcome for every ship agrees with a large Monte Carlo simulation.
+	 */
+	@Test
+	void matchesMonteCarloTest() {
+		GameCatalog catalog = GameCatalog.getInstance();
+		ExactBattleResolver resolver = ExactBattleResolver.forGeneratedPirates(catalog);
+		PirateBattleEstimator estimator = PirateBattleEstimator.forGeneratedPirates(catalog);
+		for (int i = 0; i < catalog.getShipCount(); i++) {
+			Ship ship = catalog.createShip(i);
+			BattleEstimate exact = resolver.resolve(ship);
+			BattleEstimate simulated = estimator.estimate(ship, BATTLES, i);
+			assertEquals(simulated.getWinProbability(), exact.getWinProbability(), TOLERANCE);
+			assertEquals(simulated.getExpectedDamage() / ship.getMaxHealth(),
+					exact.getExpectedDamage() / ship.getMaxHealth(), TOLERANCE);
+			
+			double total = 0;
+			for (int damage = 0; damage <= exact.getMaxDamage(); damage++) {
+				total += exact.getDamageProbability(damage);
+			}
+			assertEquals(1, total, 1e-9);
+		}
+	}
+	
+	/**
+	 * Checks that resolving the same ship twice uses the cache, and that an unarmed ship can't win.
+	 */
+	@Test
+	void cacheAndUnarmedTest() {
+		GameCatalog catalog = GameCatalog.getInstance();
+		ExactBattleResolver resolver = ExactBattleResolver.forPirateEvent(catalog);
+		Ship ship = catalog.createShip(0);
+		resolver.resolve(ship);
+		int cached = resolver.getCacheSize();
+		assertEquals(catalog.getShipCount(), cached);
+		resolver.resolve(catalog.createShip(0));
+		assertEquals(cached, resolver.getCacheSize());
+		
+		ship.emptyCargo();
+		BattleEstimate estimate = resolver.resolve(ship);
+		assertEquals(0, estimate.getWinProbability());
+		assertEquals(1, estimate.getDamageProbability(ship.getHealth()), 1e-9);
+	}
+}
@@ -0,0 +1,120 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import core.GameCatalog;
+import core.Item;
+import core.ObjectsListGenerator;
+import core.Weapon;
+
+class GameCatalogTest {
+
+	/**
+	 * Checks that the same catalog instance is returned on every call, so the files are only parsed once.
+	 */
+	@Test
+	void singleInstanceTest() {
+		assertSame(GameCatalog.getInstance(), GameCatalog.getInstance());
+	}
+
+	/**
+	 * Checks that every call hands out new copies, so changing one doesn't affect later ones.
+	 */
+	@Test
+	void copiesIndependentTest() {
+		ArrayList<Item> items1 = ObjectsListGenerator.generateItem();
+		ArrayList<Item> items2 = ObjectsListGenerator.generateItem();
+		assertEquals(items1.size(), items2.size());
+		assertNotSame(items1.get(0), items2.get(0));
+
+		// Changing a copy must not change the prototype
+		items1.get(0).setPrice(items1.get(0).getBasePrice() + 1);
+		items1.get(0).setSoldAt("Test Island");
+		Item fresh = GameCatalog.getInstance().createItem(0);
+		assertEquals(fresh.getBasePrice(), fresh.getPrice());
+		assertEquals(null, fresh.getSoldAt());
+	}
+
+	/**
+	 * Checks that copied weapons keep their weapon attributes.
+	 */
+	@Test
+	void weaponCopyTest() {
+		GameCatalog catalog = GameCatalog.getInstance();
+		for (int i = 0; i < catalog.getWeaponCount(); i++) {
+			Weapon weapon = catalog.createWeapon(i);
+			Weapon copy = weapon.copy();
+			assertEquals(true, copy.isWeapon());
+			assertEquals(weapon.getName(), copy.getName());
+			assertEquals(weapon.shots(), copy.shots());
+			assertEquals(weapon.damage(), copy.damage());
+		}
+	}
+
+	/**
+	 * Checks that loading compiles a snapshot that loads the same catalog, that changing a text file compiles it
+	 * again, and that a damaged snapshot falls back to the text files.
+	 * @param directory temporary directory the parameter files are copied to
+	 * @throws IOException if the files can't be copied or changed
+	 */
+	@Test
+	void snapshotTest(@TempDir File directory) throws IOException {
+		for (File file : new File(GameCatalog.DEFAULT_DIRECTORY).listFiles((dir, name) -> name.endsWith(".txt"))) {
+			Files.copy(file.toPath(), new File(directory, file.getName()).toPath());
+		}
+		File snapshot = new File(directory, "catalog.bin");
+		GameCatalog parsed = GameCatalog.load(directory);
+		assertTrue(snapshot.isFile());
+		assertSameContents(parsed, GameCatalog.load(directory));
+		
+		// Adding an island must be picked up even though a snapshot exists
+		Files.writeString(new File(directory, "islands.txt").toPath(), "\nTest Island;\n", StandardOpenOption.APPEND);
+		GameCatalog changed = GameCatalog.load(directory);
+		assertEquals(parsed.getIslandNames().size() + 1, changed.getIslandNames().size());
+		assertSameContents(changed, GameCatalog.load(directory));
+		
+		Files.write(snapshot.toPath(), new byte[] {1, 2, 3});
+		assertSameContents(changed, GameCatalog.load(directory));
+	}
+	
+	/**
+	 * Checks that two catalogs have the same items, weapons, ships, islands and routes.
+	 * @param expected expected catalog
+	 * @param actual actual catalog
+	 */
+	private static void assertSameContents(GameCatalog expected, GameCatalog actual) {
+		assertEquals(expected.getItemCount(), actual.getItemCount());
+		for (int i = 0; i < expected.getItemCount(); i++) {
+			Item item = expected.createItem(i);
+			Item other = actual.createItem(i);
+			assertEquals(item.getName(), other.getName());
+			assertEquals(item.getDesc(), other.getDesc());
+			assertEquals(item.getSize(), other.getSize());
+			assertEquals(item.getBasePrice(), other.getBasePrice());
+		}
+		assertEquals(expected.getWeaponCount(), actual.getWeaponCount());
+		for (int i = 0; i < expected.getWeaponCount(); i++) {
+			assertEquals(expected.createWeapon(i).getName(), actual.createWeapon(i).getName());
+			assertEquals(expected.createWeapon(i).damage(), actual.createWeapon(i).damage());
+		}
+		assertEquals(expected.getShipCount(), actual.getShipCount());
+		for (int i = 0; i < expected.getShipCount(); i++) {
+			assertEquals(expected.createShip(i).getName(), actual.createShip(i).getName());
+			assertEquals(expected.createShip(i).getSpaceLeft(), actual.createShip(i).getSpaceLeft());
+		}
+		assertEquals(expected.getIslandNames(), actual.getIslandNames());
+		assertEquals(expected.getRoutes().size(), actual.getRoutes().size());
+		for (int i = 0; i < expected.getRoutes().size(); i++) {
+			assertEquals(expected.getRoutes().get(i).getIslandName2(), actual.getRoutes().get(i).getIslandName2());
+		}
+	}
+}
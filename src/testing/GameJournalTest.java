@@ -0,0 +1,146 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import core.GameEnvironment;
+import core.GameJournal;
+import core.Item;
+import core.RandomSource;
+import core.Ship;
+import simulation.HeadlessEngine;
+import simulation.RandomTraderPolicy;
+
+class GameJournalTest {
+	
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 250;
+	
+	/**
+	 * Number of days each test game lasts.
+	 */
+	private static final int DAYS = 35;
+	
+	/**
+	 * Number of test games to play.
+	 */
+	private static final int GAMES = 50;
+
+	/**
+	 * Plays a batch of journaled games and checks that replaying each journal rebuilds the same game.
+	 */
+	@Test
+	void replayTest() {
+		HeadlessEngine engine = new HeadlessEngine(0, STARTING_GOLD);
+		for (int i = 0; i < GAMES; i++) {
+			RandomTraderPolicy policy = new RandomTraderPolicy(i);
+			GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(i), new GameJournal());
+			game.finishSetup("Tester", DAYS, policy.chooseShip(game.getShips()));
+			engine.play(game, policy);
+			
+			GameEnvironment replayed = game.getJournal().replay();
+			assertSameGame(game, replayed);
+			// The random number generators carry on from the same state
+			assertEquals(game.sailorEvent(), replayed.sailorEvent());
+		}
+	}
+
+	/**
+	 * Checks that a journal written to a file reads back with the same entries and replays the same game.
+	 * @param directory temporary directory for the journal file
+	 * @throws IOException if the journal can't be written or read
+	 */
+	@Test
+	void fileTest(@TempDir File directory) throws IOException {
+		RandomTraderPolicy policy = new RandomTraderPolicy(1);
+		GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(1), new GameJournal());
+		game.finishSetup("Tester", DAYS, policy.chooseShip(game.getShips()));
+		new HeadlessEngine(0, STARTING_GOLD).play(game, policy);
+		
+		File file = new File(directory, "game.journal");
+		game.getJournal().write(file);
+		GameJournal journal = GameJournal.read(file);
+		assertEquals(game.getJournal().size(), journal.size());
+		assertEquals(game.getJournal().toString(), journal.toString());
+		assertSameGame(game, journal.replay());
+	}
+
+	/**
+	 * Checks that a battle fought turn by turn, as in the GUI, and the losses after it are replayed.
+	 */
+	@Test
+	void battleTest() {
+		GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(2), new GameJournal());
+		game.finishSetup("Tester", DAYS, game.getShips().get(0));
+		game.buyItems(game.getStore().getBuys().get(0), 2);
+		Ship pirateShip = game.generatePirateShip();
+		while (game.getShip().getHealth() > 0 && pirateShip.getHealth() > 0) {
+			game.playerTurn(pirateShip, null);
+			if (pirateShip.getHealth() > 0) {
+				game.pirateTurn(pirateShip, null);
+			}
+		}
+		game.weatherEvent();
+		game.loseCargo();
+		game.setGold(game.getGold() + 5);
+		game.endGame("Retired");
+		
+		GameEnvironment replayed = game.getJournal().replay();
+		assertSameGame(game, replayed);
+		assertEquals("Retired", replayed.getEndReason());
+		assertTrue(replayed.isGameOver());
+	}
+
+	/**
+	 * Checks that replaying a journal whose game was changed outside of its commands reports where it differs.
+	 */
+	@Test
+	void divergenceTest() {
+		GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(3), new GameJournal());
+		game.finishSetup("Tester", DAYS, game.getShips().get(0));
+		Item item = game.getStore().getBuys().get(0);
+		game.buyItems(item, 1);
+		// Emptying the cargo directly isn't journaled, so the sale below fails only in the recorded game
+		game.getShip().emptyCargo();
+		for (Item sell : game.getStore().getSells()) {
+			game.sellItems(sell, 1);
+		}
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> game.getJournal().replay());
+		assertTrue(e.getMessage().contains("sell"));
+	}
+
+	/**
+	 * Checks that a journal can only record one game.
+	 */
+	@Test
+	void oneGameTest() {
+		GameJournal journal = new GameJournal();
+		new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(4), journal);
+		assertThrows(IllegalStateException.class, () -> new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(4), journal));
+	}
+	
+	/**
+	 * Checks that two games are in the same state.
+	 * @param expected recorded game
+	 * @param actual replayed game
+	 */
+	private static void assertSameGame(GameEnvironment expected, GameEnvironment actual) {
+		assertEquals(expected.getName(), actual.getName());
+		assertEquals(expected.getGold(), actual.getGold());
+		assertEquals(expected.getDaysLeft(), actual.getDaysLeft());
+		assertEquals(expected.getIsland().getName(), actual.getIsland().getName());
+		assertEquals(expected.getShip().toString(), actual.getShip().toString());
+		assertEquals(expected.getShip().getHealth(), actual.getShip().getHealth());
+		assertEquals(expected.getShip().getCargo().size(), actual.getShip().getCargo().size());
+		assertEquals(expected.getGoods().size(), actual.getGoods().size());
+		assertEquals(expected.getEndReason(), actual.getEndReason());
+		assertEquals(expected.calcScore(), actual.calcScore());
+	}
+}
@@ -0,0 +1,159 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import core.GameEnvironment;
+import core.GameListener;
+import core.Island;
+import core.Item;
+import core.RandomSource;
+import core.Route;
+import core.Store;
+
+class GameListenerTest {
+	
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 1000;
+	
+	/**
+	 * Game the changes are made in.
+	 */
+	private GameEnvironment game;
+	
+	/**
+	 * Listener recording the game's changes.
+	 */
+	private RecordingListener listener;
+	
+	/**
+	 * Sets up a game with the first ship and a listener.
+	 */
+	@BeforeEach
+	void initialiseGame() {
+		game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(1));
+		game.finishSetup("Test", 35, game.getShips().get(0));
+		listener = new RecordingListener();
+		game.addListener(listener);
+	}
+
+	/**
+	 * Checks that buying and then selling part of a lot publishes each change once, in the order it's made.
+	 */
+	@Test
+	void tradeTest() {
+		Store store = game.getStore();
+		Item item = store.getBuys().get(0);
+		// The ship starts with a cannon, so the first item bought is the second in the cargo
+		assertTrue(game.buyItems(item, 4));
+		assertEquals(List.of("added " + item.getName() + " 1 4", "gold " + game.getGold(), "added 0",
+				"prices " + store), listener.changes);
+		
+		listener.changes.clear();
+		assertTrue(game.sellItems(item, 1));
+		assertEquals(List.of("removed " + item.getName() + " 1 1", "gold " + game.getGold(), "changed 0",
+				"added 1", "prices " + store), listener.changes);
+	}
+
+	/**
+	 * Checks that travelling publishes the new island, days left and gold, and the recovery of the store traded at.
+	 */
+	@Test
+	void travelTest() {
+		Store store = game.getStore();
+		assertTrue(game.buyItems(store.getBuys().get(0), 1));
+		listener.changes.clear();
+		
+		Route route = game.getIsland().getRoutes().get(0);
+		game.travelRoute(route);
+		assertEquals(List.of("prices " + store, "gold " + game.getGold(),
+				"island " + game.getIsland().getName() + " " + game.getDaysLeft()), listener.changes);
+	}
+
+	/**
+	 * Checks that damage and lost cargo on the player's ship are published, but changes to pirate ships aren't.
+	 */
+	@Test
+	void shipTest() {
+		game.generatePirateShip().setHealth(0);
+		assertTrue(listener.changes.isEmpty());
+		
+		game.getShip().setHealth(game.getShip().getHealth() - 10);
+		game.getShip().setHealth(game.getShip().getHealth());
+		game.loseCargo();
+		assertEquals(List.of("health " + game.getShip().getHealth(), "cleared"), listener.changes);
+	}
+
+	/**
+	 * Checks that a removed listener isn't told about later changes.
+	 */
+	@Test
+	void removeTest() {
+		game.removeListener(listener);
+		game.setGold(0);
+		assertTrue(listener.changes.isEmpty());
+	}
+	
+	/**
+	 * Listener that records each change as a line of text.
+	 */
+	private static class RecordingListener implements GameListener {
+		
+		/**
+		 * Changes recorded so far.
+		 */
+		private final ArrayList<String> changes = new ArrayList<String>();
+		
+		@Override
+		public void goldChanged(int gold) {
+			changes.add("gold " + gold);
+		}
+		
+		@Override
+		public void islandChanged(Island island, int daysLeft) {
+			changes.add("island " + island.getName() + " " + daysLeft);
+		}
+		
+		@Override
+		public void cargoAdded(String name, int index, int quantity) {
+			changes.add("added " + name + " " + index + " " + quantity);
+		}
+		
+		@Override
+		public void cargoRemoved(String name, int index, int quantity) {
+			changes.add("removed " + name + " " + index + " " + quantity);
+		}
+		
+		@Override
+		public void cargoCleared() {
+			changes.add("cleared");
+		}
+		
+		@Override
+		public void healthChanged(int health) {
+			changes.add("health " + health);
+		}
+		
+		@Override
+		public void pricesChanged(Store store) {
+			changes.add("prices " + store);
+		}
+		
+		@Override
+		public void goodsAdded(int lot) {
+			changes.add("added " + lot);
+		}
+		
+		@Override
+		public void goodsChanged(int lot) {
+			changes.add("changed " + lot);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.RandomSource;
+
+import simulation.GameResult;
+import simulation.HeadlessEngine;
+import simulation.RandomTraderPolicy;
+
+class HeadlessEngineTest {
+	
+	/**
+	 * Number of days each test game lasts.
+	 */
+	private static final int DAYS = 35;
+	
+	/**
+	 * Number of test games to play.
+	 */
+	private static final int GAMES = 50;
+
+	/**
+	 * Plays a batch of games and checks that each one ends with a cause and never uses more days than it has.
+	 */
+	@Test
+	void gamesFinishTest() {
+		HeadlessEngine engine = new HeadlessEngine(0, 250);
+		for (int i = 0; i < GAMES; i++) {
+			GameResult result = engine.run(new RandomTraderPolicy(i), DAYS);
+			assertNotNull(result.getCause());
+			assertTrue(result.getDaysUsed() >= 0 && result.getDaysUsed() <= DAYS);
+			assertTrue(result.getGold() >= 0);
+		}
+	}
+	
+	/**
+	 * Checks that games played from the same seed with the same policy seed end identically.
+	 */
+	@Test
+	void seededGamesRepeatTest() {
+		HeadlessEngine engine = new HeadlessEngine(0, 250);
+		for (int i = 0; i < GAMES; i++) {
+			GameResult result1 = engine.run(new RandomTraderPolicy(i), DAYS, new RandomSource(i));
+			GameResult result2 = engine.run(new RandomTraderPolicy(i), DAYS, new RandomSource(i));
+			assertEquals(result1.toString(), result2.toString());
+		}
+	}
+}
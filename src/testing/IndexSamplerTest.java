@@ -0,0 +1,47 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.IndexSampler;
+import core.RandomSource;
+
+class IndexSamplerTest {
+	
+	/**
+	 * Number of indices sampled from.
+	 */
+	private static final int POPULATION = 50;
+
+	/**
+	 * Checks that a sample has the right number of distinct indices in range, including the whole population.
+	 */
+	@Test
+	void distinctTest() {
+		IndexSampler sampler = new IndexSampler(POPULATION);
+		RandomSource random = new RandomSource(1);
+		for (int count : new int[] {0, 1, 10, POPULATION}) {
+			int[] picked = sampler.sample(count, random);
+			assertEquals(count, picked.length);
+			boolean[] seen = new boolean[POPULATION];
+			for (int index : picked) {
+				assertTrue(index >= 0 && index < POPULATION);
+				assertFalse(seen[index]);
+				seen[index] = true;
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () -> sampler.sample(POPULATION + 1, random));
+	}
+
+	/**
+	 * Checks that a sample only depends on the random numbers drawn, not on the samples taken before it.
+	 */
+	@Test
+	void repeatableTest() {
+		IndexSampler used = new IndexSampler(POPULATION);
+		used.sample(POPULATION / 2, new RandomSource(2));
+		int[] expected = new IndexSampler(POPULATION).sample(10, new RandomSource(3));
+		assertArrayEquals(expected, used.sample(10, new RandomSource(3)));
+	}
+}
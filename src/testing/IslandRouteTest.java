@@ -2,10 +2,17 @@ package testing;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import core.GameCatalog;
+import core.GameEnvironment;
 import core.Island;
+import core.Item;
+import core.ObjectsListGenerator;
+import core.RandomSource;
 import core.Route;
 
 
@@ -82,6 +89,47 @@ class IslandRouteTest {
 		assertEquals(1, testIsland1.getRoutes().size());
 	}
 	
+	/**
+	 * Checks that an island's routes are sorted by base days, and sorted again after another route is added.
+	 */
+	@Test
+	void routesByDaysTest() {
+		Island island = new Island(TEST_ISLAND_NAME_1);
+		Route slow = new Route(island, testIsland2, ROUTE_VALUE + 2, 0, 0, 0);
+		Route fast = new Route(island, testIsland2, ROUTE_VALUE, 0, 0, 0);
+		island.addRoute(slow);
+		island.addRoute(fast);
+		assertArrayEquals(new Route[] {fast, slow}, island.getRoutesByDays());
+		
+		Route fastest = new Route(island, testIsland2, 1, 0, 0, 0);
+		island.addRoute(fastest);
+		assertArrayEquals(new Route[] {fastest, fast, slow}, island.getRoutesByDays());
+	}
+	
+	/**
+	 * Checks that stores are only generated when first needed, and are the same whichever order they're generated in.
+	 */
+	@Test
+	void lazyStoreTest() {
+		ArrayList<Island> forwards = ObjectsListGenerator.generateIsland(new RandomSource(5));
+		ArrayList<Island> backwards = ObjectsListGenerator.generateIsland(new RandomSource(5));
+		for (Island island : forwards) {
+			assertFalse(island.hasStore());
+		}
+		for (int i = backwards.size() - 1; i >= 0; i--) {
+			backwards.get(i).getStore();
+		}
+		for (int i = 0; i < forwards.size(); i++) {
+			ArrayList<Item> expected = forwards.get(i).getStore().getBuys();
+			ArrayList<Item> actual = backwards.get(i).getStore().getBuys();
+			assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < expected.size(); j++) {
+				assertEquals(expected.get(j).getName(), actual.get(j).getName());
+				assertEquals(expected.get(j).getPrice(), actual.get(j).getPrice());
+			}
+		}
+	}
+	
 	/**
 	 * Check that the route attributes were set correctly in the constructor.
 	 */
@@ -101,4 +149,19 @@ class IslandRouteTest {
 		assertEquals(ROUTE_VALUE, testRoute.getWeatherDanger());
 		assertEquals(ROUTE_VALUE, testRoute.getSailorsOdds());
 	}
+	
+	/**
+	 * Checks that every island can be found by name and every route in the catalog was added to both of its islands.
+	 */
+	@Test
+	void findIslandTest() {
+		GameEnvironment game = new GameEnvironment(null, 0, 0);
+		int routeEnds = 0;
+		for (Island island : game.getIslands()) {
+			assertSame(island, game.findIsland(island.getName()));
+			routeEnds += island.getRoutes().size();
+		}
+		assertNull(game.findIsland(TEST_ISLAND_NAME_1));
+		assertEquals(GameCatalog.getInstance().getRoutes().size() * 2, routeEnds);
+	}
 }
@@ -0,0 +1,194 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import core.GameEnvironment;
+import core.Item;
+import core.Market;
+import core.RandomSource;
+import core.Store;
+
+class MarketTest {
+	
+	/**
+	 * Number of units traded in the tests.
+	 */
+	private static final int QUANTITY = 20;
+	
+	/**
+	 * Number of times each item is bought and sold back in the round trip test.
+	 */
+	private static final int ROUND_TRIPS = 5;
+	
+	/**
+	 * Market the trades are made in.
+	 */
+	private Market market;
+	
+	/**
+	 * Store the trades are made at.
+	 */
+	private Store store;
+	
+	/**
+	 * Sets up a market and a seeded store.
+	 */
+	@BeforeEach
+	void initialiseMarket() {
+		market = new Market();
+		store = new Store(new RandomSource(1));
+	}
+
+	/**
+	 * Checks that buying raises an item's price, and that it recovers to its old price as days pass
+	 * and the store stops being tracked.
+	 */
+	@Test
+	void purchaseRecoveryTest() {
+		Item item = store.getBuys().get(0);
+		int price = item.getPrice();
+		market.recordPurchase(store, item.getName(), QUANTITY);
+		assertEquals(QUANTITY, store.getPressure(item.getName()));
+		assertEquals(price * 2, item.getPrice());
+		assertEquals(1, market.getUnsettledCount());
+		
+		market.advance(1);
+		assertTrue(item.getPrice() > price && item.getPrice() < price * 2);
+		market.advance(30);
+		assertEquals(price, item.getPrice());
+		assertTrue(store.isSettled());
+		assertEquals(0, market.getUnsettledCount());
+	}
+
+	/**
+	 * Checks that selling lowers an item's price without dropping below 1 gold, and that trades of items the store
+	 * doesn't stock or trades in a disabled market change nothing.
+	 */
+	@Test
+	void saleTest() {
+		Item item = store.getSells().get(0);
+		int price = item.getPrice();
+		market.recordSale(store, item.getName(), QUANTITY * 100);
+		assertTrue(item.getPrice() < price || price <= 1);
+		assertTrue(item.getPrice() >= 1);
+		assertEquals(item.getPrice(), store.getSellPrice(item.getName()));
+		
+		Store otherStore = new Store(new RandomSource(2));
+		market.recordSale(otherStore, "Not An Item", QUANTITY);
+		assertTrue(otherStore.isSettled());
+		
+		market.setEnabled(false);
+		Item bought = otherStore.getBuys().get(0);
+		int boughtPrice = bought.getPrice();
+		market.recordPurchase(otherStore, bought.getName(), QUANTITY);
+		assertEquals(boughtPrice, bought.getPrice());
+		assertEquals(1, market.getUnsettledCount());
+	}
+
+	/**
+	 * Checks that the store never pays more for an item than it charges, whichever way the market has moved it.
+	 */
+	@Test
+	void buyAboveSellTest() {
+		for (int seed = 0; seed < 50; seed++) {
+			Store testStore = new Store(new RandomSource(seed));
+			for (Item item : testStore.getSells()) {
+				market.recordSale(testStore, item.getName(), seed);
+			}
+			for (Item item : testStore.getBuys()) {
+				market.recordPurchase(testStore, item.getName(), seed % 7);
+			}
+			for (Item buy : testStore.getBuys()) {
+				int sellPrice = testStore.getSellPrice(buy.getName());
+				assertTrue(sellPrice <= buy.getPrice());
+			}
+		}
+	}
+
+	/**
+	 * Checks that buying items and selling them straight back to the same store never makes money,
+	 * however many are traded at once and however many times it's repeated.
+	 */
+	@Test
+	void roundTripTest() {
+		for (int seed = 0; seed < 20; seed++) {
+			GameEnvironment game = new GameEnvironment(null, 0, 250, new RandomSource(seed));
+			game.finishSetup("Tester", 20, game.getShips().get(0));
+			Store gameStore = game.getStore();
+			for (Item buy : gameStore.getBuys()) {
+				Item sell = null;
+				for (Item item : gameStore.getSells()) {
+					if (item.getName().equals(buy.getName())) {
+						sell = item;
+					}
+				}
+				if (sell == null) {
+					continue;
+				}
+				for (int quantity = 1; quantity <= QUANTITY; quantity += QUANTITY - 1) {
+					for (int trip = 0; trip < ROUND_TRIPS; trip++) {
+						int gold = game.getGold();
+						int bought = Math.min(quantity, game.getMaxBuyQuantity(buy));
+						if (bought > 0 && game.buyItems(buy, bought)) {
+							assertTrue(game.sellItems(sell, bought));
+						}
+						assertTrue(game.getGold() <= gold);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Checks that trading units in one trade costs or pays the same gold and leaves the same prices as trading them
+	 * one at a time, including past the most pressure an item can have.
+	 */
+	@Test
+	void batchTest() {
+		int batch = QUANTITY * 4;
+		Store singles = new Store(new RandomSource(1));
+		for (int i = 0; i < store.getBuys().size(); i++) {
+			Item item = store.getBuys().get(i);
+			Item single = singles.getBuys().get(i);
+			long cost = 0;
+			for (int unit = 0; unit < batch; unit++) {
+				cost += single.getPrice();
+				market.recordPurchase(singles, single.getName(), 1);
+			}
+			assertEquals(cost, market.getBuyCost(store, item, batch));
+			assertEquals(batch - 1, market.getAffordableQuantity(store, item, (int) cost - 1));
+			market.recordPurchase(store, item.getName(), batch);
+			assertEquals(single.getPrice(), item.getPrice());
+		}
+		for (int i = 0; i < store.getSells().size(); i++) {
+			Item item = store.getSells().get(i);
+			Item single = singles.getSells().get(i);
+			long value = 0;
+			for (int unit = 0; unit < batch; unit++) {
+				value += single.getPrice();
+				market.recordSale(singles, single.getName(), 1);
+			}
+			assertEquals(value, market.getSaleValue(store, item, batch));
+			market.recordSale(store, item.getName(), batch);
+			assertEquals(single.getPrice(), item.getPrice());
+		}
+		
+		GameEnvironment batchGame = new GameEnvironment(null, 0, 10000, new RandomSource(1));
+		GameEnvironment singleGame = new GameEnvironment(null, 0, 10000, new RandomSource(1));
+		batchGame.finishSetup("Tester", 20, batchGame.getShips().get(0));
+		singleGame.finishSetup("Tester", 20, singleGame.getShips().get(0));
+		Item item = batchGame.getStore().getBuys().get(0);
+		Item single = singleGame.getStore().getBuys().get(0);
+		int quantity = Math.min(QUANTITY, batchGame.getMaxBuyQuantity(item));
+		assertTrue(quantity > 1);
+		assertTrue(batchGame.buyItems(item, quantity));
+		for (int unit = 0; unit < quantity; unit++) {
+			assertTrue(singleGame.buyItem(single));
+		}
+		assertEquals(singleGame.getGold(), batchGame.getGold());
+		assertEquals(single.getPrice(), item.getPrice());
+	}
+}
@@ -0,0 +1,79 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.BattleEstimate;
+import core.GameCatalog;
+import core.GameEnvironment;
+import core.PirateBattleEstimator;
+import core.Ship;
+
+class PirateBattleEstimatorTest {
+	
+	/**
+	 * Number of battles simulated in each test.
+	 */
+	private static final int BATTLES = 20000;
+	
+	/**
+	 * Largest difference allowed between the estimated and actual win rate.
+	 */
+	private static final double TOLERANCE = 0.03;
+
+	/**
+	 * Checks that the same seed gives the same estimate and that the damage probabilities add up to 1.
+	 */
+	@Test
+	void deterministicTest() {
+		PirateBattleEstimator estimator = PirateBattleEstimator.forGeneratedPirates(GameCatalog.getInstance());
+		Ship ship = GameCatalog.getInstance().createShip(0);
+		BattleEstimate estimate1 = estimator.estimate(ship, BATTLES, 42);
+		BattleEstimate estimate2 = estimator.estimate(ship, BATTLES, 42);
+		assertEquals(estimate1.getWinProbability(), estimate2.getWinProbability());
+		assertEquals(estimate1.getExpectedDamage(), estimate2.getExpectedDamage());
+		
+		double total = 0;
+		for (int damage = 0; damage <= estimate1.getMaxDamage(); damage++) {
+			total += estimate1.getDamageProbability(damage);
+		}
+		assertEquals(1, total, 1e-9);
+		assertTrue(estimate1.getDamagePercentile(0.5) <= estimate1.getDamagePercentile(0.9));
+	}
+	
+	/**
+	 * Checks that a ship without weapons can never win.
+	 */
+	@Test
+	void unarmedTest() {
+		PirateBattleEstimator estimator = PirateBattleEstimator.forPirateEvent(GameCatalog.getInstance());
+		Ship ship = GameCatalog.getInstance().createShip(0);
+		ship.emptyCargo();
+		BattleEstimate estimate = estimator.estimate(ship, BATTLES, 1);
+		assertEquals(0, estimate.getWinProbability());
+		assertEquals(ship.getHealth(), estimate.getExpectedDamage(), 1e-9);
+	}
+	
+	/**
+	 * Checks that the estimated win rate is close to the win rate of battles fought with GameEnvironment.pirateEvent.
+	 */
+	@Test
+	void matchesPirateEventTest() {
+		GameEnvironment game = new GameEnvironment(null, 0, 0);
+		Ship ship = game.getShips().get(0);
+		game.finishSetup("Test", 20, ship);
+		int wins = 0;
+		for (int i = 0; i < BATTLES; i++) {
+			ship.setHealth(ship.getMaxHealth());
+			game.pirateEvent();
+			if (ship.getHealth() > 0) {
+				wins++;
+			}
+		}
+		ship.setHealth(ship.getMaxHealth());
+		PirateBattleEstimator estimator = PirateBattleEstimator.forPirateEvent(GameCatalog.getInstance());
+		BattleEstimate estimate = estimator.estimate(ship, BATTLES, 7);
+		assertEquals((double) wins / BATTLES, estimate.getWinProbability(), TOLERANCE);
+	}
+}
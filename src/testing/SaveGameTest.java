@@ -0,0 +1,144 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import core.GameEnvironment;
+import core.Island;
+import core.Item;
+import core.RandomSource;
+import core.Route;
+import core.SaveGame;
+import core.Ship;
+import core.TradeLedger;
+
+class SaveGameTest {
+	
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 1000;
+	
+	/**
+	 * Number of days the game lasts.
+	 */
+	private static final int DAYS = 35;
+
+	/**
+	 * Plays part of a game, saves it and loads it, then checks the loaded game is in the same state
+	 * and carries on drawing the same random numbers as the original.
+	 * @param directory temporary directory for the save file
+	 * @throws IOException if the game can't be saved or loaded
+	 */
+	@Test
+	void roundTripTest(@TempDir File directory) throws IOException {
+		GameEnvironment game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(7));
+		game.finishSetup("Tester", DAYS, game.getShips().get(1));
+		Item bought = game.getStore().getBuys().get(0);
+		game.buyItems(bought, 3);
+		game.buyItems(game.getStore().getBuys().get(1), 2);
+		game.sellItems(bought, 1);
+		game.travelRoute(game.getIsland().getRoutes().get(0));
+		game.getShip().setHealth(game.getShip().getMaxHealth() - 10);
+		
+		File file = new File(directory, "game.sav");
+		SaveGame.save(game, file);
+		GameEnvironment loaded = SaveGame.load(file, null);
+		
+		assertEquals(game.getName(), loaded.getName());
+		assertEquals(game.getGold(), loaded.getGold());
+		assertEquals(game.getDaysLeft(), loaded.getDaysLeft());
+		assertEquals(game.getTotalDays(), loaded.getTotalDays());
+		assertEquals(game.getIsland().getName(), loaded.getIsland().getName());
+		assertSame(loaded.getShips().get(1), loaded.getShip());
+		assertSameShip(game.getShip(), loaded.getShip());
+		assertSameLedger(game.getGoods(), loaded.getGoods());
+		assertEquals(game.getMarket().getUnsettledCount(), loaded.getMarket().getUnsettledCount());
+		for (int i = 0; i < game.getIslands().size(); i++) {
+			Island island = game.getIslands().get(i);
+			Island loadedIsland = loaded.getIslands().get(i);
+			assertEquals(island.hasStore(), loadedIsland.hasStore());
+			if (island.hasStore()) {
+				assertSameItems(island.getStore().getBuys(), loadedIsland.getStore().getBuys());
+				assertSameItems(island.getStore().getSells(), loadedIsland.getStore().getSells());
+			}
+		}
+		
+		// Both games must carry on identically: events, routes, markets and stores generated after loading
+		assertEquals(game.pirateEvent(), loaded.pirateEvent());
+		assertEquals(game.weatherEvent(), loaded.weatherEvent());
+		Route route = game.getIsland().getRoutes().get(0);
+		Route loadedRoute = loaded.getIsland().getRoutes().get(0);
+		assertEquals(route.encounterPirates(), loadedRoute.encounterPirates());
+		game.travelRoute(route);
+		loaded.travelRoute(loadedRoute);
+		assertEquals(game.getGold(), loaded.getGold());
+		Island last = game.getIslands().get(game.getIslands().size() - 1);
+		Island loadedLast = loaded.getIslands().get(loaded.getIslands().size() - 1);
+		assertSameItems(last.getStore().getBuys(), loadedLast.getStore().getBuys());
+		assertSameShip(game.getShip(), loaded.getShip());
+	}
+
+	/**
+	 * Checks that a file that isn't a save can't be loaded.
+	 * @param directory temporary directory for the file
+	 * @throws IOException if the file can't be written
+	 */
+	@Test
+	void notASaveTest(@TempDir File directory) throws IOException {
+		File file = new File(directory, "game.sav");
+		Files.writeString(file.toPath(), "Not a save");
+		assertThrows(IOException.class, () -> SaveGame.load(file, null));
+	}
+	
+	/**
+	 * Checks that two ships have the same attributes, cargo and weapons.
+	 * @param expected expected ship
+	 * @param actual actual ship
+	 */
+	private static void assertSameShip(Ship expected, Ship actual) {
+		assertEquals(expected.toString(), actual.toString());
+		assertEquals(expected.getHealth(), actual.getHealth());
+		assertEquals(expected.getSpaceLeft(), actual.getSpaceLeft());
+		assertEquals(expected.getCargoValue(), actual.getCargoValue());
+		assertSameItems(expected.getCargo(), actual.getCargo());
+		assertSameItems(expected.getWeapons(), actual.getWeapons());
+	}
+	
+	/**
+	 * Checks that two lists hold items with the same names and prices in the same order.
+	 * @param expected expected items
+	 * @param actual actual items
+	 */
+	private static void assertSameItems(ArrayList<Item> expected, ArrayList<Item> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getName(), actual.get(i).getName());
+			assertEquals(expected.get(i).getPrice(), actual.get(i).getPrice());
+		}
+	}
+	
+	/**
+	 * Checks that two ledgers have the same lots.
+	 * @param expected expected ledger
+	 * @param actual actual ledger
+	 */
+	private static void assertSameLedger(TradeLedger expected, TradeLedger actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int lot = 0; lot < expected.size(); lot++) {
+			assertEquals(expected.getItemName(lot), actual.getItemName(lot));
+			assertEquals(expected.getQuantity(lot), actual.getQuantity(lot));
+			assertEquals(expected.getBuyIsland(lot), actual.getBuyIsland(lot));
+			assertEquals(expected.getSellIsland(lot), actual.getSellIsland(lot));
+			assertEquals(expected.getSellPrice(lot), actual.getSellPrice(lot));
+		}
+		assertEquals(expected.getUnsoldCount(expected.getItemName(0)), actual.getUnsoldCount(actual.getItemName(0)));
+	}
+}
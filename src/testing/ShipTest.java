@@ -81,6 +81,27 @@ class ShipTest {
 		assertEquals(false, testShip.removeCargo(item3));
 	}
 	
+	/**
+	 * Checks that quantities that aren't positive, or whose total size overflows an int, aren't added or removed.
+	 */
+	@Test
+	void cargoQuantityTest() {
+		Ship ship = ObjectsListGenerator.generateShip().get(0);
+		Item item = new Item("Ballast", "Heavy", 4, 1, false);
+		int size = ship.getCargo().size();
+		int space = ship.getSpaceLeft();
+		assertFalse(ship.addCargo(item, 0));
+		assertFalse(ship.addCargo(item, -1));
+		assertFalse(ship.addCargo(item, 1 << 30));
+		assertEquals(size, ship.getCargo().size());
+		assertEquals(space, ship.getSpaceLeft());
+		
+		assertTrue(ship.addCargo(item, 2));
+		assertFalse(ship.removeCargo(item, -2));
+		assertFalse(ship.removeCargo(item, 0));
+		assertEquals(size + 2, ship.getCargo().size());
+	}
+	
 	/**
 	 * Checks that the ship's health is kept between 0 and its maximum health
 	 * when setting its health.
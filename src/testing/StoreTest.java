@@ -6,7 +6,9 @@ import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
 
+import core.GameCatalog;
 import core.Item;
+import core.RandomSource;
 import core.Store;
 
 class StoreTest {
@@ -34,4 +36,21 @@ class StoreTest {
 			}
 		}
 	}
+	
+	/**
+	 * Checks that a store stocks the given number of different items, and every item when asked for more
+	 * items than the game has.
+	 */
+	@Test
+	void stockSizeTest() {
+		Store smallStore = new Store(new RandomSource(1), 3);
+		assertEquals(3, smallStore.getBuys().size());
+		assertEquals(3, smallStore.getSells().size());
+		
+		GameCatalog catalog = GameCatalog.getInstance();
+		int itemCount = catalog.getItemCount() + catalog.getWeaponCount();
+		Store fullStore = new Store(new RandomSource(1), itemCount + 5);
+		assertEquals(itemCount, fullStore.getBuys().size());
+		assertEquals(itemCount, fullStore.getBuys().stream().map(Item::getName).distinct().count());
+	}
 }
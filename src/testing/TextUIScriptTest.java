@@ -0,0 +1,75 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import core.GameEnvironment;
+import core.RandomSource;
+import ui.GameUI;
+import ui.TextUI;
+
+class TextUIScriptTest {
+
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 250;
+
+	/**
+	 * Script that sets up a game, views the ship, makes an invalid choice, buys the first item in the store
+	 * and leaves it, then runs out.
+	 */
+	private static final String SCRIPT = "Tester\n20\n1\n\n1\nx\n4\n3\n1\n1\n0\n1\n";
+
+	/**
+	 * Plays a game from a script and returns its output.
+	 * @param script lines of input
+	 * @param seed seed of the game
+	 * @return everything the UI wrote
+	 */
+	private static String play(String script, long seed) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8);
+		TextUI ui = new TextUI(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), out, true);
+		GameEnvironment game = new GameEnvironment(ui, 0, STARTING_GOLD, new RandomSource(seed));
+		ui.start(game);
+		assertTrue(game.isGameOver());
+		return bytes.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Checks that a scripted game prints what each command does without menus or prompts,
+	 * and ends the game when the script runs out.
+	 */
+	@Test
+	void scriptTest() {
+		String output = play(SCRIPT, 1);
+		assertFalse(output.contains(GameUI.NAME_PROMPT));
+		assertFalse(output.contains(GameUI.SHIP_HEADER));
+		assertFalse(output.contains("Select Action to Perform"));
+		assertTrue(output.contains(GameUI.INT_ERROR));
+		assertTrue(output.contains(GameUI.BOUGHT));
+		assertTrue(output.contains("Game over: Out of Input"));
+		assertEquals(output, play(SCRIPT, 1));
+	}
+
+	/**
+	 * Checks that a script that ends before the game is set up doesn't end the game or write anything.
+	 */
+	@Test
+	void setupEndTest() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TextUI ui = new TextUI(new ByteArrayInputStream("Tester\n".getBytes(StandardCharsets.UTF_8)),
+				new PrintStream(bytes), true);
+		GameEnvironment game = new GameEnvironment(ui, 0, STARTING_GOLD, new RandomSource(1));
+		ui.start(game);
+		assertFalse(game.isGameOver());
+		assertEquals(0, bytes.size());
+	}
+}
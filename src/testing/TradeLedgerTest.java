@@ -0,0 +1,87 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import core.TradeLedger;
+
+class TradeLedgerTest {
+	
+	/**
+	 * Name of the first test item.
+	 */
+	private static final String ITEM_1 = "Test Item 1";
+	
+	/**
+	 * Name of the second test item.
+	 */
+	private static final String ITEM_2 = "Test Item 2";
+	
+	/**
+	 * Name of the island the items are bought at.
+	 */
+	private static final String BUY_ISLAND = "Test Island 1";
+	
+	/**
+	 * Name of the island the items are sold at.
+	 */
+	private static final String SELL_ISLAND = "Test Island 2";
+
+	/**
+	 * Checks that sales use the oldest unsold lots of the right item first and record where and when they were sold.
+	 */
+	@Test
+	void sellOldestFirstTest() {
+		TradeLedger ledger = new TradeLedger();
+		ledger.buy(ITEM_1, 3, 10, BUY_ISLAND, 0);
+		ledger.buy(ITEM_2, 5, 20, BUY_ISLAND, 0);
+		ledger.buy(ITEM_1, 4, 12, BUY_ISLAND, 1);
+		assertEquals(7, ledger.getUnsoldCount(ITEM_1));
+		
+		ledger.sell(ITEM_1, 5, 15, SELL_ISLAND, 3);
+		assertEquals(2, ledger.getUnsoldCount(ITEM_1));
+		assertEquals(5, ledger.getUnsoldCount(ITEM_2));
+		
+		// The whole first lot is sold
+		assertTrue(ledger.isSold(0));
+		assertEquals(15, ledger.getSellPrice(0));
+		assertEquals(SELL_ISLAND, ledger.getSellIsland(0));
+		assertEquals(3, ledger.getSellDay(0));
+		
+		// Two of the third lot are sold and split off into a new lot
+		assertFalse(ledger.isSold(2));
+		assertEquals(2, ledger.getQuantity(2));
+		assertEquals(4, ledger.size());
+		assertEquals(ITEM_1, ledger.getItemName(3));
+		assertEquals(2, ledger.getQuantity(3));
+		assertEquals(12, ledger.getBuyPrice(3));
+		assertEquals(1, ledger.getBuyDay(3));
+		assertTrue(ledger.isSold(3));
+		
+		assertFalse(ledger.isSold(1));
+		assertNull(ledger.getSellIsland(1));
+		assertEquals(-1, ledger.getSellPrice(1));
+	}
+
+	/**
+	 * Checks that selling more than was recorded, or an item that was never bought, only sells what was recorded.
+	 */
+	@Test
+	void oversellTest() {
+		TradeLedger ledger = new TradeLedger();
+		ledger.sell(ITEM_1, 1, 15, SELL_ISLAND, 0);
+		assertEquals(0, ledger.size());
+		
+		ledger.buy(ITEM_1, 2, 10, BUY_ISLAND, 0);
+		ledger.sell(ITEM_1, 3, 15, SELL_ISLAND, 1);
+		assertEquals(0, ledger.getUnsoldCount(ITEM_1));
+		assertEquals(1, ledger.size());
+		assertTrue(ledger.isSold(0));
+		
+		// New lots start a new unsold chain
+		ledger.buy(ITEM_1, 1, 10, BUY_ISLAND, 2);
+		ledger.sell(ITEM_1, 1, 15, SELL_ISLAND, 2);
+		assertTrue(ledger.isSold(1));
+	}
+}
@@ -0,0 +1,59 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import core.GameEnvironment;
+import core.Island;
+import core.Item;
+import core.TradePlan;
+import core.TradePlanner;
+
+class TradePlannerTest {
+	
+	/**
+	 * Number of random worlds to plan in.
+	 */
+	private static final int WORLDS = 20;
+
+	/**
+	 * Follows each plan through a game with no user interface, which has no random events,
+	 * and checks the game ends with exactly the gold the plan predicted.
+	 */
+	@Test
+	void planMatchesGameTest() {
+		for (int i = 0; i < WORLDS; i++) {
+			GameEnvironment game = new GameEnvironment(null, 0, 250);
+			game.finishSetup("Test", 35, game.getShips().get(i % game.getShips().size()));
+			// Plans are made against the current prices, so trades mustn't move them
+			game.getMarket().setEnabled(false);
+			TradePlan plan = new TradePlanner(game.getIslands()).plan(game);
+			assertTrue(plan.getFinalGold() >= plan.getStartGold());
+			
+			Island island = game.getIsland();
+			for (TradePlan.Leg leg : plan.getLegs()) {
+				assertSame(island, leg.getFrom());
+				for (Map.Entry<Item, Integer> purchase : leg.getPurchases().entrySet()) {
+					assertTrue(game.buyItems(purchase.getKey(), purchase.getValue()));
+				}
+				game.travelRoute(leg.getRoute());
+				island = game.getIsland();
+				assertSame(leg.getTo(), island);
+				// Sell exactly the units carried on this leg, not the starting cannon
+				for (Item sell : island.getStore().getSells()) {
+					for (Map.Entry<Item, Integer> purchase : leg.getPurchases().entrySet()) {
+						if (purchase.getKey().getName().equals(sell.getName())) {
+							assertTrue(game.sellItems(sell, purchase.getValue()));
+						}
+					}
+				}
+				assertEquals(leg.getGoldAfter(), game.getGold());
+			}
+			assertEquals(plan.getFinalGold(), game.getGold());
+			assertTrue(game.getDaysLeft() >= 0);
+		}
+	}
+}
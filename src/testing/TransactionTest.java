@@ -0,0 +1,136 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import core.GameEnvironment;
+import core.Item;
+import core.RandomSource;
+
+class TransactionTest {
+	
+	/**
+	 * Amount of gold the player starts with.
+	 */
+	private static final int STARTING_GOLD = 1000;
+	
+	/**
+	 * Item bought and sold in the tests.
+	 */
+	private static final Item TEST_ITEM = new Item("Test Item", "", 2, 10, false);
+	
+	/**
+	 * Game the transactions are made in.
+	 */
+	private GameEnvironment game;
+	
+	/**
+	 * Sets up a game with the first ship.
+	 */
+	@BeforeEach
+	void initialiseGame() {
+		game = new GameEnvironment(null, 0, STARTING_GOLD, new RandomSource(1));
+		game.finishSetup("Test", 35, game.getShips().get(0));
+	}
+
+	/**
+	 * Checks that a batch is charged once, fills the cargo and is recorded as one goods entry.
+	 */
+	@Test
+	void buyBatchTest() {
+		int spaceLeft = game.getShip().getSpaceLeft();
+		assertTrue(game.buyItems(TEST_ITEM, 20));
+		assertEquals(STARTING_GOLD - 20 * TEST_ITEM.getPrice(), game.getGold());
+		assertEquals(spaceLeft - 20 * TEST_ITEM.getSize(), game.getShip().getSpaceLeft());
+		assertEquals(20, game.getShip().getCargoHold().count(TEST_ITEM.getName()));
+		assertEquals(1, game.getGoods().size());
+		assertEquals(20, game.getGoods().getQuantity(0));
+	}
+
+	/**
+	 * Checks that a batch that doesn't fit or can't be afforded changes nothing.
+	 */
+	@Test
+	void buyBatchFailTest() {
+		int max = game.getMaxBuyQuantity(TEST_ITEM);
+		assertFalse(game.buyItems(TEST_ITEM, max + 1));
+		assertFalse(game.buyItems(TEST_ITEM, 0));
+		assertEquals(STARTING_GOLD, game.getGold());
+		assertEquals(0, game.getShip().getCargoHold().count(TEST_ITEM.getName()));
+		assertEquals(0, game.getGoods().size());
+		assertTrue(game.buyItems(TEST_ITEM, max));
+	}
+
+	/**
+	 * Checks that a quantity whose total price overflows an int, or that isn't positive, changes nothing.
+	 */
+	@Test
+	void buyOverflowTest() {
+		Item weightless = new Item("Weightless Item", "", 0, 4, false);
+		assertFalse(game.buyItems(weightless, 1 << 30));
+		assertFalse(game.buyItems(weightless, -1));
+		assertEquals(STARTING_GOLD, game.getGold());
+		assertEquals(0, game.getShip().getCargoHold().count(weightless.getName()));
+		assertEquals(0, game.getGoods().size());
+	}
+
+	/**
+	 * Checks that selling part of a batch records the sold part as a new lot and leaves the rest unsold,
+	 * and that selling more than the cargo holds changes nothing.
+	 */
+	@Test
+	void sellBatchTest() {
+		game.buyItems(TEST_ITEM, 10);
+		int gold = game.getGold();
+		assertFalse(game.sellItems(TEST_ITEM, 11));
+		assertEquals(gold, game.getGold());
+		
+		assertTrue(game.sellItems(TEST_ITEM, 4));
+		assertEquals(gold + 4 * TEST_ITEM.getPrice(), game.getGold());
+		assertEquals(6, game.getShip().getCargoHold().count(TEST_ITEM.getName()));
+		assertEquals(2, game.getGoods().size());
+		assertEquals(6, game.getGoods().getQuantity(0));
+		assertFalse(game.getGoods().isSold(0));
+		assertEquals(4, game.getGoods().getQuantity(1));
+		assertEquals(game.getIsland().getName(), game.getGoods().getSellIsland(1));
+	}
+
+	/**
+	 * Checks that the liquidation value matches the store's prices for the whole cargo after buying, selling,
+	 * trades that move the store's prices, travelling and losing the cargo.
+	 */
+	@Test
+	void liquidationValueTest() {
+		Item sold = game.getStore().getSells().get(0);
+		assertEquals(expectedLiquidationValue(), game.getLiquidationValue());
+		game.buyItems(sold, 3);
+		game.buyItems(TEST_ITEM, 2);
+		assertEquals(expectedLiquidationValue(), game.getLiquidationValue());
+		game.sellItems(sold, 1);
+		assertEquals(expectedLiquidationValue(), game.getLiquidationValue());
+		// Each sale lowers the price the store pays for the rest of the item
+		game.buyItems(sold, 20);
+		game.sellItems(sold, 10);
+		assertEquals(expectedLiquidationValue(), game.getLiquidationValue());
+		
+		game.travelRoute(game.getIsland().getRoutes().get(0));
+		assertEquals(expectedLiquidationValue(), game.getLiquidationValue());
+		
+		game.getShip().emptyCargo();
+		assertEquals(0, game.getLiquidationValue());
+	}
+	
+	/**
+	 * Returns what the current store would pay for the ship's cargo, worked out from scratch.
+	 * @return gold from selling all the cargo the store buys
+	 */
+	private int expectedLiquidationValue() {
+		int value = 0;
+		for (Item item : game.getStore().getSells()) {
+			value += item.getPrice() * game.getShip().getCargoHold().count(item.getName());
+		}
+		return value;
+	}
+}
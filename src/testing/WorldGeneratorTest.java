@@ -0,0 +1,78 @@
+package testing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import core.GameCatalog;
+import simulation.WorldGenerator;
+
+class WorldGeneratorTest {
+	
+	/**
+	 * Number of islands in the test worlds.
+	 */
+	private static final int ISLANDS = 500;
+	
+	/**
+	 * Number of routes in the test worlds.
+	 */
+	private static final int ROUTES = 2000;
+	
+	/**
+	 * Number of trade items in the test worlds.
+	 */
+	private static final int ITEMS = 120;
+	
+	/**
+	 * Directory the test worlds are written to.
+	 */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Checks that a generated world loads with the requested number of unique islands, routes and items,
+	 * and that every route joins two different islands in the world.
+	 */
+	@Test
+	void loadGeneratedWorldTest() throws IOException {
+		File world = directory.resolve("world").toFile();
+		new WorldGenerator(1).generate(world, ISLANDS, ROUTES, ITEMS);
+		GameCatalog catalog = GameCatalog.load(world);
+		List<String> names = catalog.getIslandNames();
+		assertEquals(ISLANDS, names.size());
+		assertEquals(ISLANDS, new HashSet<String>(names).size());
+		assertEquals(ROUTES, catalog.getRoutes().size());
+		assertEquals(ITEMS, catalog.getItemCount());
+		assertEquals(GameCatalog.getInstance().getShipCount(), catalog.getShipCount());
+		
+		HashSet<String> nameSet = new HashSet<String>(names);
+		for (GameCatalog.RouteParameters route : catalog.getRoutes()) {
+			assertTrue(nameSet.contains(route.getIslandName1()));
+			assertTrue(nameSet.contains(route.getIslandName2()));
+			assertNotEquals(route.getIslandName1(), route.getIslandName2());
+		}
+	}
+
+	/**
+	 * Checks that the same seed always writes the same files.
+	 */
+	@Test
+	void sameSeedTest() throws IOException {
+		File world1 = directory.resolve("world1").toFile();
+		File world2 = directory.resolve("world2").toFile();
+		new WorldGenerator(7).generate(world1, ISLANDS, ROUTES, ITEMS);
+		new WorldGenerator(7).generate(world2, ISLANDS, ROUTES, ITEMS);
+		for (String fileName : new String[] {"islands.txt", "routes.txt", "items.txt"}) {
+			assertEquals(-1L, Files.mismatch(new File(world1, fileName).toPath(), new File(world2, fileName).toPath()));
+		}
+	}
+}
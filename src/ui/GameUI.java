@@ -3,6 +3,7 @@ package ui;
 import core.GameEnvironment;
 import core.Island;
 import core.Route;
+import core.SaveGame;
 
 /**
  * Interface for any user interface class. Includes methods that need to be implemented, and strings that
@@ -87,6 +88,16 @@ public interface GameUI {
 	 */
 	final String SELL_FAIL = "Failed to sell item - not found in cargo.";
 	
+	/**
+	 * Message displayed when the game has been saved.
+	 */
+	final String SAVED = "Game saved to " + SaveGame.DEFAULT_FILE + ".";
+	
+	/**
+	 * Message displayed when the game couldn't be saved, followed by the reason.
+	 */
+	final String SAVE_FAIL = "Failed to save the game: ";
+	
 	/**
 	 * Message displayed when the player tries to travel when their ship isn't at maximum health
 	 */
@@ -141,6 +152,12 @@ public interface GameUI {
 	 */
 	void start(GameEnvironment game);
 	
+	/**
+	 * Carries on a game loaded from a save from the menu, skipping the start of the game.
+	 * @param game loaded game instance
+	 */
+	void resume(GameEnvironment game);
+	
 	/**
 	 * Menu screen where the player can choose an option out of all the ones available in the game.
 	 */
@@ -1,25 +1,61 @@
 package ui;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import core.GameEnvironment;
 import core.Island;
 import core.Item;
 import core.Route;
+import core.SaveGame;
 import core.Ship;
 
 /**
  * Implements the game's user interface with text.
+ * The text UI can also be scripted, reading its commands in bulk from a file or pipe. A scripted UI doesn't print
+ * menus or prompts, only what each command does, and its output is buffered and written once each command is done,
+ * so many scripted games can be played quickly.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
 public class TextUI implements GameUI {
 	
 	/**
-	 * Scanner that reads the player's input.
+	 * Reason a game ends when its input runs out.
 	 */
-	private final Scanner input;
+	private static final String INPUT_ENDED = "Out of Input";
+	
+	/**
+	 * Reason a game ends when the player runs out of days.
+	 */
+	private static final String DAYS_ENDED = "Out of Days";
+	
+	/**
+	 * Reader of the player's input, a line at a time.
+	 */
+	private final BufferedReader input;
+	
+	/**
+	 * Stream the output is written to.
+	 */
+	private final PrintStream out;
+	
+	/**
+	 * Output that hasn't been written yet.
+	 */
+	private final StringBuilder output = new StringBuilder();
+	
+	/**
+	 * Whether the input is a script, so menus and prompts aren't printed and output is only written after
+	 * each command.
+	 */
+	private final boolean scripted;
 	
 	/**
 	 * Instance of the game.
@@ -27,11 +63,23 @@ public class TextUI implements GameUI {
 	private GameEnvironment game;
 	
 	/**
-	 * Initialises the scanner that reads the player's input.
+	 * Creates a text UI that reads the player's input from the console and writes to it.
 	 */
 	public TextUI() {
-		this.input = new Scanner(System.in);
-		input.useDelimiter("\\s*\n\\s*");
+		this(System.in, System.out, false);
+	}
+	
+	/**
+	 * Creates a text UI that reads its input from the given stream and writes its output to the given stream.
+	 * @param in stream of input, one command or answer per line
+	 * @param out stream the output is written to
+	 * @param scripted true if the input is a script, so menus and prompts aren't printed and output is only written
+	 * after each command
+	 */
+	public TextUI(InputStream in, PrintStream out, boolean scripted) {
+		this.input = new BufferedReader(new InputStreamReader(in));
+		this.out = out;
+		this.scripted = scripted;
 	}
 	
 	/**
@@ -43,7 +91,8 @@ public class TextUI implements GameUI {
 		ISL_INFO("View island information"),
 		STORE("Visit the store"),
 		REPAIR("Repair your ship"),
-		TRAVEL("Travel to another island");
+		TRAVEL("Travel to another island"),
+		SAVE("Save the game");
 		
 		public final String label;
 
@@ -71,19 +120,37 @@ public class TextUI implements GameUI {
 	@Override
 	public void start(GameEnvironment game) {
 		this.game = game;
-		String name = getName();
-		int days = getValidInt(20, 50, DAYS_PROMPT, DAYS_ERROR);
-		Ship ship = getShip();
-		game.finishSetup(name, days, ship);
+		try {
+			String name = getName();
+			int days = getValidInt(20, 50, DAYS_PROMPT, DAYS_ERROR);
+			Ship ship = getShip();
+			game.finishSetup(name, days, ship);
+		} catch (EndOfInput e) {
+			endOnEndOfInput();
+		}
+		flush();
+	}
+
+	@Override
+	public void resume(GameEnvironment game) {
+		this.game = game;
+		try {
+			menu();
+		} catch (EndOfInput e) {
+			endOnEndOfInput();
+		}
+		flush();
 	}
 
 	@Override
 	public void menu() {
 		final MenuOption options[] = MenuOption.values();
 		
-		while (game.getDaysLeft() > 0) {
-			printGameState();
-			printMenuOptions();
+		while (!game.isGameOver() && game.getDaysLeft() > 0) {
+			if (!scripted) {
+				printGameState();
+				printMenuOptions();
+			}
 			int choice = getValidInt(1, options.length, "\nSelect Action to Perform:", INT_ERROR);
 			switch (options[choice-1]) {
 	            case SHIP_INFO: shipInfo();
@@ -98,20 +165,39 @@ public class TextUI implements GameUI {
 	            				break;
 	            case TRAVEL:	travel();
 	            				break;
+	            case SAVE:		save();
+	            				break;
+			}
+			if (scripted) {
+				flush();
 			}
 		}
+		if (!game.isGameOver()) {
+			game.endGame(DAYS_ENDED);
+		}
+	}
 
+	/**
+	 * Saves the game to the default save file so it can be carried on later.
+	 */
+	private void save() {
+		try {
+			SaveGame.save(game, new File(SaveGame.DEFAULT_FILE));
+			println(SAVED);
+		} catch (IOException e) {
+			println(SAVE_FAIL + e.getMessage());
+		}
 	}
 
 	@Override
 	public void shipInfo() {
-		System.out.println(game.getShip());
+		println(game.getShip());
 	}
 
 	@Override
 	public void goods() {
 		// TODO implement sold goods
-		System.out.println("Current goods:");
+		println("Current goods:");
 		printCargo();
 	}
 
@@ -125,9 +211,11 @@ public class TextUI implements GameUI {
 		final StoreOption options[] = StoreOption.values();
 		
 		while (true) {
-			printStoreOptions();
+			if (!scripted) {
+				printStoreOptions();
+			}
 			String prompt = "\nSelect Action to Perform:";
-			int choice = getValidInt(1, MenuOption.values().length, prompt, INT_ERROR);
+			int choice = getValidInt(1, options.length, prompt, INT_ERROR);
 			switch (options[choice-1]) {
 				case LEAVE: return;
 				case GOODS: goods();
@@ -145,20 +233,22 @@ public class TextUI implements GameUI {
 	public void repair() {
 		Ship ship = game.getShip();
 		if (ship.getHealth() == ship.getMaxHealth()) {
-			System.out.println(REPAIR_MAX);
+			println(REPAIR_MAX);
 		} else {
-			System.out.println("Cost: " + ship.getRepairCost() + "\nWould you like to repair your ship?");
 			String options[] = {"Yes", "No"};
-			for (int i = 0; i < options.length; i++) {
-				System.out.println((i+1) + " - " + options[i]);
+			if (!scripted) {
+				println("Cost: " + ship.getRepairCost() + "\nWould you like to repair your ship?");
+				for (int i = 0; i < options.length; i++) {
+					println((i+1) + " - " + options[i]);
+				}
 			}
 			String prompt = "\nSelect Action to Perform:";
 			int choice = getValidInt(1, options.length, prompt, INT_ERROR);
 			if (choice == 1) {
 				if (game.repairShip()) {
-					System.out.println(REPAIR_SUCCESS);
+					println(REPAIR_SUCCESS);
 				} else {
-					System.out.println(REPAIR_FAIL);
+					println(REPAIR_FAIL);
 				}
 			}
 		}
@@ -167,10 +257,12 @@ public class TextUI implements GameUI {
 	@Override
 	public void travel() {
 		if (game.getShip().getHealth() != game.getShip().getMaxHealth()) {
-			System.out.println(TRAVEL_SHIP_ERROR);
+			println(TRAVEL_SHIP_ERROR);
 		} else {
-			System.out.println("Reachable Islands:");
-			printRoutes();
+			if (!scripted) {
+				println("Reachable Islands:");
+				printRoutes();
+			}
 			ArrayList<Route> routes = game.getIsland().getRoutes();
 			String prompt = "Choose route to take or enter '0' to cancel: ";
 			int choice = getValidInt(0, routes.size(), prompt, INT_ERROR);
@@ -179,7 +271,7 @@ public class TextUI implements GameUI {
 				if (game.canAffordRoute(route)) {
 					game.travelRoute(route);
 				} else {
-					System.out.println(TRAVEL_GOLD_ERROR);
+					println(TRAVEL_GOLD_ERROR);
 				}
 			}
 		}
@@ -191,17 +283,18 @@ public class TextUI implements GameUI {
 	 */
 	private String getName() {
 		while (true) {
-			System.out.println(NAME_PROMPT);
-			String name = input.nextLine();
+			showPrompt(NAME_PROMPT);
+			String name = readLine();
 			if (name.matches(NAME_REGEX)) {
 				return name;
 			}
-			System.out.println(NAME_ERROR);
+			println(NAME_ERROR);
 		}
 	}
 	
 	/**
-	 * Gets a valid integer from the player within a specific range.
+	 * Gets a valid integer from the player within a specific range. Blank lines are skipped.
+	 * A scripted UI doesn't print the prompt, so an invalid answer only prints the error before the next is read.
 	 * @param lowerBound smallest value for the valid integer
 	 * @param upperBound largest value for the valid integer
 	 * @param prompt textual prompt to get the player to type an integer
@@ -209,17 +302,22 @@ public class TextUI implements GameUI {
 	 * @return valid integer entered by the player
 	 */
 	private int getValidInt(int lowerBound, int upperBound, String prompt, String errorMsg) {
+		showPrompt(prompt);
 		while (true) {
-			System.out.println(prompt);
+			String line = readLine();
+			if (line.isEmpty()) {
+				continue;
+			}
 			try {
-				int choice = input.nextInt();
+				int choice = Integer.parseInt(line);
 				if (lowerBound <= choice && choice <= upperBound ) {
 					return choice;
 				}
-			} catch (java.util.InputMismatchException e) {
-				input.nextLine();
+			} catch (NumberFormatException e) {
+				// Falls through to the error message
 			}
-			System.out.println(errorMsg);
+			println(errorMsg);
+			showPrompt(prompt);
 		}
 	}
 	
@@ -228,12 +326,14 @@ public class TextUI implements GameUI {
 	 * @return ship chosen by the player
 	 */
 	private Ship getShip() {
-		System.out.println(SHIP_HEADER);
 		ArrayList<Ship> ships = game.getShips();
-		int i = 0;
-		for (Ship ship : ships) {
-			System.out.println((i+1) + " - " + ship + "\n");
-			i++;
+		if (!scripted) {
+			println(SHIP_HEADER);
+			int i = 0;
+			for (Ship ship : ships) {
+				println((i+1) + " - " + ship + "\n");
+				i++;
+			}
 		}
 		
 		int choice = getValidInt(1, ships.size(), SHIP_PROMPT, INT_ERROR);
@@ -244,18 +344,18 @@ public class TextUI implements GameUI {
 	 * Prints how many days are remaining and the current island.
 	 */
 	private void printGameState() {
-		System.out.println("\n" + game.getDaysLeft()+" Days Remaining");
-		System.out.println("Current Island: " + game.getIsland().getName());
+		println("\n" + game.getDaysLeft()+" Days Remaining");
+		println("Current Island: " + game.getIsland().getName());
 	}
 	
 	/**
 	 * Prints the menu options that the player can choose from.
 	 */
 	private void printMenuOptions() {
-		System.out.println("\nAvaliable Actions:");
+		println("\nAvaliable Actions:");
 		int i = 0;
 		for (MenuOption option : MenuOption.values()) {
-			System.out.println((i+1) + " - " + option.label);
+			println((i+1) + " - " + option.label);
 			i++;
 		}
 	}
@@ -264,10 +364,10 @@ public class TextUI implements GameUI {
 	 * Prints the store options that the player can choose from.
 	 */
 	private void printStoreOptions() {
-		System.out.println("\nAvaliable Actions:");
+		println("\nAvaliable Actions:");
 		int i = 0;
 		for (StoreOption option : StoreOption.values()) {
-			System.out.println((i+1) + " - " + option.label);
+			println((i+1) + " - " + option.label);
 			i++;
 		}
 	}
@@ -278,19 +378,23 @@ public class TextUI implements GameUI {
 	 */
 	private void buy() {
 		while (true) {
-			System.out.println("\nCurrent gold: " + game.getGold());
 			ArrayList<Item> items = game.getStore().getBuys();
-			System.out.println("\nItems avaliable for purchase:");
-			printItems(items);
+			if (!scripted) {
+				println("\nCurrent gold: " + game.getGold());
+				println("\nItems avaliable for purchase:");
+				printItems(items);
+			}
 			String prompt = "\nChoose item to buy or enter '0' to go back: ";
 			int choice = getValidInt(0, items.size(), prompt, INT_ERROR);
 			if (choice == 0) {
 				break;
 			} else {
-				if (game.buyItem(items.get(choice-1))) {
-					System.out.println(BOUGHT);
+				Item item = items.get(choice-1);
+				int quantity = getQuantity(game.getMaxBuyQuantity(item), "buy");
+				if (game.buyItems(item, quantity)) {
+					println(BOUGHT);
 				} else {
-					System.out.println(BUY_FAIL);
+					println(BUY_FAIL);
 				}
 			}
 		}
@@ -302,24 +406,42 @@ public class TextUI implements GameUI {
 	 */
 	private void sell() {
 		while (true) {
-			System.out.println("\nCurrent gold: " + game.getGold());
 			ArrayList<Item> items = game.getStore().getSells();
-			System.out.println("\nItems avaliable to sell:");
-			printItems(items);
+			if (!scripted) {
+				println("\nCurrent gold: " + game.getGold());
+				println("\nItems avaliable to sell:");
+				printItems(items);
+			}
 			String prompt = "\nChoose item to sell or enter '0' to go back: ";
 			int choice = getValidInt(0, items.size(), prompt, INT_ERROR);
 			if (choice == 0) {
 				break;
 			} else {
-				if (game.sellItem(items.get(choice-1))) {
-					System.out.println(SOLD);
+				Item item = items.get(choice-1);
+				int quantity = getQuantity(game.getShip().getCargoHold().count(item.getName()), "sell");
+				if (game.sellItems(item, quantity)) {
+					println(SOLD);
 				} else {
-					System.out.println(SELL_FAIL);
+					println(SELL_FAIL);
 				}
 			}
 		}
 	}
 	
+	/**
+	 * Asks the player how many of an item to buy or sell, skipping the question if they can only manage one.
+	 * @param maxQuantity most of the item the player can buy or sell
+	 * @param action "buy" or "sell"
+	 * @return quantity chosen by the player
+	 */
+	private int getQuantity(int maxQuantity, String action) {
+		if (maxQuantity <= 1) {
+			return 1;
+		}
+		String prompt = "\nHow many would you like to " + action + "? (1-" + maxQuantity + ")";
+		return getValidInt(1, maxQuantity, prompt, INT_ERROR);
+	}
+	
 	/**
 	 * Prints each item in items.
 	 * @param items ArrayList of items to be printed.
@@ -328,10 +450,10 @@ public class TextUI implements GameUI {
 		int i = 0;
 		for (Item item : items) {
 			if (item.isWeapon()) {
-				System.out.println("\t" + (i+1) + " - " + item.getName() + ", " + item.getSize() + "kg, " + item.getPrice() + " gold - \""+item.getDesc()+"\"");
+				println("\t" + (i+1) + " - " + item.getName() + ", " + item.getSize() + "kg, " + item.getPrice() + " gold - \""+item.getDesc()+"\"");
 			}
 			else {
-				System.out.println("\t" + (i+1) + " - " + item.getName() + ", " + item.getSize() + "kg, " + item.getPrice() + " gold");
+				println("\t" + (i+1) + " - " + item.getName() + ", " + item.getSize() + "kg, " + item.getPrice() + " gold");
 			}
 			i++;
 		}
@@ -346,8 +468,8 @@ public class TextUI implements GameUI {
 		Ship ship = game.getShip();
 		int i = 0;
 		for (Route route : routes) {
-			System.out.print((i+1) + " - ");
-			System.out.println(route.getInfo(island, ship.getSpeed()) + "\n");
+			print((i+1) + " - ");
+			println(route.getInfo(island, ship.getSpeed()) + "\n");
 			i++;
 		}
 	}
@@ -356,32 +478,32 @@ public class TextUI implements GameUI {
 	 * Prints the items in the ship's cargo.
 	 */
 	private void printCargo() {
-		System.out.println(game.getShip().getName() + "'s cargo:");
+		println(game.getShip().getName() + "'s cargo:");
 		ArrayList<Item> cargo = game.getShip().getCargo();
 		if (cargo.size() == 0) {
-			System.out.println("\tEmpty");
+			println("\tEmpty");
 		}
 		for (int i = 0; i < cargo.size(); i++) {
-			System.out.println("\t" + (i+1) + " - " + cargo.get(i).getName() + ", " + cargo.get(i).getSize() + "kg, "+cargo.get(i).getPrice() + " gold");
+			println("\t" + (i+1) + " - " + cargo.get(i).getName() + ", " + cargo.get(i).getSize() + "kg, "+cargo.get(i).getPrice() + " gold");
 		}
-		System.out.println();
+		println();
 	}
 
 	@Override
 	public void pirateEncounter(Route route) {
-		System.out.println(PIRATE_ENCOUNTER);
+		println(PIRATE_ENCOUNTER);
 		int damage = game.pirateEvent();
 		if (game.getShip().getHealth() > 0) {
-			System.out.println("But you defeated them!\nYour ship has taken " + damage + " damage.");
+			println("But you defeated them!\nYour ship has taken " + damage + " damage.");
 		} else {
 			// Lose the game if the goods value is below the threshold
 			if (!game.pirateLossOutcome()) {
 				game.loseGold();
-				System.out.println(PIRATE_UNSATISFIED);
+				println(PIRATE_UNSATISFIED);
 				game.endGame("Killed by Pirates");
 			}
 			else {
-				System.out.println(PIRATE_SATISFIED);
+				println(PIRATE_SATISFIED);
 			}
 		}
 	}
@@ -390,12 +512,12 @@ public class TextUI implements GameUI {
 	public void weatherEncounter(Route route) {
 		Ship playerShip = game.getShip();
 		int damage = game.weatherEvent();
-		System.out.println(WEATHER_ENCOUNTER);
-		System.out.println("Your ship has taken " + damage + " damage.");
+		println(WEATHER_ENCOUNTER);
+		println("Your ship has taken " + damage + " damage.");
 		// end game if ship is destroyed
 		if (playerShip.getHealth() <= 0) {
-			System.out.println("Your ship has been destroyed in the storm.");
-			playerShip.emptyCargo();
+			println("Your ship has been destroyed in the storm.");
+			game.loseCargo();
 			game.loseGold();
 			game.endGame("Killed in Storm");
 		}
@@ -405,8 +527,8 @@ public class TextUI implements GameUI {
 	@Override
 	public void sailorEncounter(Route route) {
 		int reward = game.sailorEvent();
-		System.out.println(SAILOR_ENCOUNTER);		
-		System.out.println("The sailors give you " + reward + " gold as a reward for rescuing them.");
+		println(SAILOR_ENCOUNTER);		
+		println("The sailors give you " + reward + " gold as a reward for rescuing them.");
 	}
 
 	@Override
@@ -417,7 +539,89 @@ public class TextUI implements GameUI {
 
 	@Override
 	public void endGame(String reason) {
-		// Auto-generated method stub
+		println("\nGame over: " + reason);
+		println("Final score: " + game.calcScore());
+	}
+	
+	/**
+	 * Ends the game because the input ran out, unless it has already ended or hasn't been set up.
+	 */
+	private void endOnEndOfInput() {
+		if (game.getName() != null && !game.isGameOver()) {
+			game.endGame(INPUT_ENDED);
+		}
+	}
+	
+	/**
+	 * Reads the next line of input with surrounding whitespace removed. Output is written first unless the UI
+	 * is scripted, so the player sees the prompt they're answering.
+	 * @return next line of input
+	 * @throws EndOfInput if there's no more input
+	 */
+	private String readLine() {
+		if (!scripted) {
+			flush();
+		}
+		try {
+			String line = input.readLine();
+			if (line == null) {
+				throw new EndOfInput();
+			}
+			return line.trim();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Prints a prompt or menu line, unless the UI is scripted.
+	 * @param text text to print
+	 */
+	private void showPrompt(String text) {
+		if (!scripted) {
+			println(text);
+		}
+	}
+	
+	/**
+	 * Adds text and the end of a line to the output.
+	 * @param text text to add
+	 */
+	private void println(Object text) {
+		output.append(text).append('\n');
+	}
+	
+	/**
+	 * Adds the end of a line to the output.
+	 */
+	private void println() {
+		output.append('\n');
+	}
+	
+	/**
+	 * Adds text to the output.
+	 * @param text text to add
+	 */
+	private void print(Object text) {
+		output.append(text);
+	}
+	
+	/**
+	 * Writes the output that hasn't been written yet.
+	 */
+	private void flush() {
+		out.append(output);
+		output.setLength(0);
+		if (!scripted) {
+			out.flush();
+		}
+	}
+	
+	/**
+	 * Thrown when the input runs out, to unwind to the start of the game and end it.
+	 */
+	private static final class EndOfInput extends RuntimeException {
 		
+		private static final long serialVersionUID = 6215086325180354923L;
 	}
 }
@@ -0,0 +1,104 @@
+package ui.gui;
+
+import javax.swing.table.AbstractTableModel;
+
+import core.CargoHold;
+import core.GameListener;
+import core.Item;
+
+/**
+ * Table model that reads each cell straight from a ship's cargo hold, with a row for each item grouped by type,
+ * oldest first within each type. It listens to the game, so when items are added or removed the table is only
+ * told about the rows of the items that changed. Rows are counted from the changes rather than the cargo, so the
+ * table stays in step with the changes it has been told about while a command's changes are still being passed on.
+ * The cargo is only read on the Event Dispatch Thread while no command runs, since tables showing it are frozen
+ * while one does.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+class CargoTableModel extends AbstractTableModel implements GameListener {
+	
+	private static final long serialVersionUID = -3095174519360385562L;
+	
+	/**
+	 * Names of the table's columns.
+	 */
+	private static final String[] COLUMN_NAMES = {"Name", "Price", "Size", "Description"};
+	
+	/**
+	 * Type of the values in each column, so numbers are sorted as numbers.
+	 */
+	private static final Class<?>[] COLUMN_CLASSES = {String.class, Integer.class, Integer.class, String.class};
+	
+	/**
+	 * Cargo hold shown in the table.
+	 */
+	private final CargoHold cargo;
+	
+	/**
+	 * Number of items the table has been told about.
+	 */
+	private int shownRows;
+	
+	/**
+	 * Creates a table model for the given cargo hold.
+	 * @param cargo cargo hold to show
+	 */
+	CargoTableModel(CargoHold cargo) {
+		this.cargo = cargo;
+		shownRows = cargo.size();
+	}
+	
+	@Override
+	public void cargoAdded(String name, int index, int quantity) {
+		shownRows += quantity;
+		fireTableRowsInserted(index, index + quantity - 1);
+	}
+	
+	@Override
+	public void cargoRemoved(String name, int index, int quantity) {
+		shownRows -= quantity;
+		fireTableRowsDeleted(index, index + quantity - 1);
+	}
+	
+	@Override
+	public void cargoCleared() {
+		shownRows = 0;
+		fireTableDataChanged();
+	}
+	
+	@Override
+	public int getRowCount() {
+		return shownRows;
+	}
+	
+	@Override
+	public int getColumnCount() {
+		return COLUMN_NAMES.length;
+	}
+	
+	@Override
+	public String getColumnName(int column) {
+		return COLUMN_NAMES[column];
+	}
+	
+	@Override
+	public Class<?> getColumnClass(int column) {
+		return COLUMN_CLASSES[column];
+	}
+	
+	@Override
+	public Object getValueAt(int row, int column) {
+		if (row >= cargo.size()) {
+			// The row's items were removed later in the command whose changes the table is being told about
+			return null;
+		}
+		Item item = cargo.getItem(row);
+		switch (column) {
+			case 0: return item.getName();
+			case 1: return item.getPrice();
+			case 2: return item.getSize();
+			default: return item.getDesc();
+		}
+	}
+}
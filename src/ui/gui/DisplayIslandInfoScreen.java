@@ -1,10 +1,9 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
 import core.Island;
-import core.Item;
 import core.Route;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Alignment;
@@ -18,6 +17,7 @@ import java.awt.Color;
 import javax.swing.LayoutStyle.ComponentPlacement;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
 
 /**
  * Displays the island's available routes and the items the player can buy and sell at its store.
@@ -27,52 +27,85 @@ import javax.swing.JTable;
 public class DisplayIslandInfoScreen extends Screen {
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
-	 * Island the player is currently on.
+	 * Island to show info of.
 	 */
 	private Island island;
 	
 	/**
-	 * Stores the game instance and island to show info of then creates and sets up the frame.
+	 * Label displaying the island's name.
+	 */
+	private JLabel titleLbl;
+	
+	/**
+	 * Label displaying the name of the island's store.
+	 */
+	private JLabel storeLbl;
+	
+	/**
+	 * Table of the items the island's store sells.
+	 */
+	private JTable buyTable;
+	
+	/**
+	 * Table of the items the island's store buys.
+	 */
+	private JTable sellTable;
+	
+	/**
+	 * Model of the buy table.
+	 */
+	private ItemTableModel buyModel;
+	
+	/**
+	 * Model of the sell table.
+	 */
+	private ItemTableModel sellModel;
+	
+	/**
+	 * Table of the island's routes.
+	 */
+	private JTable routeTable;
+	
+	/**
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
-	 * @param island island to show info of
 	 */
-	protected DisplayIslandInfoScreen(GameEnvironment game, Island island) {
+	protected DisplayIslandInfoScreen(GameEnvironment game) {
 		super(game);
-		this.island = island;
-		frame = new JFrame();		
-		initialiseFrame();
-		configureFrame();	
+		panel = new JPanel();
+		initialisePanel();	
 	}
 	
 	/**
-	 * Returns 2D array of items where each row has a name, price, size, and description.
-	 * @param items an ArrayList of items
-	 * @return 2D array of item info
+	 * Sets the island to show info of next time the screen is shown.
+	 * @param island island to show info of
 	 */
-	private Object[][] makeItemArray(ArrayList<Item> items) {
-		Object itemArray[][] = new Object[items.size()][];
-		int i = 0;
-		for (Item item : items) {
-			Object itemRow[] = {item.getName(), item.getPrice(), item.getSize(), item.getDesc()};
-			itemArray[i] = itemRow;
-			i++;
-		}
-		return itemArray;
+	void setIsland(Island island) {
+		this.island = island;
+	}
+	
+	@Override
+	void refresh() {
+		titleLbl.setText("Island Info - " + island.getName());
+		storeLbl.setText(island.getName() + " Store");
+		sellModel.setItems(island.getStore().getSells());
+		buyModel.setItems(island.getStore().getBuys());
+		fillRouteTable(island.getRoutes());
 	}
 	
 	/**
-	 * Returns 2D array of routes where each row has the island it travels to, days the route takes, and random event chance.
-	 * @param routes an ArrayList of routes
-	 * @return 2D array of route info
+	 * Replaces the route table's rows with a row for each route, with the island it travels to,
+	 * days the route takes, and random event chances.
+	 * @param routes island's routes
 	 */
-	private Object[][] makeRouteArray(ArrayList<Route> routes) {
-		Object routeArray[][] = new Object[routes.size()][];
-		int i = 0;
+	private void fillRouteTable(ArrayList<Route> routes) {
+		DefaultTableModel model = (DefaultTableModel) routeTable.getModel();
+		model.setRowCount(0);
 		String islandName;
 		for (Route route : routes) {
 			if (route.getIslands()[0].getName() == island.getName()) {
@@ -80,26 +113,23 @@ public class DisplayIslandInfoScreen extends Screen {
 			} else {
 				islandName = route.getIslands()[0].getName();
 			}
-			Object routeInfo[] = {islandName,route.getDays(getGame().getShip().getSpeed()),route.getPirateDanger(),route.getWeatherDanger(),route.getSailorsOdds()};
-			routeArray[i] = routeInfo;
-			i++;
+			model.addRow(new Object[] {islandName, route.getDays(getGame().getShip().getSpeed()), route.getPirateDanger(),
+					route.getWeatherDanger(), route.getSailorsOdds()});
 		}
-		return routeArray;
 	}
 
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
 	}
 	
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 620, 650);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel() {
+		setFrameSize(620, 650);
 		
-		JLabel titleLbl = new JLabel("Island Info - " + island.getName());
+		titleLbl = new JLabel();
 		titleLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		titleLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
@@ -125,7 +155,7 @@ public class DisplayIslandInfoScreen extends Screen {
 		buyLbl.setHorizontalAlignment(SwingConstants.LEFT);
 		buyLbl.setFont(new Font("Tahoma", Font.BOLD, 12));
 		
-		JLabel storeLbl = new JLabel(island.getName() + " Store");
+		storeLbl = new JLabel();
 		storeLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		storeLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
@@ -137,31 +167,31 @@ public class DisplayIslandInfoScreen extends Screen {
 		
 		JScrollPane sellScrollPane = new JScrollPane();
 
-		String[] itemColumnText = {"Name", "Price", "Size", "Description"};
-		Object[][] sellArray = makeItemArray(island.getStore().getSells());
-		JTable sellTable = new JTable(sellArray, itemColumnText);
+		sellModel = new ItemTableModel();
+		sellTable = new JTable(sellModel);
 		sellTable.setFillsViewportHeight(true);
 		sellTable.setShowGrid(false);
 		sellTable.setEnabled(false);
+		TableFilter.sortable(sellTable);
 		sellScrollPane.setViewportView(sellTable);
 		
-		Object[][] buyArray = makeItemArray(island.getStore().getBuys());
-		JTable buyTable = new JTable(buyArray, itemColumnText);
+		buyModel = new ItemTableModel();
+		buyTable = new JTable(buyModel);
 		buyTable.setFillsViewportHeight(true);
 		buyTable.setShowGrid(false);
 		buyTable.setEnabled(false);
+		TableFilter.sortable(buyTable);
 		buyScrollPane.setViewportView(buyTable);
 
 		String[] routeColumnText = {"Island", "Days", "Pirate Danger", "Weather Danger", "Lost Sailors Chance"};
-		Object[][] routeArray = makeRouteArray(island.getRoutes());
-		JTable routeTable = new JTable(routeArray, routeColumnText);
+		routeTable = new JTable(new DefaultTableModel(routeColumnText, 0));
 		routeTable.setFillsViewportHeight(true);
 		routeTable.setShowGrid(false);
 		routeTable.setEnabled(false);
 		routeTable.setRowSelectionAllowed(false);
 		routeScrollPane.setViewportView(routeTable);
 		
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addComponent(titleLbl, GroupLayout.DEFAULT_SIZE, 606, Short.MAX_VALUE)
@@ -224,6 +254,6 @@ public class DisplayIslandInfoScreen extends Screen {
 						.addComponent(menuBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap())
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 }
@@ -1,6 +1,6 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
 import javax.swing.GroupLayout;
@@ -8,6 +8,7 @@ import javax.swing.GroupLayout.Alignment;
 import javax.swing.JLabel;
 import java.awt.Font;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.LayoutStyle.ComponentPlacement;
 import java.awt.Color;
 import javax.swing.JButton;
@@ -21,9 +22,9 @@ import javax.swing.JButton;
 public class EndGameScreen extends Screen {
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Reason for the game ending.
@@ -31,81 +32,131 @@ public class EndGameScreen extends Screen {
 	private String reason;
 	
 	/**
-	 * Stores the game instance and reason for the game ending then creates and sets up the frame.
+	 * Label displaying the reason for the game ending.
+	 */
+	private JLabel reasonLbl;
+	
+	/**
+	 * Label displaying the player's name.
+	 */
+	private JLabel nameLbl;
+	
+	/**
+	 * Label displaying the number of days the player chose.
+	 */
+	private JLabel selectedDaysLbl;
+	
+	/**
+	 * Label displaying the number of days the game lasted.
+	 */
+	private JLabel actualDaysLbl;
+	
+	/**
+	 * Label displaying the player's final gold.
+	 */
+	private JLabel goldLbl;
+	
+	/**
+	 * Label displaying the final value of the ship's cargo.
+	 */
+	private JLabel cargoLbl;
+	
+	/**
+	 * Label displaying the player's final score.
+	 */
+	private JLabel scoreLbl;
+	
+	/**
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
-	 * @param reason reason for game ending
 	 */
-	public EndGameScreen(GameEnvironment game, String reason) {
+	public EndGameScreen(GameEnvironment game) {
 		super(game);
-		this.reason = reason;
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		panel = new JPanel();
+		initialisePanel();
 	}
 
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
+	}
+	
+	/**
+	 * Sets the reason for the game ending shown next time the screen is shown.
+	 * @param reason reason for game ending
+	 */
+	void setReason(String reason) {
+		this.reason = reason;
+	}
+	
+	@Override
+	void refresh() {
+		reasonLbl.setText(reason);
+		nameLbl.setText("Trader name: " + getGame().getName());
+		selectedDaysLbl.setText("Selected game duration: "+ getGame().getTotalDays());
+		actualDaysLbl.setText("Actual game duration: " + (getGame().getTotalDays() - getGame().getDaysLeft()));
+		goldLbl.setText("Final gold: " + getGame().getGold());
+		cargoLbl.setText("Final cargo value: " + getGame().getShip().getCargoValue());
+		scoreLbl.setText("Final score: " + getGame().calcScore());
 	}
 	
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	void initialiseFrame() {
-		frame.setBounds(100, 100, 700, 500);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	void initialisePanel() {
+		setFrameSize(700, 500);
 		
 		JLabel lblNewLabel = new JLabel("Game Over");
 		lblNewLabel.setHorizontalAlignment(SwingConstants.CENTER);
 		lblNewLabel.setFont(new Font("Tahoma", Font.BOLD, 30));
 		
-		JLabel lblNewLabel_1 = new JLabel(reason);
-		lblNewLabel_1.setHorizontalAlignment(SwingConstants.CENTER);
-		lblNewLabel_1.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		reasonLbl = new JLabel();
+		reasonLbl.setHorizontalAlignment(SwingConstants.CENTER);
+		reasonLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		
-		JLabel lblNewLabel_2 = new JLabel("Trader name: " + getGame().getName());
-		lblNewLabel_2.setFont(new Font("Tahoma", Font.PLAIN, 17));
-		lblNewLabel_2.setHorizontalAlignment(SwingConstants.CENTER);
+		nameLbl = new JLabel();
+		nameLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
+		nameLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		
-		JLabel lblNewLabel_2_1 = new JLabel("Selected game duration: "+ getGame().getTotalDays());
-		lblNewLabel_2_1.setHorizontalAlignment(SwingConstants.CENTER);
-		lblNewLabel_2_1.setFont(new Font("Tahoma", Font.PLAIN, 17));
+		selectedDaysLbl = new JLabel();
+		selectedDaysLbl.setHorizontalAlignment(SwingConstants.CENTER);
+		selectedDaysLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
-		JLabel lblNewLabel_2_1_1 = new JLabel("Actual game duration: " + (getGame().getTotalDays() - getGame().getDaysLeft()));
-		lblNewLabel_2_1_1.setHorizontalAlignment(SwingConstants.CENTER);
-		lblNewLabel_2_1_1.setFont(new Font("Tahoma", Font.PLAIN, 17));
+		actualDaysLbl = new JLabel();
+		actualDaysLbl.setHorizontalAlignment(SwingConstants.CENTER);
+		actualDaysLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
-		JLabel lblNewLabel_2_1_1_1 = new JLabel("Final gold: " + getGame().getGold());
-		lblNewLabel_2_1_1_1.setHorizontalAlignment(SwingConstants.CENTER);
-		lblNewLabel_2_1_1_1.setFont(new Font("Tahoma", Font.PLAIN, 17));
+		goldLbl = new JLabel();
+		goldLbl.setHorizontalAlignment(SwingConstants.CENTER);
+		goldLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
-		JLabel lblNewLabel_2_1_1_1_1 = new JLabel("Final cargo value: " + getGame().getShip().getCargoValue());
-		lblNewLabel_2_1_1_1_1.setHorizontalAlignment(SwingConstants.CENTER);
-		lblNewLabel_2_1_1_1_1.setFont(new Font("Tahoma", Font.PLAIN, 17));
+		cargoLbl = new JLabel();
+		cargoLbl.setHorizontalAlignment(SwingConstants.CENTER);
+		cargoLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
-		JLabel lblNewLabel_2_1_1_1_1_1 = new JLabel("Final score: " + getGame().calcScore());
-		lblNewLabel_2_1_1_1_1_1.setHorizontalAlignment(SwingConstants.CENTER);
-		lblNewLabel_2_1_1_1_1_1.setFont(new Font("Tahoma", Font.BOLD, 17));
+		scoreLbl = new JLabel();
+		scoreLbl.setHorizontalAlignment(SwingConstants.CENTER);
+		scoreLbl.setFont(new Font("Tahoma", Font.BOLD, 17));
 		
 		JButton btnExit = new JButton("Exit");
-		btnExit.addActionListener(e -> this.quit());
+		btnExit.addActionListener(e -> SwingUtilities.getWindowAncestor(panel).dispose());
 		btnExit.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		btnExit.setFocusable(false);
 		btnExit.setBackground(Color.LIGHT_GRAY);
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addGroup(groupLayout.createSequentialGroup()
 					.addContainerGap()
 					.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
-						.addComponent(lblNewLabel_2, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
-						.addComponent(lblNewLabel_1, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(nameLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(reasonLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
 						.addComponent(lblNewLabel, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
-						.addComponent(lblNewLabel_2_1, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
-						.addComponent(lblNewLabel_2_1_1, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
-						.addComponent(lblNewLabel_2_1_1_1, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
-						.addComponent(lblNewLabel_2_1_1_1_1, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
-						.addComponent(lblNewLabel_2_1_1_1_1_1, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(selectedDaysLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(actualDaysLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(goldLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(cargoLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
+						.addComponent(scoreLbl, GroupLayout.DEFAULT_SIZE, 666, Short.MAX_VALUE)
 						.addComponent(btnExit, Alignment.TRAILING, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap())
 		);
@@ -115,24 +166,24 @@ public class EndGameScreen extends Screen {
 					.addContainerGap()
 					.addComponent(lblNewLabel, GroupLayout.PREFERRED_SIZE, 50, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(lblNewLabel_1)
+					.addComponent(reasonLbl)
 					.addGap(79)
-					.addComponent(lblNewLabel_2)
+					.addComponent(nameLbl)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(lblNewLabel_2_1, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
+					.addComponent(selectedDaysLbl, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(lblNewLabel_2_1_1, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
+					.addComponent(actualDaysLbl, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(lblNewLabel_2_1_1_1, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
+					.addComponent(goldLbl, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(lblNewLabel_2_1_1_1_1, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
+					.addComponent(cargoLbl, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(lblNewLabel_2_1_1_1_1_1, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
+					.addComponent(scoreLbl, GroupLayout.PREFERRED_SIZE, 21, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED, 106, Short.MAX_VALUE)
 					.addComponent(btnExit, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 					.addContainerGap())
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 		
 	}
 }
@@ -1,27 +1,75 @@
 package ui.gui;
 
+import java.awt.CardLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+import javax.swing.JFrame;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
 import core.GameEnvironment;
 import core.Island;
 import core.Route;
+import core.SaveGame;
 import ui.GameUI;
 
 /**
  * Implements the game's user interface with graphics.
+ * The GUI has one window that shows each screen as a card. Screens are built the first time they're needed
+ * and kept, and are refreshed from the game's state each time they're shown again.
+ * Commands that change the game are run on the game's own thread by an executor, so the window never waits on them.
+ * The game is only ever changed on that thread, and the screens are only ever shown on the Event Dispatch Thread.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
 public class GUI implements GameUI {
 	
+	/**
+	 * Title for the window's title bar.
+	 */
+	private static final String TITLE = "Island Trader";
+	
+	/**
+	 * Reason the game ends when the player can't travel any route.
+	 */
+	private static final String NO_ROUTES = "No More Routes Can Be Travelled";
+	
 	/**
 	 * Instance of the game.
 	 */
 	private GameEnvironment game;
 	
 	/**
-	 * Current screen of the GUI.
+	 * Window every screen is shown in.
 	 */
-    private Screen screen;
-    
+	private JFrame frame;
+	
+	/**
+	 * Panel holding every screen's panel as a card.
+	 */
+	private JPanel cards;
+	
+	/**
+	 * Layout that switches between the screens' cards.
+	 */
+	private CardLayout cardLayout;
+	
+	/**
+	 * Executor the game's commands are run on.
+	 */
+	private GameExecutor executor;
+	
+	/**
+	 * Screens built so far, by their class.
+	 */
+	private final HashMap<Class<? extends Screen>, Screen> screens = new HashMap<Class<? extends Screen>, Screen>();
+	
     /**
      * Each type of random event.
      */
@@ -34,111 +82,209 @@ public class GUI implements GameUI {
 	@Override
 	public void start(GameEnvironment game) {
 		this.game = game;
-        screen = new StartScreen(game);
-        screen.show();
+		createFrame();
+		show(getScreen(StartScreen.class, () -> new StartScreen(game, executor)));
+	}
+
+	@Override
+	public void resume(GameEnvironment game) {
+		this.game = game;
+		createFrame();
+		menu();
 	}
 
+	/**
+	 * Shows the menu if the player can still travel a route, otherwise ends the game.
+	 * Whether they can is checked on the game's thread. Setting up a game on that thread, or resuming one on the
+	 * main thread, shows the menu once the Event Dispatch Thread can.
+	 */
 	@Override
 	public void menu() {
-		if (!game.isGameOver()) {
-			screen.quit();		
-			if (game.checkCanTravel()) {
-				screen = new MenuScreen(game);
-				screen.show();
-			}
-			else {
-				endGame("No More Routes Can Be Travelled");
-			}
+		if (!SwingUtilities.isEventDispatchThread()) {
+			executor.afterWork(this::menu);
+		} else if (!game.isGameOver()) {
+			executor.submit(() -> {
+				boolean canTravel = game.checkCanTravel();
+				if (!canTravel) {
+					game.endGame(NO_ROUTES);
+				}
+				return canTravel;
+			}, canTravel -> {
+				if (canTravel) {
+					show(getScreen(MenuScreen.class, () -> new MenuScreen(game)));
+				}
+			});
 		}
 	}
 	
 	@Override
 	public void shipInfo() {
-		screen.quit();
-		screen = new ShipInfoScreen(game);
-		screen.show();
+		show(getScreen(ShipInfoScreen.class, () -> new ShipInfoScreen(game, executor)));
 	}
 
 	@Override
 	public void goods() {
-		screen.quit();
-		screen = new GoodsScreen(game);
-		screen.show();
+		show(getScreen(GoodsScreen.class, () -> new GoodsScreen(game, executor)));
 	}
 
 	@Override
 	public void islandInfo() {
-		screen.quit();
-		screen = new IslandInfoScreen(game);
-		screen.show();
-
+		show(getScreen(IslandInfoScreen.class, () -> new IslandInfoScreen(game)));
 	}
 	
 	@Override
 	public void displayIslandInfo(Island island) {
-		screen.quit();
-		screen = new DisplayIslandInfoScreen(game, island);
-		screen.show();
-
+		DisplayIslandInfoScreen islandScreen = getScreen(DisplayIslandInfoScreen.class,
+				() -> new DisplayIslandInfoScreen(game));
+		islandScreen.setIsland(island);
+		show(islandScreen);
 	}
 
 	@Override
 	public void store() {
-		screen.quit();
-		screen = new StoreScreen(game);
-		screen.show();
+		show(getScreen(StoreScreen.class, () -> new StoreScreen(game, executor)));
 	}
 
 	@Override
 	public void repair() {
-		screen.quit();
-		screen = new RepairScreen(game);
-		screen.show();
+		show(getScreen(RepairScreen.class, () -> new RepairScreen(game, executor)));
 	}
 
 	@Override
 	public void travel() {
-		screen.quit();
-		screen = new TravelScreen(game);
-		screen.show();
+		show(getScreen(TravelScreen.class, () -> new TravelScreen(game, executor)));
 	}
 
 	public void pirateEncounter(Route route) {
-		screen.quit();
-		screen = new PirateBattleScreen(this ,game, route);
-		screen.show();
+		PirateBattleScreen battleScreen = getScreen(PirateBattleScreen.class,
+				() -> new PirateBattleScreen(this, game, executor));
+		executor.submit(game::generatePirateShip, pirateShip -> {
+			battleScreen.startBattle(route, pirateShip);
+			show(battleScreen);
+		});
 	}
 	
+	/**
+	 * Shows the outcome of a pirate battle. If the player lost, the pirates take their cargo on the game's thread,
+	 * and their gold too if they aren't satisfied with it.
+	 * @param route route being traveled along
+	 * @param damage damage the player's ship took in the battle
+	 */
 	public void pirateResolutionScreen(Route route, int damage) {
-		screen.quit();
-		screen = new RandomEventScreen(game, route, damage, RandomEvent.PIRATES);
-		screen.show();
-
+		executor.submit(() -> {
+			boolean unsatisfied = game.getShip().getHealth() <= 0 && !game.pirateLossOutcome();
+			if (unsatisfied) {
+				game.loseGold();
+			}
+			return unsatisfied;
+		}, unsatisfied -> showRandomEvent(route, damage, RandomEvent.PIRATES, unsatisfied));
 	}
 
 	@Override
 	public void weatherEncounter(Route route) {
-		screen.quit();
-		int damage = game.weatherEvent();
-		screen = new RandomEventScreen(game, route, damage, RandomEvent.WEATHER);
-		screen.show();
-
+		executor.submit(game::weatherEvent, damage -> showRandomEvent(route, damage, RandomEvent.WEATHER, false));
 	}
 	
 	@Override
 	public void sailorEncounter(Route route) {
-		screen.quit();
-		int reward = game.sailorEvent();
-		screen = new RandomEventScreen(game, route, reward, RandomEvent.SAILORS);
-		screen.show();
+		executor.submit(game::sailorEvent, reward -> showRandomEvent(route, reward, RandomEvent.SAILORS, false));
 	}
 
+	/**
+	 * Shows the end screen once the command that ended the game is done.
+	 */
 	@Override
 	public void endGame(String reason) {
-		game.setGameOver();
-		screen.quit();
-		screen = new EndGameScreen(game, reason);
-		screen.show();
-		
+		executor.afterWork(() -> {
+			EndGameScreen endScreen = getScreen(EndGameScreen.class, () -> new EndGameScreen(game));
+			endScreen.setReason(reason);
+			show(endScreen);
+		});
+	}
+	
+	/**
+	 * Shows the outcome of a random event.
+	 * @param route route being traveled along
+	 * @param resultValue result value of the event
+	 * @param event random event occurring
+	 * @param piratesUnsatisfied true if the player lost to pirates who weren't satisfied with their cargo
+	 */
+	private void showRandomEvent(Route route, int resultValue, RandomEvent event, boolean piratesUnsatisfied) {
+		RandomEventScreen eventScreen = getScreen(RandomEventScreen.class, () -> new RandomEventScreen(game, executor));
+		eventScreen.setEvent(route, resultValue, event, piratesUnsatisfied);
+		show(eventScreen);
+	}
+	
+	/**
+	 * Creates the window, the panel the screens are shown in, and the executor the game's commands are run on.
+	 * Closing the window saves a game in progress to the default save file before ending it. The game is saved
+	 * and ended on the game's thread, once any command still running has finished, and if it can't be saved the
+	 * reason is shown before the window closes.
+	 */
+	private void createFrame() {
+		frame = new JFrame(TITLE);
+		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		cardLayout = new CardLayout();
+		cards = new JPanel(cardLayout);
+		frame.setContentPane(cards);
+		executor = new GameExecutor(game, frame);
+		frame.addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosing(WindowEvent e) {
+				IOException failure = executor.runAndWait(() -> {
+					IOException saveFailure = null;
+					if (game.getName() != null && !game.isGameOver()) {
+						try {
+							SaveGame.save(game, new File(SaveGame.DEFAULT_FILE));
+						} catch (IOException exception) {
+							saveFailure = exception;
+						}
+					}
+					if (!game.isGameOver()) {
+						game.endGame("Game Closed");
+					}
+					return saveFailure;
+				});
+				// The window only closes once the player has dismissed the message
+				if (failure != null) {
+					JOptionPane.showMessageDialog(frame, GameUI.SAVE_FAIL + failure.getMessage(), TITLE,
+							JOptionPane.ERROR_MESSAGE);
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Returns the screen of the given class, building it and adding it as a card the first time it's needed.
+	 * @param <T> type of screen
+	 * @param type class of the screen
+	 * @param factory builds the screen if it hasn't been built yet
+	 * @return screen of the class
+	 */
+	private <T extends Screen> T getScreen(Class<T> type, Supplier<T> factory) {
+		Screen cached = screens.get(type);
+		if (cached == null) {
+			cached = factory.get();
+			screens.put(type, cached);
+			cards.add(cached.getPanel(), type.getName());
+		}
+		return type.cast(cached);
+	}
+	
+	/**
+	 * Refreshes a screen from the game's state and shows it in the window, resizing the window to the screen's size.
+	 * The window is centred the first time it's shown.
+	 * @param screen screen to show
+	 */
+	private void show(Screen screen) {
+		screen.refresh();
+		cardLayout.show(cards, screen.getClass().getName());
+		if (!frame.getSize().equals(screen.getFrameSize())) {
+			frame.setSize(screen.getFrameSize());
+		}
+		if (!frame.isVisible()) {
+			frame.setLocationRelativeTo(null);
+			frame.setVisible(true);
+		}
 	}
 }
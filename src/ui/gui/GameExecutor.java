@@ -0,0 +1,409 @@
+package ui.gui;
+
+import java.awt.Cursor;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.KeyboardFocusManager;
+import java.awt.event.MouseAdapter;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JLayer;
+import javax.swing.SwingUtilities;
+import javax.swing.plaf.LayerUI;
+
+import core.GameEnvironment;
+import core.GameListener;
+import core.Island;
+import core.Store;
+
+/**
+ * Runs the game's logic on its own thread, so the window stays responsive however long a command takes.
+ * Screens submit commands, and each command's result is handed back on the Event Dispatch Thread once it's done.
+ * Only one command runs at a time, and while it does the window ignores clicks and keys, so the game is only ever
+ * changed by one thread and the player can't act on a screen that's out of date.
+ * Changes the game publishes while a command runs are held back and passed on to the screens' listeners on the
+ * Event Dispatch Thread just before the command's result, so the screens only read the game once it's done.
+ * Tables that read the game whenever they're painted are frozen while a command runs, showing how they looked
+ * when it started.
+ * The game must only be changed on its own thread, so a change published on any other thread is an error.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+final class GameExecutor {
+	
+	/**
+	 * Name of the thread the game's logic runs on.
+	 */
+	private static final String THREAD_NAME = "Game Logic";
+	
+	/**
+	 * Thread the game's logic runs on. It's a daemon, so it doesn't keep the program running once the window closes.
+	 */
+	private final ExecutorService thread = Executors.newSingleThreadExecutor(command -> {
+		Thread logicThread = new Thread(command, THREAD_NAME);
+		logicThread.setDaemon(true);
+		gameThread = logicThread;
+		return logicThread;
+	});
+	
+	/**
+	 * Thread the game's logic runs on, or null until the first command or query is run.
+	 */
+	private volatile Thread gameThread;
+	
+	/**
+	 * Listeners told about the game's changes on the Event Dispatch Thread.
+	 */
+	private final ArrayList<GameListener> listeners = new ArrayList<GameListener>();
+	
+	/**
+	 * Changes to pass on on the Event Dispatch Thread once the work running on the game's thread is done.
+	 * Only used on the game's thread.
+	 */
+	private ArrayList<Runnable> pendingChanges = new ArrayList<Runnable>();
+	
+	/**
+	 * Actions to run on the Event Dispatch Thread once the work running on the game's thread is done and its changes
+	 * have been passed on. Only used on the game's thread.
+	 */
+	private ArrayList<Runnable> pendingActions = new ArrayList<Runnable>();
+	
+	/**
+	 * Views frozen while a command runs. Only used on the Event Dispatch Thread.
+	 */
+	private final ArrayList<JLayer<JComponent>> frozenViews = new ArrayList<JLayer<JComponent>>();
+	
+	/**
+	 * Window that ignores clicks and keys while a command runs, or null if there's no window.
+	 */
+	private final JFrame frame;
+	
+	/**
+	 * Whether a command is running. Only used on the Event Dispatch Thread.
+	 */
+	private boolean busy;
+	
+	/**
+	 * Creates an executor for the given game and starts listening to its changes.
+	 * @param game game the commands are run on
+	 * @param frame window that ignores clicks and keys while a command runs, or null if there's no window
+	 */
+	GameExecutor(GameEnvironment game, JFrame frame) {
+		this.frame = frame;
+		if (frame != null) {
+			// A visible glass pane with mouse listeners takes every click and scroll meant for the screen beneath it
+			MouseAdapter blocker = new MouseAdapter() {};
+			frame.getGlassPane().addMouseListener(blocker);
+			frame.getGlassPane().addMouseWheelListener(blocker);
+			frame.getGlassPane().setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+			KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(
+					event -> busy && SwingUtilities.getRoot(event.getComponent()) == frame);
+		}
+		game.addListener(new Relay());
+	}
+	
+	/**
+	 * Adds a listener to be told about the game's changes on the Event Dispatch Thread.
+	 * @param listener listener to add
+	 */
+	void addListener(GameListener listener) {
+		listeners.add(listener);
+	}
+	
+	/**
+	 * Wraps a view that reads the game whenever it's painted, such as a table's scroll pane, so that while a command
+	 * runs it shows how it looked when the command started instead of reading the game as it changes.
+	 * @param view view to wrap
+	 * @return wrapped view, to add to the screen in its place
+	 */
+	JComponent freezeWhileBusy(JComponent view) {
+		JLayer<JComponent> layer = new JLayer<JComponent>(view, new FrozenView());
+		frozenViews.add(layer);
+		return layer;
+	}
+	
+	/**
+	 * Returns true if a command is running.
+	 * @return true if busy
+	 */
+	boolean isBusy() {
+		return busy;
+	}
+	
+	/**
+	 * Runs a command on the game's thread, then hands its result to the given action on the Event Dispatch Thread.
+	 * The command is ignored if another one is still running.
+	 * @param <T> type of the command's result
+	 * @param command command to run
+	 * @param done action to call with the command's result
+	 */
+	<T> void submit(Supplier<T> command, Consumer<T> done) {
+		if (!busy) {
+			setBusy(true);
+			run(command, done, true);
+		}
+	}
+	
+	/**
+	 * Runs a command with no result on the game's thread, then calls the given action on the Event Dispatch Thread.
+	 * The command is ignored if another one is still running.
+	 * @param command command to run
+	 * @param done action to call once the command is done
+	 */
+	void submit(Runnable command, Runnable done) {
+		submit(() -> {
+			command.run();
+			return null;
+		}, result -> done.run());
+	}
+	
+	/**
+	 * Works something out from the game's state on the game's thread, then hands it to the given action on the Event
+	 * Dispatch Thread. Unlike a command the window still takes clicks while it runs, so it mustn't change the game.
+	 * @param <T> type of the result
+	 * @param query work to do
+	 * @param done action to call with the result
+	 */
+	<T> void query(Supplier<T> query, Consumer<T> done) {
+		run(query, done, false);
+	}
+	
+	/**
+	 * Runs an action on the Event Dispatch Thread once the work running on the game's thread is done and its changes
+	 * have been passed on, just before the work's result is handed back. Called from any other thread, the action is run on the Event Dispatch Thread
+	 * straight away or as soon as it can be.
+	 * @param action action to run
+	 */
+	void afterWork(Runnable action) {
+		if (Thread.currentThread() == gameThread) {
+			pendingActions.add(action);
+		} else if (SwingUtilities.isEventDispatchThread()) {
+			action.run();
+		} else {
+			SwingUtilities.invokeLater(action);
+		}
+	}
+	
+	/**
+	 * Runs a command on the game's thread and waits for it to finish, for when the window is about to close.
+	 * The changes it makes aren't passed on, since the screens won't be shown again.
+	 * @param <T> type of the command's result
+	 * @param command command to run
+	 * @return command's result, or null if interrupted while waiting
+	 */
+	<T> T runAndWait(Supplier<T> command) {
+		try {
+			return thread.submit(() -> {
+				T result = command.get();
+				pendingChanges.clear();
+				pendingActions.clear();
+				return result;
+			}).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	/**
+	 * Runs work on the game's thread, then passes on the changes it made and hands its result to the given action
+	 * on the Event Dispatch Thread. If the work fails the exception is thrown on the Event Dispatch Thread instead.
+	 * @param <T> type of the result
+	 * @param work work to do
+	 * @param done action to call with the result
+	 * @param command true if the work is a command, which ends the executor being busy
+	 */
+	private <T> void run(Supplier<T> work, Consumer<T> done, boolean command) {
+		thread.execute(() -> {
+			T result = null;
+			RuntimeException failure = null;
+			try {
+				result = work.get();
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+			ArrayList<Runnable> changes = pendingChanges;
+			ArrayList<Runnable> actions = pendingActions;
+			pendingChanges = new ArrayList<Runnable>();
+			pendingActions = new ArrayList<Runnable>();
+			T finalResult = result;
+			RuntimeException finalFailure = failure;
+			SwingUtilities.invokeLater(() -> {
+				for (Runnable change : changes) {
+					change.run();
+				}
+				// The executor stops being busy once every change is passed on, so the actions can submit commands of
+				// their own without the screens reading the game while those commands run
+				if (command) {
+					setBusy(false);
+				}
+				for (Runnable action : actions) {
+					action.run();
+				}
+				if (finalFailure != null) {
+					throw finalFailure;
+				}
+				done.accept(finalResult);
+			});
+		});
+	}
+	
+	/**
+	 * Shows or hides the glass pane that makes the window ignore clicks while a command runs, and freezes or thaws
+	 * the views that read the game.
+	 * @param busy whether a command is running
+	 */
+	private void setBusy(boolean busy) {
+		this.busy = busy;
+		if (frame != null) {
+			frame.getGlassPane().setVisible(busy);
+		}
+		for (JLayer<JComponent> layer : frozenViews) {
+			FrozenView view = (FrozenView) layer.getUI();
+			if (busy) {
+				view.freeze(layer);
+			} else {
+				view.thaw(layer);
+			}
+		}
+	}
+	
+	/**
+	 * Passes a change on to every listener.
+	 * @param change change to pass on
+	 */
+	private void publish(Consumer<GameListener> change) {
+		for (GameListener listener : listeners) {
+			change.accept(listener);
+		}
+	}
+	
+	/**
+	 * Holds a change back until the work that made it is done.
+	 * @param change change to pass on
+	 * @throws IllegalStateException if the change wasn't made on the game's thread
+	 */
+	private void changed(Consumer<GameListener> change) {
+		if (Thread.currentThread() != gameThread) {
+			throw new IllegalStateException("The game was changed on " + Thread.currentThread().getName()
+					+ " instead of " + THREAD_NAME);
+		}
+		pendingChanges.add(() -> publish(change));
+	}
+	
+	/**
+	 * Paints a view normally, or while it's frozen, as a picture of how it looked when it was frozen.
+	 */
+	private static class FrozenView extends LayerUI<JComponent> {
+		
+		/**
+		 * Serial version UID.
+		 */
+		private static final long serialVersionUID = -6841725309942418517L;
+		
+		/**
+		 * Whether the view is frozen.
+		 */
+		private boolean frozen;
+		
+		/**
+		 * Picture of the view when it was frozen, or null if it had no size.
+		 */
+		private BufferedImage picture;
+		
+		/**
+		 * Takes a picture of the view and paints that until it's thawed.
+		 * @param layer layer holding the view
+		 */
+		void freeze(JLayer<JComponent> layer) {
+			picture = null;
+			if (layer.getWidth() > 0 && layer.getHeight() > 0) {
+				picture = new BufferedImage(layer.getWidth(), layer.getHeight(), BufferedImage.TYPE_INT_ARGB);
+				Graphics2D graphics = picture.createGraphics();
+				layer.paint(graphics);
+				graphics.dispose();
+			}
+			frozen = true;
+		}
+		
+		/**
+		 * Goes back to painting the view normally.
+		 * @param layer layer holding the view
+		 */
+		void thaw(JLayer<JComponent> layer) {
+			frozen = false;
+			picture = null;
+			layer.repaint();
+		}
+		
+		@Override
+		public void paint(Graphics graphics, JComponent layer) {
+			if (!frozen) {
+				super.paint(graphics, layer);
+			} else if (picture != null) {
+				graphics.drawImage(picture, 0, 0, null);
+			}
+		}
+	}
+	
+	/**
+	 * Listener on the game that relays each change to the executor's listeners.
+	 */
+	private class Relay implements GameListener {
+		
+		@Override
+		public void goldChanged(int gold) {
+			changed(listener -> listener.goldChanged(gold));
+		}
+		
+		@Override
+		public void islandChanged(Island island, int daysLeft) {
+			changed(listener -> listener.islandChanged(island, daysLeft));
+		}
+		
+		@Override
+		public void cargoAdded(String name, int index, int quantity) {
+			changed(listener -> listener.cargoAdded(name, index, quantity));
+		}
+		
+		@Override
+		public void cargoRemoved(String name, int index, int quantity) {
+			changed(listener -> listener.cargoRemoved(name, index, quantity));
+		}
+		
+		@Override
+		public void cargoCleared() {
+			changed(listener -> listener.cargoCleared());
+		}
+		
+		@Override
+		public void healthChanged(int health) {
+			changed(listener -> listener.healthChanged(health));
+		}
+		
+		@Override
+		public void pricesChanged(Store store) {
+			changed(listener -> listener.pricesChanged(store));
+		}
+		
+		@Override
+		public void goodsAdded(int lot) {
+			changed(listener -> listener.goodsAdded(lot));
+		}
+		
+		@Override
+		public void goodsChanged(int lot) {
+			changed(listener -> listener.goodsChanged(lot));
+		}
+	}
+}
@@ -1,85 +1,69 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
-import core.Item;
+import core.GameListener;
+import core.TradeLedger;
 
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Alignment;
 import javax.swing.JScrollPane;
+import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.LayoutStyle.ComponentPlacement;
 import java.awt.Font;
-import java.util.ArrayList;
 
 import javax.swing.SwingConstants;
 import javax.swing.JTable;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.JTextField;
+import javax.swing.table.AbstractTableModel;
 import javax.swing.JButton;
 import java.awt.Color;
 
 /**
  * Displays all the goods the user has ever bought, how much they were bought and sold for,
- * and where they were sold.
+ * and where they were sold. The table can be sorted, and filtered by name.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
 public class GoodsScreen extends Screen {
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Table with all the goods the user has purchased.
 	 */
 	private JTable goodsTable;
+	
 
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor that tells the goods table about the game's changes
 	 */
-	public GoodsScreen(GameEnvironment game) {
+	GoodsScreen(GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		panel = new JPanel();
+		initialisePanel(executor);
 	}
 	
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
 	}
 	
 	/**
-	 * Returns 2D array from items where each row has a name, price, size, and description.
-	 * @param goods 
-	 * @return 2D array of item info
-	 */
-	private Object[][] makeGoodArray(ArrayList<Item> goods) {
-		Object goodArray[][] = new Object[goods.size()][];
-		int i = 0;
-		for (Item good : goods) {
-			Object goodRow[] = {good.getName(), good.getPrice(), good.getSoldFor(), good.getSoldAt()};
-			// Sets sold price to null if not sold
-			if (good.getSoldFor() == -1) {
-				goodRow[2] = null;
-			}
-			goodArray[i] = goodRow;
-			i++;
-		}
-		return goodArray;
-	}
-
-	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
+	 * @param executor executor that tells the goods table about the game's changes
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 700, 500);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel(GameExecutor executor) {
+		setFrameSize(700, 500);
 		JScrollPane goodsScrollPane = new JScrollPane();
+		JComponent goodsView = executor.freezeWhileBusy(goodsScrollPane);
 		
 		JLabel goodsLabel = new JLabel("Goods");
 		goodsLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -91,15 +75,26 @@ public class GoodsScreen extends Screen {
 		backBtn.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		backBtn.setFocusable(false);
 		backBtn.setBackground(Color.LIGHT_GRAY);
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		
+		JLabel filterLbl = new JLabel("Search:");
+		filterLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		
+		JTextField filterField = new JTextField();
+		filterField.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addGroup(groupLayout.createSequentialGroup()
 					.addContainerGap()
 					.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
-						.addComponent(goodsScrollPane, GroupLayout.DEFAULT_SIZE, 664, Short.MAX_VALUE)
+						.addComponent(goodsView, GroupLayout.DEFAULT_SIZE, 664, Short.MAX_VALUE)
 						.addComponent(goodsLabel, GroupLayout.DEFAULT_SIZE, 664, Short.MAX_VALUE)
-						.addComponent(backBtn, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE))
+						.addGroup(groupLayout.createSequentialGroup()
+							.addComponent(backBtn, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE)
+							.addPreferredGap(ComponentPlacement.RELATED, 26, Short.MAX_VALUE)
+							.addComponent(filterLbl)
+							.addPreferredGap(ComponentPlacement.RELATED)
+							.addComponent(filterField, GroupLayout.PREFERRED_SIZE, 180, GroupLayout.PREFERRED_SIZE)))
 					.addContainerGap())
 		);
 		groupLayout.setVerticalGroup(
@@ -108,25 +103,108 @@ public class GoodsScreen extends Screen {
 					.addContainerGap()
 					.addComponent(goodsLabel)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(goodsScrollPane, GroupLayout.DEFAULT_SIZE, 379, Short.MAX_VALUE)
+					.addComponent(goodsView, GroupLayout.DEFAULT_SIZE, 379, Short.MAX_VALUE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(backBtn)
+					.addGroup(groupLayout.createParallelGroup(Alignment.BASELINE)
+						.addComponent(backBtn)
+						.addComponent(filterLbl)
+						.addComponent(filterField, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap())
 		);
 		
 		goodsTable = new JTable();
 		goodsTable.setRowSelectionAllowed(false);
 		
-		String[] columnText = {"Name", "Bought for", "Sold for", "Sold at"};
-		Object[][] goodArray = makeGoodArray(getGame().getGoods());
-		goodsTable.setModel(new DefaultTableModel(goodArray, columnText) {
-			private static final long serialVersionUID = -156423262431076534L;
-
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		});
+		GoodsTableModel goodsModel = new GoodsTableModel(getGame().getGoods());
+		executor.addListener(goodsModel);
+		goodsTable.setModel(goodsModel);
+		TableFilter.install(filterField, goodsTable);
 		goodsScrollPane.setViewportView(goodsTable);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
+	}
+	
+	/**
+	 * Table model that reads each cell straight from the goods ledger, so only the rows on screen are looked at
+	 * however long the ledger gets. It listens to the game, so the table is only told about the lots that are added
+	 * or sold. The ledger is only read on the Event Dispatch Thread while no command runs, since the table is
+	 * frozen while one does.
+	 */
+	private static class GoodsTableModel extends AbstractTableModel implements GameListener {
+		
+		private static final long serialVersionUID = -156423262431076534L;
+		
+		/**
+		 * Names of the table's columns.
+		 */
+		private static final String[] COLUMN_NAMES = {"Name", "Quantity", "Bought for", "Sold for", "Sold at"};
+		
+		/**
+		 * Type of the values in each column, so numbers are sorted as numbers.
+		 */
+		private static final Class<?>[] COLUMN_CLASSES = {String.class, Integer.class, Integer.class, Integer.class,
+				String.class};
+		
+		/**
+		 * Ledger of the goods the player has bought.
+		 */
+		private final TradeLedger goods;
+		
+		/**
+		 * Number of lots the table has been told about, which the ledger may have more of if they were added
+		 * by a command whose changes the table is still being told about.
+		 */
+		private int shownRows;
+		
+		/**
+		 * Creates a table model for the given ledger.
+		 * @param goods ledger of the goods the player has bought
+		 */
+		GoodsTableModel(TradeLedger goods) {
+			this.goods = goods;
+			shownRows = goods.size();
+		}
+		
+		@Override
+		public void goodsAdded(int lot) {
+			shownRows = lot + 1;
+			fireTableRowsInserted(lot, lot);
+		}
+		
+		@Override
+		public void goodsChanged(int lot) {
+			fireTableRowsUpdated(lot, lot);
+		}
+		
+		@Override
+		public int getRowCount() {
+			return shownRows;
+		}
+		
+		@Override
+		public int getColumnCount() {
+			return COLUMN_NAMES.length;
+		}
+		
+		@Override
+		public String getColumnName(int column) {
+			return COLUMN_NAMES[column];
+		}
+		
+		@Override
+		public Class<?> getColumnClass(int column) {
+			return COLUMN_CLASSES[column];
+		}
+		
+		@Override
+		public Object getValueAt(int row, int column) {
+			switch (column) {
+				case 0: return goods.getItemName(row);
+				case 1: return goods.getQuantity(row);
+				case 2: return goods.getBuyPrice(row);
+				// Sold price and location are left empty if not sold
+				case 3: return goods.isSold(row) ? goods.getSellPrice(row) : null;
+				default: return goods.getSellIsland(row);
+			}
+		}
 	}
 }
@@ -1,6 +1,6 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
 import core.Island;
@@ -26,9 +26,9 @@ import javax.swing.DefaultComboBoxModel;
 public class IslandInfoScreen extends Screen {
 
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Combo box with all the game's islands.
@@ -41,40 +41,71 @@ public class IslandInfoScreen extends Screen {
 	private ArrayList<Island> islands = getGame().getIslands();
 	
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Names shown in the combo box.
+	 */
+	private DefaultComboBoxModel<String> islandModel;
+	
+	/**
+	 * Index of the island marked as the current island in the combo box, or -1 if none is.
+	 */
+	private int markedIndex = -1;
+	
+	/**
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
 	 */
 	protected IslandInfoScreen(GameEnvironment game) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		panel = new JPanel();
+		initialisePanel();
 	}
 	
 	/**
 	 * Gets the chosen island from the combo box and displays the island's info on another screen.
 	 */
 	private void confirm() {
-		String islandName = comboBoxIslands.getSelectedItem().toString();
-		for (Island island: islands) {
-			if (island.getName() == islandName || (island.getName() + " (Current Island)").equals(islandName)) {
-				getGame().getUI().displayIslandInfo(island);
-				break;
-			}		
-		}
+		// The combo box lists the islands in the same order as the game does
+		getGame().getUI().displayIslandInfo(islands.get(comboBoxIslands.getSelectedIndex()));
 	}
 	
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
+	}
+	
+	/**
+	 * Marks the current island in the combo box, only changing the names of the islands that
+	 * were and now are the current island.
+	 */
+	@Override
+	void refresh() {
+		int current = islands.indexOf(getGame().getIsland());
+		if (current != markedIndex) {
+			int selected = comboBoxIslands.getSelectedIndex();
+			if (markedIndex >= 0) {
+				setIslandName(markedIndex, islands.get(markedIndex).getName());
+			}
+			setIslandName(current, getGame().getIsland().getName() + " (Current Island)");
+			markedIndex = current;
+			comboBoxIslands.setSelectedIndex(selected);
+		}
+	}
+	
+	/**
+	 * Changes the name shown for an island in the combo box.
+	 * @param index index of the island
+	 * @param name name to show
+	 */
+	private void setIslandName(int index, String name) {
+		islandModel.removeElementAt(index);
+		islandModel.insertElementAt(name, index);
 	}
 
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 530, 295);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel() {
+		setFrameSize(530, 295);
 		
 		JLabel lblNewLabel = new JLabel("Island Info");
 		lblNewLabel.setFont(new Font("Tahoma", Font.PLAIN, 17));
@@ -94,17 +125,11 @@ public class IslandInfoScreen extends Screen {
 		
 		comboBoxIslands = new JComboBox<String>();
 		String[] islandNames = new String[islands.size()];
-		int i = 0;
-		for (Island island : islands) {
-			if (island.getName() == getGame().getIsland().getName()) {
-				islandNames[i] = island.getName() + " (Current Island)";
-			}
-			else {
-				islandNames[i] = island.getName();
-			}			
-			i++;
+		for (int i = 0; i < islands.size(); i++) {
+			islandNames[i] = islands.get(i).getName();
 		}
-		comboBoxIslands.setModel(new DefaultComboBoxModel<String>(islandNames));
+		islandModel = new DefaultComboBoxModel<String>(islandNames);
+		comboBoxIslands.setModel(islandModel);
 		
 		JButton btnConfirm = new JButton("Confirm");
 		btnConfirm.setFont(new Font("Tahoma", Font.PLAIN, 15));
@@ -112,7 +137,7 @@ public class IslandInfoScreen extends Screen {
 		btnConfirm.addActionListener(e -> confirm());
 		btnConfirm.setBackground(Color.LIGHT_GRAY);
 		
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addComponent(lblNewLabel, GroupLayout.DEFAULT_SIZE, 481, Short.MAX_VALUE)
@@ -145,6 +170,6 @@ public class IslandInfoScreen extends Screen {
 						.addComponent(btnConfirm, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap())
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 }
@@ -0,0 +1,106 @@
+package ui.gui;
+
+import java.util.ArrayList;
+
+import javax.swing.table.AbstractTableModel;
+
+import core.Item;
+
+/**
+ * Table model that reads each cell straight from a list of items, such as a store's buys or sells, showing each
+ * item's name, price, size, and description. Nothing is copied out of the list, so a big store costs no more
+ * than the rows on screen, and sorting or filtering the table only rearranges row numbers. The list is only read
+ * on the Event Dispatch Thread while no command runs, since tables showing it are frozen while one does.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+class ItemTableModel extends AbstractTableModel {
+	
+	private static final long serialVersionUID = 4620187125530861447L;
+	
+	/**
+	 * Names of the table's columns.
+	 */
+	private static final String[] COLUMN_NAMES = {"Name", "Price", "Size", "Description"};
+	
+	/**
+	 * Type of the values in each column, so numbers are sorted as numbers.
+	 */
+	private static final Class<?>[] COLUMN_CLASSES = {String.class, Integer.class, Integer.class, String.class};
+	
+	/**
+	 * Items shown in the table.
+	 */
+	private ArrayList<Item> items = new ArrayList<Item>();
+	
+	/**
+	 * Price of each item when the table was last told about it, so only rows whose prices changed are redrawn.
+	 */
+	private int[] shownPrices = new int[0];
+	
+	/**
+	 * Shows the given items in the table instead of the ones it showed before.
+	 * @param items items to show, which the table reads from rather than copies
+	 */
+	void setItems(ArrayList<Item> items) {
+		this.items = items;
+		shownPrices = new int[items.size()];
+		for (int i = 0; i < shownPrices.length; i++) {
+			shownPrices[i] = items.get(i).getPrice();
+		}
+		fireTableDataChanged();
+	}
+	
+	/**
+	 * Returns the item shown in a row of the model.
+	 * @param row model index of the row
+	 * @return item in the row
+	 */
+	Item getItem(int row) {
+		return items.get(row);
+	}
+	
+	/**
+	 * Tells the table about the rows whose prices have changed since it was last told.
+	 */
+	void pricesChanged() {
+		for (int i = 0; i < shownPrices.length; i++) {
+			int price = items.get(i).getPrice();
+			if (price != shownPrices[i]) {
+				shownPrices[i] = price;
+				fireTableRowsUpdated(i, i);
+			}
+		}
+	}
+	
+	@Override
+	public int getRowCount() {
+		return items.size();
+	}
+	
+	@Override
+	public int getColumnCount() {
+		return COLUMN_NAMES.length;
+	}
+	
+	@Override
+	public String getColumnName(int column) {
+		return COLUMN_NAMES[column];
+	}
+	
+	@Override
+	public Class<?> getColumnClass(int column) {
+		return COLUMN_CLASSES[column];
+	}
+	
+	@Override
+	public Object getValueAt(int row, int column) {
+		Item item = items.get(row);
+		switch (column) {
+			case 0: return item.getName();
+			case 1: return item.getPrice();
+			case 2: return item.getSize();
+			default: return item.getDesc();
+		}
+	}
+}
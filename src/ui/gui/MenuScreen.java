@@ -1,6 +1,6 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 import javax.swing.JButton;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Alignment;
@@ -21,37 +21,64 @@ import javax.swing.JProgressBar;
 public class MenuScreen extends Screen{
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
+	
+	/**
+	 * Label displaying the number of days left.
+	 */
+	private JLabel daysLbl;
+	
+	/**
+	 * Label displaying the player's gold.
+	 */
+	private JLabel goldLbl;
+	
+	/**
+	 * Label displaying the current island.
+	 */
+	private JLabel islandLbl;
+	
+	/**
+	 * Progress bar of the days left.
+	 */
+	private JProgressBar progressBar;
 
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
 	 */
 	protected MenuScreen(GameEnvironment game) {	
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		panel = new JPanel();
+		initialisePanel();
 	}
 	
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
+	}
+	
+	@Override
+	void refresh() {
+		daysLbl.setText(getGame().getDaysLeft() + " Days Remaining");
+		goldLbl.setText("Gold: " + getGame().getGold());
+		islandLbl.setText("Current Island: " + getGame().getIsland().getName());
+		progressBar.setMaximum(getGame().getTotalDays());
+		progressBar.setValue(getGame().getDaysLeft());
 	}
 
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	void initialiseFrame() {
-		frame.setBounds(100, 100, 700, 240);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	void initialisePanel() {
+		setFrameSize(700, 240);
 		
-		JLabel daysLbl = new JLabel(getGame().getDaysLeft() + " Days Remaining");
+		daysLbl = new JLabel();
 		daysLbl.setFont(new Font("Tahoma", Font.BOLD, 15));
 		
-		JLabel goldLbl = new JLabel("Gold: " + getGame().getGold());
+		goldLbl = new JLabel();
 		goldLbl.setFont(new Font("Tahoma", Font.BOLD, 15));
 		
 		JButton shipInfoBtn = new JButton("View Ship Info");
@@ -90,15 +117,13 @@ public class MenuScreen extends Screen{
 		travelBtn.setFocusable(false);
 		travelBtn.setBackground(Color.LIGHT_GRAY);
 		
-		JProgressBar progressBar = new JProgressBar();
+		progressBar = new JProgressBar();
 		progressBar.setPreferredSize(new Dimension(10, 11));
 		progressBar.setMaximumSize(new Dimension(10, 11));
-		progressBar.setMaximum(getGame().getTotalDays());
-		progressBar.setValue(getGame().getDaysLeft());
 		
-		JLabel islandLbl = new JLabel("Current Island: " + getGame().getIsland().getName());
+		islandLbl = new JLabel();
 		islandLbl.setFont(new Font("Tahoma", Font.BOLD, 15));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -153,6 +178,6 @@ public class MenuScreen extends Screen{
 						.addComponent(travelBtn, GroupLayout.PREFERRED_SIZE, 36, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap(313, Short.MAX_VALUE))
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 }
@@ -1,7 +1,8 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
+import core.BattleLog;
 import core.GameEnvironment;
 import core.Route;
 import core.Ship;
@@ -16,72 +17,114 @@ import javax.swing.JTextPane;
 import javax.swing.LayoutStyle.ComponentPlacement;
 
 import javax.swing.UIManager;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 import javax.swing.JScrollPane;
 import javax.swing.JButton;
 import java.awt.Color;
 
 public class PirateBattleScreen extends Screen {
-	private JFrame frame;
+	private JPanel panel;
 	private GameEnvironment game;
 	private Ship pirateShip;
-	private String battleText;
+	private BattleLog battleLog;
 	private JTextPane battleTextPane;
 	private Route route;
 	private int initialHealth;
 	private GUI ui;
 	private JLabel lblsShipHealth;
 	private JLabel lblPirateShipHealth;
+	private GameExecutor executor;
 	
 	/**
 	 * Create the application
+	 * @param ui GUI the battle's outcome is shown by
 	 * @param game, instance of game environment
+	 * @param executor executor the battle's turns are run on
 	 */
-	public PirateBattleScreen(GUI ui, GameEnvironment game, Route route) {
+	PirateBattleScreen(GUI ui, GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
+		panel = new JPanel();
 		this.game = game;
+		this.ui = ui;
+		this.executor = executor;
+		this.battleLog = new BattleLog();
+		initialisePanel();
+	}
+	
+	/**
+	 * Starts a new battle against the given pirate ship, clearing the previous battle's text.
+	 * @param route route being traveled along
+	 * @param pirateShip newly generated pirate ship
+	 */
+	void startBattle(Route route, Ship pirateShip) {
 		this.initialHealth = game.getShip().getHealth();
 		this.route = route;
-		this.ui = ui;		
-		this.pirateShip = game.generatePirateShip();
-		this.battleText = "";
-		initialiseFrame();
-		configureFrame();
+		this.pirateShip = pirateShip;
+		battleLog.clear();
+		battleTextPane.setText("");
+		updateHealth();
 	}
 	
-	private void progressGame() {
-		battleText += game.playerTurn(pirateShip);
-		if (pirateShip.getHealth() <= 0) {
-			ui.pirateResolutionScreen(route, (initialHealth - game.getShip().getHealth()));
-		}
-		battleText += game.pirateTurn(pirateShip);
-		if (game.getShip().getHealth() <= 0) {
-			ui.pirateResolutionScreen(route, (initialHealth - game.getShip().getHealth()));
-		}
-		battleTextPane.setText(battleText);
+	/**
+	 * Updates the health labels of both ships.
+	 */
+	private void updateHealth() {
 		lblsShipHealth.setText(game.getName() + "'s Ship Health: " + game.getShip().getHealth() + "/" + game.getShip().getMaxHealth());
 		lblPirateShipHealth.setText("Pirate Ship Health: " + pirateShip.getHealth() + "/" + pirateShip.getMaxHealth());
 	}
+	
+	/**
+	 * Plays a round of the battle on the game's thread, then adds the round to the battle's text, or shows the
+	 * battle's outcome if either ship was sunk.
+	 */
+	private void progressGame() {
+		int firstEvent = battleLog.size();
+		executor.submit(() -> {
+			// Damage done once either ship is sunk, or null if the battle carries on
+			Integer damage = null;
+			game.playerTurn(pirateShip, battleLog);
+			if (pirateShip.getHealth() <= 0) {
+				damage = initialHealth - game.getShip().getHealth();
+			}
+			game.pirateTurn(pirateShip, battleLog);
+			if (game.getShip().getHealth() <= 0) {
+				damage = initialHealth - game.getShip().getHealth();
+			}
+			return damage;
+		}, damage -> {
+			if (damage != null) {
+				ui.pirateResolutionScreen(route, damage);
+			}
+			// Only the new turns are rendered and added to the end of the text
+			Document document = battleTextPane.getDocument();
+			try {
+				document.insertString(document.getLength(), battleLog.render(new StringBuilder(), firstEvent).toString(), null);
+			} catch (BadLocationException e) {
+				throw new IllegalStateException(e);
+			}
+			updateHealth();
+		});
+	}
 
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the panel.
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 520, 400);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel() {
+		setFrameSize(520, 400);
 		
 		JLabel lblNewLabel = new JLabel("Pirate Encounter");
 		lblNewLabel.setFont(new Font("Dialog", Font.PLAIN, 17));
 		lblNewLabel.setHorizontalAlignment(SwingConstants.CENTER);
 		
-		lblsShipHealth = new JLabel(game.getName() + "'s Ship Health: " + game.getShip().getHealth() + "/" + game.getShip().getMaxHealth());
+		lblsShipHealth = new JLabel();
 		
-		lblPirateShipHealth = new JLabel("Pirate Ship Health: " + pirateShip.getHealth() + "/" + pirateShip.getMaxHealth());
+		lblPirateShipHealth = new JLabel();
 		lblPirateShipHealth.setHorizontalAlignment(SwingConstants.RIGHT);
 		
 		JScrollPane scrollPane = new JScrollPane();
@@ -90,7 +133,7 @@ public class PirateBattleScreen extends Screen {
 		btnFire.setFont(new Font("Dialog", Font.PLAIN, 15));
 		btnFire.setFocusable(false);
 		btnFire.setBackground(Color.LIGHT_GRAY);
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -126,9 +169,8 @@ public class PirateBattleScreen extends Screen {
 		battleTextPane = new JTextPane();
 		scrollPane.setViewportView(battleTextPane);
 		battleTextPane.setBackground(UIManager.getColor("Button.background"));
-		battleTextPane.setText(battleText);
 		battleTextPane.setEditable(false);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 		
 	}
 }
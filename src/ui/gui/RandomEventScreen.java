@@ -1,6 +1,5 @@
 package ui.gui;
 
-import javax.swing.JFrame;
 
 import core.GameEnvironment;
 import core.Route;
@@ -29,9 +28,9 @@ import javax.swing.JPanel;
 public class RandomEventScreen extends Screen {
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Current route being traveled along.
@@ -49,26 +48,58 @@ public class RandomEventScreen extends Screen {
 	private RandomEvent event;
 	
 	/**
-	 * Whether or not the pirates are satisfied with the player's goods.
+	 * Whether the player lost to pirates who weren't satisfied with their goods.
 	 */
 	private boolean piratesUnsatisfied;
+	
+	/**
+	 * Executor the rest of the voyage is run on.
+	 */
+	private final GameExecutor executor;
+	
+	/**
+	 * Label displaying the random event's title.
+	 */
+	private JLabel titleLbl;
+	
+	/**
+	 * Text pane displaying the random event's outcome.
+	 */
+	private JTextPane outcomeTextPane;
 
 	/**
-	 * Stores the game instance, current route being traveled along, the result value of the event, and the type of event occurring,
-	 * then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor the rest of the voyage is run on
+	 */
+	RandomEventScreen(GameEnvironment game, GameExecutor executor) {
+		super(game);
+		this.executor = executor;
+		panel = new JPanel();
+		initialisePanel();
+	}
+	
+	/**
+	 * Sets the random event shown next time the screen is shown.
 	 * @param route route being traveled along
 	 * @param resultValue result value of the event
 	 * @param event random event occurring
+	 * @param piratesUnsatisfied true if the player lost to pirates who weren't satisfied with their goods
 	 */
-	public RandomEventScreen(GameEnvironment game, Route route, int resultValue, RandomEvent event) {
-		super(game);
+	void setEvent(Route route, int resultValue, RandomEvent event, boolean piratesUnsatisfied) {
 		this.route = route;
 		this.resultValue = resultValue;
 		this.event = event;
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		this.piratesUnsatisfied = piratesUnsatisfied;
+	}
+	
+	/**
+	 * Shows the random event's title and outcome. The outcome has already been applied to the game.
+	 */
+	@Override
+	void refresh() {
+		setTitleText(titleLbl);
+		setMessageText(outcomeTextPane);
 	}
 	
 	/**
@@ -95,16 +126,10 @@ public class RandomEventScreen extends Screen {
 			case PIRATES:
 				if (getGame().getShip().getHealth() > 0) {
 					messageTextPane.setText("You defeated them! Your ship has taken " + resultValue + " damage.");
+				} else if (piratesUnsatisfied) {
+					messageTextPane.setText(GameUI.PIRATE_UNSATISFIED);
 				} else {
-					if (!getGame().pirateLossOutcome()) {
-						piratesUnsatisfied = true;
-						getGame().loseGold();
-						messageTextPane.setText(GameUI.PIRATE_UNSATISFIED);
-						
-					}
-					else {
-						messageTextPane.setText(GameUI.PIRATE_SATISFIED);
-					}
+					messageTextPane.setText(GameUI.PIRATE_SATISFIED);
 				}
 				break;
 			case WEATHER: 
@@ -121,49 +146,66 @@ public class RandomEventScreen extends Screen {
 	}
 	
 	/**
-	 * Continues the game by ending the game if the player lost to pirates, 
-	 * allowing any subsequent random events to occur, or opening the menu screen.
+	 * Continues the voyage on the game's thread, then shows the next random event, or the menu if there are none.
+	 * Nothing more is shown if the game ended, since the end screen is already showing.
 	 */
 	private void continueGame() {
+		executor.submit(this::continueVoyage, nextEvent -> {
+			if (getGame().isGameOver()) {
+				return;
+			}
+			if (nextEvent == RandomEvent.WEATHER) {
+				getGame().getUI().weatherEncounter(route);
+			} else if (nextEvent == RandomEvent.SAILORS) {
+				getGame().getUI().sailorEncounter(route);
+			} else {
+				getGame().getUI().menu();
+			}
+		});
+	}
+	
+	/**
+	 * Ends the game if the player lost to pirates or their ship was destroyed in the storm, otherwise rolls for the
+	 * voyage's next random event. Rolls are still made after the storm destroys the ship, so the same random
+	 * numbers are drawn either way. Only run on the game's thread.
+	 * @return next random event, or null if there are none
+	 */
+	private RandomEvent continueVoyage() {
+		GameEnvironment game = getGame();
 		switch (event) {
 			case PIRATES:
 				if (piratesUnsatisfied) {
-					getGame().endGame("Killed by Pirates");
-					break;
+					game.endGame("Killed by Pirates");
+					return null;
 				} else if (route.encounterWeatherEvent()) {
-					getGame().getUI().weatherEncounter(route);
-					break;
+					return RandomEvent.WEATHER;
 				}
-			case WEATHER: 
-				if (getGame().getShip().getHealth() <= 0) {
-					getGame().loseGold();
-					getGame().getShip().emptyCargo();
-					getGame().endGame("Ship destroyed in storm");
+			case WEATHER:
+				if (game.getShip().getHealth() <= 0) {
+					game.loseGold();
+					game.loseCargo();
+					game.endGame("Ship destroyed in storm");
 				}
 				if (route.encounterLostSailors()) {
-					getGame().getUI().sailorEncounter(route);
-					break;
+					return RandomEvent.SAILORS;
 				}
-			case SAILORS: 
-				getGame().getUI().menu();
-				break;
+			default:
+				return null;
 		}
 	}
 
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
 	}
 		
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 525, 300);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel() {
+		setFrameSize(525, 300);
 		
-		JLabel titleLbl = new JLabel();
-		setTitleText(titleLbl);
+		titleLbl = new JLabel();
 		titleLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		titleLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
@@ -173,14 +215,14 @@ public class RandomEventScreen extends Screen {
 		continueBtn.setFocusable(false);
 		continueBtn.setBackground(Color.LIGHT_GRAY);
 		
-		JPanel panel = new JPanel();
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		JPanel outcomePanel = new JPanel();
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(Alignment.TRAILING, groupLayout.createSequentialGroup()
 					.addContainerGap()
 					.addGroup(groupLayout.createParallelGroup(Alignment.TRAILING)
-						.addComponent(panel, Alignment.LEADING, GroupLayout.DEFAULT_SIZE, 426, Short.MAX_VALUE)
+						.addComponent(outcomePanel, Alignment.LEADING, GroupLayout.DEFAULT_SIZE, 426, Short.MAX_VALUE)
 						.addComponent(titleLbl, Alignment.LEADING, GroupLayout.DEFAULT_SIZE, 426, Short.MAX_VALUE)
 						.addComponent(continueBtn, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap())
@@ -191,20 +233,19 @@ public class RandomEventScreen extends Screen {
 					.addContainerGap()
 					.addComponent(titleLbl)
 					.addGap(18)
-					.addComponent(panel, GroupLayout.PREFERRED_SIZE, 162, GroupLayout.PREFERRED_SIZE)
+					.addComponent(outcomePanel, GroupLayout.PREFERRED_SIZE, 162, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED, 45, Short.MAX_VALUE)
 					.addComponent(continueBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 					.addContainerGap())
 		);
 		
-		JTextPane outcomeTextPane = new JTextPane();
+		outcomeTextPane = new JTextPane();
 		outcomeTextPane.setDisabledTextColor(Color.BLACK);
 		outcomeTextPane.setEnabled(false);
 		outcomeTextPane.setEditable(false);
-		panel.add(outcomeTextPane, BorderLayout.CENTER);
+		outcomePanel.add(outcomeTextPane, BorderLayout.CENTER);
 		outcomeTextPane.setFont(new Font("Tahoma", Font.PLAIN, 13));
-		setMessageText(outcomeTextPane);
 		outcomeTextPane.setBackground(UIManager.getColor("menu"));
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 }
@@ -1,6 +1,6 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
 import core.Ship;
@@ -22,9 +22,9 @@ import javax.swing.SwingConstants;
 public class RepairScreen extends Screen {
 
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Label that displays the player's current gold.
@@ -45,48 +45,63 @@ public class RepairScreen extends Screen {
 	 * Label that displays the result of clicking the repair button.
 	 */
 	private JLabel resultLbl;
+	
+	/**
+	 * Executor repairs are run on.
+	 */
+	private final GameExecutor executor;
 
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor repairs are run on
 	 */
-	public RepairScreen(GameEnvironment game) {
+	RepairScreen(GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		this.executor = executor;
+		panel = new JPanel();
+		initialisePanel();
 	}
 	
 	/**
-	 * Repairs the ship if its below its maximum health and the player has enough gold.
+	 * Repairs the ship on the game's thread if its below its maximum health and the player has enough gold.
 	 */
 	private void repair() {
 		Ship ship = getGame().getShip();
 		if (ship.getHealth() == ship.getMaxHealth()) {
 			// Don't repair ship if it's at max health
 			resultLbl.setText(GameUI.REPAIR_MAX);
-		} else if (getGame().repairShip()) {
-			// Update labels if repair is successful
-			goldLbl.setText("Gold: " + getGame().getGold());
-			costLbl.setText("Repair Cost: " + getGame().getShip().getRepairCost());
-			healthLbl.setText("Ship Health: " + getGame().getShip().getHealth());
-			resultLbl.setText(GameUI.REPAIR_SUCCESS);
 		} else {
-			resultLbl.setText(GameUI.REPAIR_FAIL);
+			executor.submit(getGame()::repairShip, repaired -> {
+				if (repaired) {
+					// Update labels if repair is successful
+					refresh();
+					resultLbl.setText(GameUI.REPAIR_SUCCESS);
+				} else {
+					resultLbl.setText(GameUI.REPAIR_FAIL);
+				}
+			});
 		}
 	}
 	
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
+	}
+	
+	@Override
+	void refresh() {
+		goldLbl.setText("Gold: " + getGame().getGold());
+		costLbl.setText("Repair Cost: " + getGame().getShip().getRepairCost());
+		healthLbl.setText("Ship Health: " + getGame().getShip().getHealth());
+		resultLbl.setText("");
 	}
 
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 500, 300);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel() {
+		setFrameSize(500, 300);
 		
 		JButton backBtn = new JButton("Back");
 		backBtn.addActionListener(e -> getGame().getUI().menu());
@@ -98,7 +113,7 @@ public class RepairScreen extends Screen {
 		titleLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		titleLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
-		costLbl = new JLabel("Repair Cost: " + getGame().getShip().getRepairCost());
+		costLbl = new JLabel();
 		costLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		
 		JButton btnRepair = new JButton("Repair");
@@ -111,12 +126,12 @@ public class RepairScreen extends Screen {
 		resultLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		resultLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		
-		healthLbl = new JLabel("Ship Health: " + getGame().getShip().getHealth());
+		healthLbl = new JLabel();
 		healthLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		
-		goldLbl = new JLabel("Gold: " + getGame().getGold());
+		goldLbl = new JLabel();
 		goldLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -152,7 +167,7 @@ public class RepairScreen extends Screen {
 						.addComponent(backBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE))
 					.addContainerGap())
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 
 }
@@ -1,30 +1,31 @@
 package ui.gui;
 
-import java.awt.event.WindowAdapter;
-import java.awt.event.WindowEvent;
+import java.awt.Dimension;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
 
 /**
  * Abstract class for GUI screens that contains methods and attributes used across all of them
  * and an abstract class that must be implemented in each one.
+ * Each screen's panel is built once and shown as a card in the GUI's window, and the screen is refreshed
+ * from the game's state every time it's shown, rather than being rebuilt.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
 public abstract class Screen {
 	
-	/**
-	 * Title for the screen's title bar
-	 */
-	private final String title = "Island Trader";
-	
 	/**
 	 * Instance of the game.
 	 */
     private final GameEnvironment game;
     
+    /**
+     * Size of the window while the screen is shown.
+     */
+    private Dimension frameSize;
+    
     /**
      * Stores the game instance.
      * @param game game instance
@@ -34,27 +35,20 @@ public abstract class Screen {
     }
     
     /**
-     * Configures the frame with attributes common to every screen.
+     * Sets the size of the window while the screen is shown.
+     * @param width window's width
+     * @param height window's height
      */
-    protected void configureFrame() {
-        JFrame frame = getFrame();
-        frame.setTitle(title);
-        // Centre the frame
-        frame.setLocationRelativeTo(null);
-        frame.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                game.endGame("Game Closed");
-            }
-        });
+    protected void setFrameSize(int width, int height) {
+        frameSize = new Dimension(width, height);
     }
     
     /**
-     * Sets the frame to be visible.
+     * Returns the size of the window while the screen is shown.
+     * @return window's size
      */
-    protected void show() {
-    	JFrame frame = getFrame();
-        frame.setVisible(true);
+    Dimension getFrameSize() {
+        return frameSize;
     }
     
     /**
@@ -66,16 +60,15 @@ public abstract class Screen {
     }
     
     /**
-     * Closes the screen.
+     * Brings the screen's components up to date with the game's state, just before the screen is shown.
+     * Screens that only show things that never change don't need to override it.
      */
-    void quit() {
-    	JFrame frame = getFrame();
-        frame.dispose();
+    void refresh() {
     }
     
     /**
-     * Returns the screen's frame.
-     * @return screen's frame
+     * Returns the screen's panel.
+     * @return screen's panel
      */
-    abstract JFrame getFrame();
+    abstract JPanel getPanel();
 }
@@ -1,8 +1,9 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
+import core.GameListener;
 import core.Item;
 import core.Ship;
 import core.Weapon;
@@ -21,18 +22,22 @@ import javax.swing.UIManager;
 import javax.swing.JTable;
 import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
+import javax.swing.JComponent;
+import javax.swing.table.AbstractTableModel;
 
 /**
  * Displays the properties of the player's ship, what's in the cargo, and which cargo items are weapons.
+ * The screen listens to the game, so when the cargo changes only the rows of the items that changed are redrawn.
+ * The tables read straight from the ship's cargo hold, and can be sorted.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
-public class ShipInfoScreen extends Screen {
+public class ShipInfoScreen extends Screen implements GameListener {
 
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Table to show the contents of the ship's cargo.
@@ -43,63 +48,102 @@ public class ShipInfoScreen extends Screen {
 	 * Table to show the player's weapons.
 	 */
 	private JTable weaponTable;
+	
+	/**
+	 * Label displaying the ship's health.
+	 */
+	private JLabel lblHealth;
+	
+	/**
+	 * Label displaying the ship's cargo space left.
+	 */
+	private JLabel lblCargoSpace;
+	
+	/**
+	 * Progress bar of the ship's health.
+	 */
+	private JProgressBar progressBar;
+	
+	/**
+	 * Model of the weapon table.
+	 */
+	private WeaponTableModel weaponModel;
 
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor that tells the screen about the game's changes
 	 */
-	public ShipInfoScreen(GameEnvironment game) {
+	ShipInfoScreen(GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		panel = new JPanel();
+		initialisePanel(executor);
+		healthChanged(game.getShip().getHealth());
+		updateCargoSpace();
+		executor.addListener(this);
 	}
 	
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
+	}
+	
+	@Override
+	public void healthChanged(int health) {
+		Ship ship = getGame().getShip();
+		lblHealth.setText("Current Health: " + health + "/" + ship.getMaxHealth());
+		if (health < ship.getMaxHealth()/4) {
+			progressBar.setForeground(new Color(128, 0, 0)); // Red
+		}
+		else if (health < ship.getMaxHealth()/2) {
+			progressBar.setForeground(new Color(255, 140, 0)); // Orange
+		}
+		else {
+			progressBar.setForeground(new Color(0, 210, 0)); // Green
+		}
+		progressBar.setMaximum(ship.getMaxHealth());
+		progressBar.setValue(health);
 	}
 	
 	/**
-	 * Returns 2D array from items where each row has a name, price, size, and description.
-	 * @param items an ArrayList of items
-	 * @return 2D array of item info
+	 * Updates the cargo space left, and the weapon table if the number of weapons changed.
+	 * The cargo table's model listens for its own rows.
 	 */
-	private Object[][] makeItemArray(ArrayList<Item> items) {
-		Object itemArray[][] = new Object[items.size()][];
-		int i = 0;
-		for (Item item : items) {
-			Object itemRow[] = {item.getName(), item.getPrice(), item.getSize(), item.getDesc()};
-			itemArray[i] = itemRow;
-			i++;
-		}
-		return itemArray;
+	@Override
+	public void cargoAdded(String name, int index, int quantity) {
+		updateCargoSpace();
+		weaponModel.update();
 	}
 	
 	/**
-	 * Returns 2D array from weapons where each row has a name, price, size, and description.
-	 * @param items an ArrayList of items
-	 * @return 2D array of item info
+	 * Updates the cargo space left, and the weapon table if the number of weapons changed.
 	 */
-	private Object[][] makeWeaponArray(ArrayList<Item> weapons) {
-		Object itemArray[][] = new Object[weapons.size()][];
-		int i = 0;
-		for (Item item : weapons) {
-			Weapon weapon = (Weapon) item;
-			Object itemRow[] = {weapon.getName(), weapon.getPrice(), weapon.getSize(), weapon.shots(), weapon.damage(), weapon.getDesc()};
-			itemArray[i] = itemRow;
-			i++;
-		}
-		return itemArray;
+	@Override
+	public void cargoRemoved(String name, int index, int quantity) {
+		updateCargoSpace();
+		weaponModel.update();
+	}
+	
+	@Override
+	public void cargoCleared() {
+		updateCargoSpace();
+		weaponModel.update();
 	}
 	
-
 	/**
-	 * Initialise the contents of the frame.
+	 * Updates the label showing the ship's cargo space left.
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 700, 500);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void updateCargoSpace() {
+		Ship ship = getGame().getShip();
+		lblCargoSpace.setText("Cargo Space: " + ship.getSpaceLeft() + "/" + ship.getMaxSpace());
+	}
+	
+	/**
+	 * Initialise the contents of the panel.
+	 * @param executor executor that tells the cargo table about the game's changes
+	 */
+	private void initialisePanel(GameExecutor executor) {
+		setFrameSize(700, 500);
 		JLabel titleLbl = new JLabel(getGame().getName() + "'s Ship");
 		titleLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		titleLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
@@ -114,10 +158,10 @@ public class ShipInfoScreen extends Screen {
 		JLabel lblNewLabel = new JLabel("Ship Type: " + ship.getName());
 		lblNewLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
 		
-		JLabel lblHealth = new JLabel("Current Health: " + ship.getHealth() + "/" + ship.getMaxHealth());
+		lblHealth = new JLabel();
 		lblHealth.setFont(new Font("Tahoma", Font.PLAIN, 13));
 		
-		JLabel lblCargoSpace = new JLabel("Cargo Space: " + ship.getSpaceLeft() + "/" + ship.getMaxSpace());
+		lblCargoSpace = new JLabel();
 		lblCargoSpace.setFont(new Font("Tahoma", Font.PLAIN, 13));
 		
 		JLabel lblSpeed = new JLabel("Speed: " + ship.getSpeed());
@@ -126,31 +170,20 @@ public class ShipInfoScreen extends Screen {
 		JLabel lblEndurance = new JLabel("Endurance: " + ship.getEndurance());
 		lblEndurance.setFont(new Font("Tahoma", Font.PLAIN, 13));
 		
-		JProgressBar progressBar = new JProgressBar();
-		progressBar.setForeground(new Color(0, 128, 0));
+		progressBar = new JProgressBar();
 		progressBar.setBackground(UIManager.getColor("Button.background"));
-		if (ship.getHealth() < ship.getMaxHealth()/4) {
-			progressBar.setForeground(new Color(128, 0, 0)); // Red
-		}
-		else if (ship.getHealth() < ship.getMaxHealth()/2) {
-			progressBar.setForeground(new Color(255, 140, 0)); // Orange
-		}
-		else {
-			progressBar.setForeground(new Color(0, 210, 0)); // Green
-		}
-		
-		progressBar.setMaximum(ship.getMaxHealth());
-		progressBar.setValue(ship.getHealth());
 		
 		JScrollPane scrollPane = new JScrollPane();
+		JComponent cargoView = executor.freezeWhileBusy(scrollPane);
 		
 		JLabel lblCurrentWeapons = new JLabel("Current Weapons");
 		lblCurrentWeapons.setFont(new Font("Tahoma", Font.PLAIN, 13));
 		
 		JScrollPane scrollPane_1 = new JScrollPane();
+		JComponent weaponView = executor.freezeWhileBusy(scrollPane_1);
 		
 		
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -188,11 +221,11 @@ public class ShipInfoScreen extends Screen {
 					.addContainerGap(GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
 				.addGroup(groupLayout.createSequentialGroup()
 					.addContainerGap()
-					.addComponent(scrollPane, GroupLayout.PREFERRED_SIZE, 655, GroupLayout.PREFERRED_SIZE)
+					.addComponent(cargoView, GroupLayout.PREFERRED_SIZE, 655, GroupLayout.PREFERRED_SIZE)
 					.addContainerGap(21, Short.MAX_VALUE))
 				.addGroup(groupLayout.createSequentialGroup()
 					.addContainerGap()
-					.addComponent(scrollPane_1, GroupLayout.PREFERRED_SIZE, 657, GroupLayout.PREFERRED_SIZE)
+					.addComponent(weaponView, GroupLayout.PREFERRED_SIZE, 657, GroupLayout.PREFERRED_SIZE)
 					.addContainerGap(19, Short.MAX_VALUE))
 		);
 		groupLayout.setVerticalGroup(
@@ -213,30 +246,115 @@ public class ShipInfoScreen extends Screen {
 					.addGap(30)
 					.addComponent(lblCargoSpace)
 					.addGap(12)
-					.addComponent(scrollPane, GroupLayout.PREFERRED_SIZE, 126, GroupLayout.PREFERRED_SIZE)
+					.addComponent(cargoView, GroupLayout.PREFERRED_SIZE, 126, GroupLayout.PREFERRED_SIZE)
 					.addGap(18)
 					.addComponent(lblCurrentWeapons, GroupLayout.PREFERRED_SIZE, 16, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(scrollPane_1, GroupLayout.PREFERRED_SIZE, 70, GroupLayout.PREFERRED_SIZE)
+					.addComponent(weaponView, GroupLayout.PREFERRED_SIZE, 70, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED, GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
 					.addComponent(backBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 					.addContainerGap())
 		);
 		
 		
-		String[] weaponColumnText = {"Name", "Price", "Size", "Shots","Damage", "Description"};
-		weaponTable = new JTable(makeWeaponArray(ship.getWeapons()), weaponColumnText);
+		weaponModel = new WeaponTableModel(ship.getWeapons());
+		weaponTable = new JTable(weaponModel);
+		TableFilter.sortable(weaponTable);
 		weaponTable.setEnabled(false);
 		weaponTable.setFillsViewportHeight(true);
 		weaponTable.setShowGrid(false);
 		scrollPane_1.setViewportView(weaponTable);
 		
-		String[] cargoColumnText = {"Name", "Price", "Size", "Description"};
-		cargoTable = new JTable(makeItemArray(ship.getCargo()), cargoColumnText);
+		CargoTableModel cargoModel = new CargoTableModel(ship.getCargoHold());
+		executor.addListener(cargoModel);
+		cargoTable = new JTable(cargoModel);
+		TableFilter.sortable(cargoTable);
 		cargoTable.setEnabled(false);
 		cargoTable.setFillsViewportHeight(true);
 		cargoTable.setShowGrid(false);
 		scrollPane.setViewportView(cargoTable);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
+	}
+	
+	/**
+	 * Table model that reads each cell straight from the ship's list of weapons.
+	 */
+	private static class WeaponTableModel extends AbstractTableModel {
+		
+		private static final long serialVersionUID = 2716360844216853095L;
+		
+		/**
+		 * Names of the table's columns.
+		 */
+		private static final String[] COLUMN_NAMES = {"Name", "Price", "Size", "Shots","Damage", "Description"};
+		
+		/**
+		 * Type of the values in each column, so numbers are sorted as numbers.
+		 */
+		private static final Class<?>[] COLUMN_CLASSES = {String.class, Integer.class, Integer.class, Integer.class,
+				Integer.class, String.class};
+		
+		/**
+		 * Ship's weapons, which are the cargo hold's own list.
+		 */
+		private final ArrayList<Item> weapons;
+		
+		/**
+		 * Number of weapons the table has been told about.
+		 */
+		private int shownRows;
+		
+		/**
+		 * Creates a table model for the given list of weapons.
+		 * @param weapons ship's weapons
+		 */
+		WeaponTableModel(ArrayList<Item> weapons) {
+			this.weapons = weapons;
+			shownRows = weapons.size();
+		}
+		
+		/**
+		 * Tells the table its rows have changed if the number of weapons has. Weapons can only be added or removed,
+		 * so an unchanged number means the weapons are the same.
+		 */
+		void update() {
+			if (weapons.size() != shownRows) {
+				shownRows = weapons.size();
+				fireTableDataChanged();
+			}
+		}
+		
+		@Override
+		public int getRowCount() {
+			return shownRows;
+		}
+		
+		@Override
+		public int getColumnCount() {
+			return COLUMN_NAMES.length;
+		}
+		
+		@Override
+		public String getColumnName(int column) {
+			return COLUMN_NAMES[column];
+		}
+		
+		@Override
+		public Class<?> getColumnClass(int column) {
+			return COLUMN_CLASSES[column];
+		}
+		
+		@Override
+		public Object getValueAt(int row, int column) {
+			Weapon weapon = (Weapon) weapons.get(row);
+			switch (column) {
+				case 0: return weapon.getName();
+				case 1: return weapon.getPrice();
+				case 2: return weapon.getSize();
+				case 3: return weapon.shots();
+				case 4: return weapon.damage();
+				default: return weapon.getDesc();
+			}
+		}
 	}
 }
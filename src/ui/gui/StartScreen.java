@@ -6,7 +6,7 @@ import java.util.ArrayList;
 
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 import javax.swing.JLabel;
 import javax.swing.JScrollPane;
 import javax.swing.JSlider;
@@ -31,9 +31,9 @@ import ui.GameUI;
 public class StartScreen extends Screen {
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-    private JFrame frame;
+    private JPanel panel;
     
     /**
      * Field for the player to enter their name.
@@ -61,25 +61,32 @@ public class StartScreen extends Screen {
 	private JLabel shipErrorLbl;
 	
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Executor the game's setup is run on.
+	 */
+	private final GameExecutor executor;
+	
+	/**
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor the game's setup is run on
 	 */
-	protected StartScreen(GameEnvironment game) {
+	protected StartScreen(GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		this.executor = executor;
+		panel = new JPanel();
+		initialisePanel();
 	}
 	
 	/**
-	 * If the user's input is valid, the GUI passes the input to the game.
+	 * If the user's input is valid, the GUI passes the input to the game on the game's thread,
+	 * which shows the menu once it's set up.
 	 */
 	private void finish() {
 		if (checkInput()) {
 			String name = nameField.getText();
 			int days = daysSlider.getValue();
 			Ship ship = getGame().getShips().get(shipTable.getSelectedRow());
-			getGame().finishSetup(name, days, ship);
+			executor.submit(() -> getGame().finishSetup(name, days, ship), () -> {});
 		}
 	}
 	
@@ -104,12 +111,12 @@ public class StartScreen extends Screen {
 	}
 	
     /**
-     * Returns the screen's frame.
-     * @return screen's frame
+     * Returns the screen's panel.
+     * @return screen's panel
      */
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
 	}
 	
 	/**
@@ -129,11 +136,10 @@ public class StartScreen extends Screen {
 	}
 
 	/**
-	 * Initialise the contents of the frame.
+	 * Initialise the contents of the panel.
 	 */
-	void initialiseFrame() {
-		frame.setBounds(100, 100, 620, 380);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	void initialisePanel() {
+		setFrameSize(620, 380);
 		
 		JLabel welcomeLabel = new JLabel("Welcome to Island Trader!");
 		welcomeLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -186,7 +192,7 @@ public class StartScreen extends Screen {
 		btnConfirm.setFont(new Font("Dialog", Font.PLAIN, 15));
 		btnConfirm.setFocusable(false);
 		btnConfirm.setBackground(Color.LIGHT_GRAY);
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -248,6 +254,6 @@ public class StartScreen extends Screen {
 					.addComponent(btnConfirm, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 					.addContainerGap(62, Short.MAX_VALUE))
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 }
@@ -1,31 +1,38 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 import core.GameEnvironment;
+import core.GameListener;
 import core.Item;
+import core.Store;
 import ui.GameUI;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Alignment;
 import javax.swing.JLabel;
 import java.awt.Font;
-import java.util.ArrayList;
 
 import javax.swing.SwingConstants;
 import javax.swing.JScrollPane;
+import javax.swing.JComponent;
 import javax.swing.LayoutStyle.ComponentPlacement;
 import javax.swing.JTable;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.ListSelectionModel;
 import javax.swing.JButton;
+import javax.swing.JSpinner;
+import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
 import java.awt.Color;
 
 /**
  * Displays the player's gold and a list of items the player can choose to buy and sell.
+ * The screen listens to the game, so the gold and prices it shows stay up to date as they change,
+ * and only the prices that changed are redrawn. The tables read straight from the store, and can be sorted
+ * and filtered by name.
  * @author Dillon Pike, Daniel Pallesen
  * @version 25 May 2021
  */
-public class StoreScreen extends Screen {
+public class StoreScreen extends Screen implements GameListener {
 	
 	/**
 	 * First part of message to the user when they haven't selected
@@ -34,9 +41,9 @@ public class StoreScreen extends Screen {
 	private final String NOT_SELECTED = "You must select an item";
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Panel that holds all GUI elements.
 	 */
-	private JFrame frame;
+	private JPanel panel;
 	
 	/**
 	 * Table that displays all the items the player can buy.
@@ -48,6 +55,26 @@ public class StoreScreen extends Screen {
 	 */
 	private JTable sellTable;
 	
+	/**
+	 * Model of the buy table.
+	 */
+	private ItemTableModel buyModel;
+	
+	/**
+	 * Model of the sell table.
+	 */
+	private ItemTableModel sellModel;
+	
+	/**
+	 * Label displaying the name of the island the store is on.
+	 */
+	private JLabel storeLbl;
+	
+	/**
+	 * Store the tables were last filled from.
+	 */
+	private Store shownStore;
+	
 	/**
 	 * Label displaying the player's current gold.
 	 */
@@ -57,87 +84,110 @@ public class StoreScreen extends Screen {
 	 * Label displaying the result of the player attempting to buy or sell an item.
 	 */
 	private JLabel resultLbl;
+	
+	/**
+	 * Spinner for the number of items to buy or sell at once.
+	 */
+	private JSpinner quantitySpinner;
+	
+	/**
+	 * Executor trades are run on.
+	 */
+	private final GameExecutor executor;
 
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor trades are run on, which tells the screen about the game's changes
 	 */
-	public StoreScreen(GameEnvironment game) {
+	StoreScreen(GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		this.executor = executor;
+		panel = new JPanel();
+		initialisePanel();
+		executor.addListener(this);
 	}
 	
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
 	}
 	
 	/**
-	 * Gets the item selected in the buy table and buys it if the player has enough gold.
+	 * Shows the current island's store. The tables are only refilled when the player is at a different store
+	 * from last time, otherwise just their prices are updated.
+	 */
+	@Override
+	void refresh() {
+		Store store = getGame().getStore();
+		storeLbl.setText(getGame().getIsland().getName() + " Store");
+		goldLbl.setText("Gold: " + getGame().getGold());
+		resultLbl.setText("");
+		if (store != shownStore) {
+			buyModel.setItems(store.getBuys());
+			sellModel.setItems(store.getSells());
+			shownStore = store;
+		} else {
+			buyModel.pricesChanged();
+			sellModel.pricesChanged();
+		}
+	}
+	
+	@Override
+	public void goldChanged(int gold) {
+		goldLbl.setText("Gold: " + gold);
+	}
+	
+	@Override
+	public void pricesChanged(Store store) {
+		if (store == shownStore) {
+			buyModel.pricesChanged();
+			sellModel.pricesChanged();
+		}
+	}
+	
+	/**
+	 * Gets the item selected in the buy table and buys it on the game's thread if the player has enough gold.
 	 * Sets the result label's text depending on the outcome.
 	 */
 	private void buy() {
 		if (buyTable.getSelectedRowCount() == 0) {
 			resultLbl.setText(NOT_SELECTED + " to buy.");
 		} else {
-			Item item = getGame().getStore().getBuys().get(buyTable.getSelectedRow());
-			if (getGame().buyItem(item)) {
-				resultLbl.setText(GameUI.BOUGHT);
-				goldLbl.setText("Gold: " + getGame().getGold());
-			} else {
-				resultLbl.setText(GameUI.BUY_FAIL);
-			}
+			Item item = buyModel.getItem(buyTable.convertRowIndexToModel(buyTable.getSelectedRow()));
+			int quantity = (Integer) quantitySpinner.getValue();
+			executor.submit(() -> getGame().buyItems(item, quantity),
+					bought -> resultLbl.setText(bought ? GameUI.BOUGHT : GameUI.BUY_FAIL));
 		}
 	}
 	
 	/**
-	 * Gets the item selected in the buy table and sells it if its in the ship's cargo.
+	 * Gets the item selected in the sell table and sells it on the game's thread if its in the ship's cargo.
 	 * Sets the result label's text depending on the outcome.
 	 */
 	private void sell() {
 		if (sellTable.getSelectedRowCount() == 0) {
 			resultLbl.setText(NOT_SELECTED + " to sell.");
 		} else {
-			Item item = getGame().getStore().getSells().get(sellTable.getSelectedRow());
-			if (getGame().sellItem(item)) {
-				resultLbl.setText(GameUI.SOLD);
-				goldLbl.setText("Gold: " + getGame().getGold());
-			} else {
-				resultLbl.setText(GameUI.SELL_FAIL);
-			}
+			Item item = sellModel.getItem(sellTable.convertRowIndexToModel(sellTable.getSelectedRow()));
+			int quantity = (Integer) quantitySpinner.getValue();
+			executor.submit(() -> getGame().sellItems(item, quantity),
+					sold -> resultLbl.setText(sold ? GameUI.SOLD : GameUI.SELL_FAIL));
 		}
 	}
 	
 	/**
-	 * Returns 2D array from items where each row has a name, price, size, and description.
-	 * @param items an ArrayList of items
-	 * @return 2D array of item info
+	 * Initialise the contents of the panel.
 	 */
-	private Object[][] makeItemArray(ArrayList<Item> items) {
-		Object itemArray[][] = new Object[items.size()][];
-		int i = 0;
-		for (Item item : items) {
-			Object itemRow[] = {item.getName(), item.getPrice(), item.getSize(), item.getDesc()};
-			itemArray[i] = itemRow;
-			i++;
-		}
-		return itemArray;
-	}
-	
-	/**
-	 * Initialise the contents of the frame.
-	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 760, 585);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private void initialisePanel() {
+		setFrameSize(760, 585);
 		
-		JLabel storeLbl = new JLabel(getGame().getIsland().getName() + " Store");
+		storeLbl = new JLabel();
 		storeLbl.setHorizontalAlignment(SwingConstants.CENTER);
 		storeLbl.setFont(new Font("Tahoma", Font.PLAIN, 17));
 		
 		JScrollPane buyScrollPane = new JScrollPane();
+		JComponent buyView = executor.freezeWhileBusy(buyScrollPane);
 		
 		JLabel buyLbl = new JLabel("Items available for purchase:");
 		buyLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
@@ -146,6 +196,7 @@ public class StoreScreen extends Screen {
 		sellLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		
 		JScrollPane sellScrollPane = new JScrollPane();
+		JComponent sellView = executor.freezeWhileBusy(sellScrollPane);
 		
 		JButton backBtn = new JButton("Back");
 		backBtn.addActionListener(e -> getGame().getUI().menu());
@@ -168,25 +219,46 @@ public class StoreScreen extends Screen {
 		resultLbl = new JLabel("");
 		resultLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		
-		goldLbl = new JLabel("Gold: " + getGame().getGold());
+		goldLbl = new JLabel();
 		goldLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		
+		JLabel quantityLbl = new JLabel("Quantity:");
+		quantityLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		
+		quantitySpinner = new JSpinner(new SpinnerNumberModel(1, 1, getGame().getShip().getMaxSpace(), 1));
+		quantitySpinner.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		
+		JLabel filterLbl = new JLabel("Search:");
+		filterLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		
+		JTextField filterField = new JTextField();
+		filterField.setFont(new Font("Tahoma", Font.PLAIN, 15));
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
 					.addContainerGap()
 					.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
 						.addComponent(storeLbl, GroupLayout.DEFAULT_SIZE, 691, Short.MAX_VALUE)
-						.addComponent(goldLbl)
+						.addGroup(groupLayout.createSequentialGroup()
+							.addComponent(goldLbl)
+							.addPreferredGap(ComponentPlacement.RELATED, 26, Short.MAX_VALUE)
+							.addComponent(filterLbl)
+							.addPreferredGap(ComponentPlacement.RELATED)
+							.addComponent(filterField, GroupLayout.PREFERRED_SIZE, 180, GroupLayout.PREFERRED_SIZE))
 						.addComponent(buyLbl)
-						.addComponent(buyScrollPane, GroupLayout.DEFAULT_SIZE, 691, Short.MAX_VALUE)
+						.addComponent(buyView, GroupLayout.DEFAULT_SIZE, 691, Short.MAX_VALUE)
 						.addComponent(sellLbl)
-						.addComponent(sellScrollPane, GroupLayout.DEFAULT_SIZE, 691, Short.MAX_VALUE)
+						.addComponent(sellView, GroupLayout.DEFAULT_SIZE, 691, Short.MAX_VALUE)
 						.addGroup(groupLayout.createSequentialGroup()
 							.addComponent(backBtn, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE)
 							.addPreferredGap(ComponentPlacement.RELATED, 26, Short.MAX_VALUE)
 							.addComponent(resultLbl)
 							.addPreferredGap(ComponentPlacement.RELATED)
+							.addComponent(quantityLbl)
+							.addPreferredGap(ComponentPlacement.RELATED)
+							.addComponent(quantitySpinner, GroupLayout.PREFERRED_SIZE, 60, GroupLayout.PREFERRED_SIZE)
+							.addGap(10)
 							.addComponent(sellBtn, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE)
 							.addGap(10)
 							.addComponent(buyBtn, GroupLayout.PREFERRED_SIZE, 105, GroupLayout.PREFERRED_SIZE)))
@@ -198,20 +270,25 @@ public class StoreScreen extends Screen {
 					.addContainerGap()
 					.addComponent(storeLbl)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(goldLbl)
+					.addGroup(groupLayout.createParallelGroup(Alignment.BASELINE)
+						.addComponent(goldLbl)
+						.addComponent(filterLbl)
+						.addComponent(filterField, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE))
 					.addPreferredGap(ComponentPlacement.RELATED)
 					.addComponent(buyLbl)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(buyScrollPane, GroupLayout.PREFERRED_SIZE, 183, GroupLayout.PREFERRED_SIZE)
+					.addComponent(buyView, GroupLayout.PREFERRED_SIZE, 183, GroupLayout.PREFERRED_SIZE)
 					.addGap(18)
 					.addComponent(sellLbl)
 					.addPreferredGap(ComponentPlacement.RELATED)
-					.addComponent(sellScrollPane, GroupLayout.PREFERRED_SIZE, 183, GroupLayout.PREFERRED_SIZE)
+					.addComponent(sellView, GroupLayout.PREFERRED_SIZE, 183, GroupLayout.PREFERRED_SIZE)
 					.addGap(11)
 					.addGroup(groupLayout.createParallelGroup(Alignment.BASELINE)
 						.addComponent(backBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 						.addComponent(sellBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 						.addComponent(buyBtn, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
+						.addComponent(quantityLbl)
+						.addComponent(quantitySpinner, GroupLayout.PREFERRED_SIZE, 27, GroupLayout.PREFERRED_SIZE)
 						.addComponent(resultLbl))
 					.addContainerGap(GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
 		);
@@ -220,15 +297,8 @@ public class StoreScreen extends Screen {
 		sellTable.setShowGrid(false);
 		sellTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 		
-		String[] columnText = {"Name", "Price", "Size", "Description"};
-		Object[][] sellArray = makeItemArray(getGame().getStore().getSells());
-		sellTable.setModel(new DefaultTableModel(sellArray, columnText) {
-			private static final long serialVersionUID = -2398083386409854464L;
-
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		});
+		sellModel = new ItemTableModel();
+		sellTable.setModel(sellModel);
 		sellTable.getColumnModel().getColumn(3).setPreferredWidth(200);
 		sellScrollPane.setViewportView(sellTable);
 		
@@ -236,16 +306,11 @@ public class StoreScreen extends Screen {
 		buyTable.setShowGrid(false);
 		buyTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 		
-		Object[][] buyArray = makeItemArray(getGame().getStore().getBuys());
-		buyTable.setModel(new DefaultTableModel(buyArray, columnText) {
-			private static final long serialVersionUID = -2398083386409854464L;
-
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		});
+		buyModel = new ItemTableModel();
+		buyTable.setModel(buyModel);
 		buyTable.getColumnModel().getColumn(3).setPreferredWidth(200);
 		buyScrollPane.setViewportView(buyTable);
-		frame.getContentPane().setLayout(groupLayout);
+		TableFilter.install(filterField, buyTable, sellTable);
+		panel.setLayout(groupLayout);
 	}
 }
@@ -0,0 +1,93 @@
+package ui.gui;
+
+import java.util.regex.Pattern;
+
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.RowFilter;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.TableModel;
+import javax.swing.table.TableRowSorter;
+
+/**
+ * Lets tables be sorted by clicking their column headers, and filtered by name as text is typed into a field.
+ * Sorting and filtering only rearrange the row numbers the tables show, the rows themselves are still read
+ * from the table models.
+ * @author Dillon Pike, Daniel Pallesen
+ * @version 17 October 2026
+ */
+final class TableFilter implements DocumentListener {
+	
+	/**
+	 * Sorters of the filtered tables.
+	 */
+	private final TableRowSorter<?>[] sorters;
+	
+	/**
+	 * Field the filter text is typed into.
+	 */
+	private final JTextField field;
+	
+	/**
+	 * Creates a filter for the tables' sorters.
+	 * @param field field the filter text is typed into
+	 * @param sorters sorters of the filtered tables
+	 */
+	private TableFilter(JTextField field, TableRowSorter<?>[] sorters) {
+		this.field = field;
+		this.sorters = sorters;
+	}
+	
+	/**
+	 * Makes a table sortable by clicking its column headers.
+	 * @param table table to make sortable
+	 * @return table's sorter
+	 */
+	static TableRowSorter<TableModel> sortable(JTable table) {
+		TableRowSorter<TableModel> sorter = new TableRowSorter<TableModel>(table.getModel());
+		table.setRowSorter(sorter);
+		return sorter;
+	}
+	
+	/**
+	 * Makes the given tables sortable, and filters their rows to the ones whose first column contains the text in
+	 * the field, ignoring case.
+	 * @param field field the filter text is typed into
+	 * @param tables tables to filter
+	 */
+	static void install(JTextField field, JTable... tables) {
+		TableRowSorter<?>[] sorters = new TableRowSorter<?>[tables.length];
+		for (int i = 0; i < tables.length; i++) {
+			sorters[i] = sortable(tables[i]);
+		}
+		field.getDocument().addDocumentListener(new TableFilter(field, sorters));
+	}
+	
+	/**
+	 * Filters the tables by the field's current text, or shows every row if it's empty.
+	 */
+	private void update() {
+		String text = field.getText().trim();
+		RowFilter<Object, Object> filter = text.isEmpty() ? null
+				: RowFilter.regexFilter("(?iu)" + Pattern.quote(text), 0);
+		for (TableRowSorter<?> sorter : sorters) {
+			sorter.setRowFilter(filter);
+		}
+	}
+	
+	@Override
+	public void insertUpdate(DocumentEvent e) {
+		update();
+	}
+	
+	@Override
+	public void removeUpdate(DocumentEvent e) {
+		update();
+	}
+	
+	@Override
+	public void changedUpdate(DocumentEvent e) {
+		update();
+	}
+}
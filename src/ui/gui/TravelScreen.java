@@ -1,16 +1,19 @@
 package ui.gui;
 
-import javax.swing.JFrame;
+import javax.swing.JPanel;
 
+import core.BattleEstimate;
+import core.ExactBattleResolver;
+import core.GameCatalog;
 import core.GameEnvironment;
 import core.Route;
 import ui.GameUI;
+import ui.gui.GUI.RandomEvent;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Alignment;
 import javax.swing.JButton;
 import java.awt.Color;
 import java.awt.Font;
-import java.util.ArrayList;
 
 import javax.swing.JLabel;
 import javax.swing.LayoutStyle.ComponentPlacement;
@@ -28,9 +31,20 @@ import javax.swing.ListSelectionModel;
 public class TravelScreen extends Screen {
 	
 	/**
-	 * Frame that holds all GUI elements.
+	 * Shown in place of the player's chances against pirates while they're worked out.
 	 */
-	private JFrame frame;
+	private static final String PIRATE_WORKING = "Working out your chances against pirates...";
+	
+	/**
+	 * Calculates the player's chances against pirates. Shared between screens so its cache is kept,
+	 * and only used on the game's thread.
+	 */
+	private static ExactBattleResolver battleResolver;
+	
+	/**
+	 * Panel that holds all GUI elements.
+	 */
+	private JPanel panel;
 	
 	/**
 	 * Table of all the routes the player can take from the current island.
@@ -42,26 +56,62 @@ public class TravelScreen extends Screen {
 	 * E.g. if there aren't enough days yet to take the chosen route.
 	 */
 	private JLabel errorLbl;
+	
+	/**
+	 * Label displaying the player's chances against pirates.
+	 */
+	private JLabel pirateLbl;
+	
+	/**
+	 * Executor voyages and the player's chances against pirates are run on.
+	 */
+	private final GameExecutor executor;
 
 	/**
-	 * Stores the game instance then creates and sets up the frame.
+	 * Stores the game instance then creates and sets up the panel.
 	 * @param game game instance
+	 * @param executor executor voyages and the player's chances against pirates are run on
 	 */
-	public TravelScreen(GameEnvironment game) {
+	TravelScreen(GameEnvironment game, GameExecutor executor) {
 		super(game);
-		frame = new JFrame();
-		initialiseFrame();
-		configureFrame();
+		this.executor = executor;
+		panel = new JPanel();
+		initialisePanel();
 	}
 
 	@Override
-	JFrame getFrame() {
-		return frame;
+	JPanel getPanel() {
+		return panel;
+	}
+	
+	/**
+	 * Fills the route table with the current island's routes, with the island each travels to,
+	 * days the route takes, and random event chances, starts working out the player's chances against pirates
+	 * on the game's thread, and clears any error message.
+	 */
+	@Override
+	void refresh() {
+		DefaultTableModel model = (DefaultTableModel) routeTable.getModel();
+		model.setRowCount(0);
+		String islandName;
+		for (Route route : getGame().getIsland().getRoutes()) {
+			if (route.getIslands()[0].getName() == getGame().getIsland().getName()) {
+				islandName = route.getIslands()[1].getName();
+			} else {
+				islandName = route.getIslands()[0].getName();
+			}
+			model.addRow(new Object[] {islandName, route.getDays(getGame().getShip().getSpeed()), route.getPirateDanger(),
+					route.getWeatherDanger(), route.getSailorsOdds()});
+		}
+		pirateLbl.setText(PIRATE_WORKING);
+		executor.query(this::makePirateText, pirateLbl::setText);
+		errorLbl.setText("");
 	}
 	
 	/**
 	 * Travels to the island chosen in the island table if its possible. If not, an error message is displayed.
-	 * Has route-specific chance to trigger a random event.
+	 * Has route-specific chance to trigger a random event. The voyage and the random event rolls are run on the
+	 * game's thread, and the next screen is shown once they're done.
 	 */
 	private void travel() {
 		if (routeTable.getSelectedRowCount() == 0) {
@@ -79,27 +129,58 @@ public class TravelScreen extends Screen {
 				// Displays error message if player doesn't have enough gold to afford the route
 				errorLbl.setText(GameUI.TRAVEL_GOLD_ERROR);
 			} else {
-				getGame().travelRoute(route);
-				// Has a chance of calling random event screen
-				if (route.encounterPirates()) {
-					getGame().getUI().pirateEncounter(route);
-				} else if (route.encounterWeatherEvent()) {
-					getGame().getUI().weatherEncounter(route);
-				} else if (route.encounterLostSailors()) {
-					getGame().getUI().sailorEncounter(route);
-				} else {
-					getGame().getUI().menu();
-				}
+				executor.submit(() -> voyage(route), event -> {
+					if (event == RandomEvent.PIRATES) {
+						getGame().getUI().pirateEncounter(route);
+					} else if (event == RandomEvent.WEATHER) {
+						getGame().getUI().weatherEncounter(route);
+					} else if (event == RandomEvent.SAILORS) {
+						getGame().getUI().sailorEncounter(route);
+					} else {
+						getGame().getUI().menu();
+					}
+				});
 			}
 		}
 	}
 	
 	/**
-	 * Initialise the contents of the frame.
+	 * Travels along a route and rolls for a random event on the way.
+	 * @param route route to travel along
+	 * @return random event encountered, or null if there wasn't one
 	 */
-	private void initialiseFrame() {
-		frame.setBounds(100, 100, 620, 350);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+	private RandomEvent voyage(Route route) {
+		getGame().travelRoute(route);
+		// Has a chance of calling random event screen
+		if (route.encounterPirates()) {
+			return RandomEvent.PIRATES;
+		} else if (route.encounterWeatherEvent()) {
+			return RandomEvent.WEATHER;
+		} else if (route.encounterLostSailors()) {
+			return RandomEvent.SAILORS;
+		}
+		return null;
+	}
+	
+	/**
+	 * Calculates the outcome of a pirate battle with the player's ship and returns a summary of the player's chances.
+	 * @return text describing the likely outcome of a pirate battle
+	 */
+	private String makePirateText() {
+		if (battleResolver == null) {
+			battleResolver = ExactBattleResolver.forGeneratedPirates(GameCatalog.getInstance());
+		}
+		BattleEstimate estimate = battleResolver.resolve(getGame().getShip());
+		return String.format("If attacked by pirates: %.0f%% chance of winning, %.0f damage expected, "
+				+ "%d damage or less in 90%% of battles",
+				estimate.getWinProbability() * 100, estimate.getExpectedDamage(), estimate.getDamagePercentile(0.9));
+	}
+	
+	/**
+	 * Initialise the contents of the panel.
+	 */
+	private void initialisePanel() {
+		setFrameSize(620, 350);
 		
 		JButton backBtn = new JButton("Back");
 		backBtn.addActionListener(e -> getGame().getUI().menu());
@@ -124,7 +205,10 @@ public class TravelScreen extends Screen {
 		
 		errorLbl = new JLabel("");
 		errorLbl.setFont(new Font("Tahoma", Font.PLAIN, 15));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		
+		pirateLbl = new JLabel();
+		pirateLbl.setFont(new Font("Tahoma", Font.PLAIN, 13));
+		GroupLayout groupLayout = new GroupLayout(panel);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -137,6 +221,7 @@ public class TravelScreen extends Screen {
 						.addComponent(titleLbl, GroupLayout.DEFAULT_SIZE, 664, Short.MAX_VALUE)
 						.addComponent(routeLbl)
 						.addComponent(routeScrollPane, GroupLayout.DEFAULT_SIZE, 664, Short.MAX_VALUE)
+						.addComponent(pirateLbl)
 						.addComponent(errorLbl))
 					.addContainerGap())
 		);
@@ -150,6 +235,8 @@ public class TravelScreen extends Screen {
 					.addPreferredGap(ComponentPlacement.RELATED)
 					.addComponent(routeScrollPane, GroupLayout.PREFERRED_SIZE, 87, GroupLayout.PREFERRED_SIZE)
 					.addPreferredGap(ComponentPlacement.RELATED)
+					.addComponent(pirateLbl)
+					.addPreferredGap(ComponentPlacement.RELATED)
 					.addComponent(errorLbl)
 					.addPreferredGap(ComponentPlacement.RELATED, 98, Short.MAX_VALUE)
 					.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
@@ -162,22 +249,8 @@ public class TravelScreen extends Screen {
 		routeTable.setShowGrid(false);
 		routeTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 		
-		ArrayList<Route> routes = getGame().getIsland().getRoutes();
-		Object routesTable[][] = new Object[routes.size()][];
-		int i = 0;
-		String islandName;
-		for (Route route : routes) {
-			if (route.getIslands()[0].getName() == getGame().getIsland().getName()) {
-				islandName = route.getIslands()[1].getName();
-			} else {
-				islandName = route.getIslands()[0].getName();
-			}
-			Object routeRow[] = {islandName, route.getDays(getGame().getShip().getSpeed()), route.getPirateDanger(), route.getWeatherDanger(), route.getSailorsOdds()};
-			routesTable[i] = routeRow;
-			i++;
-		}
 		String[] columnText = {"Island", "Days", "Pirate Danger", "Weather Danger", "Lost Sailors Chance"};
-		routeTable.setModel(new DefaultTableModel(routesTable, columnText) {
+		routeTable.setModel(new DefaultTableModel(columnText, 0) {
 			private static final long serialVersionUID = -156423262431076534L;
 
 			public boolean isCellEditable(int row, int column) {
@@ -185,7 +258,7 @@ public class TravelScreen extends Screen {
 			}
 		});
 		routeScrollPane.setViewportView(routeTable);
-		frame.getContentPane().setLayout(groupLayout);
+		panel.setLayout(groupLayout);
 	}
 
 }